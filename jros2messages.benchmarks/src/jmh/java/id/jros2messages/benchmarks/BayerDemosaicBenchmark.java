@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import id.jros2messages.sensor_msgs.BayerDemosaic;
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bayer demosaicing benchmarks on 4K (3840x2160) {@link ImageEncoding#BAYER_RGGB8} image with
+ * random pixels.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BayerDemosaicBenchmark {
+
+    @Param({"1", "0"})
+    public int threads;
+
+    @Param({"BILINEAR", "EDGE_AWARE"})
+    public BayerDemosaic.Algorithm algorithm;
+
+    private ImageMessage image;
+    private ImageMessage rgb = new ImageMessage();
+    private ForkJoinPool pool;
+    private BayerDemosaic demosaic;
+
+    @Setup
+    public void setup() {
+        int width = 3840, height = 2160;
+        var data = new byte[width * height];
+        new Random(1).nextBytes(data);
+        image =
+                new ImageMessage()
+                        .withWidth(width)
+                        .withHeight(height)
+                        .withEncoding(ImageEncoding.BAYER_RGGB8)
+                        .withStep(width)
+                        .withData(data);
+        // 0 - all available processors
+        pool =
+                threads == 0
+                        ? new ForkJoinPool(Runtime.getRuntime().availableProcessors())
+                        : new ForkJoinPool(threads);
+        demosaic = new BayerDemosaic().withAlgorithm(algorithm).withPool(pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ImageMessage demosaic() {
+        return demosaic.demosaic(image, ImageEncoding.RGB8, rgb);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jros2messages.tests.TestMessages;
+import id.jros2messages.visualization_msgs.MarkerArrayMessage;
+import id.jros2messages.visualization_msgs.MarkerMessage;
+import id.jrosmessages.Message;
+import id.jrosmessages.geometry_msgs.PointMessage;
+import id.jrosmessages.geometry_msgs.PoseMessage;
+import id.jrosmessages.geometry_msgs.QuaternionMessage;
+import id.jrosmessages.geometry_msgs.Vector3Message;
+import id.jrosmessages.primitives.Duration;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.sensor_msgs.PointFieldMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.jrosmessages.std_msgs.ColorRGBAMessage;
+import id.jrosmessages.std_msgs.StringMessage;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Messages used in benchmarks.
+ *
+ * <p>Small messages are taken from {@link TestMessages}. Large messages are filled with random data
+ * generated from the fixed seed so that results are reproducible.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class BenchmarkMessages {
+
+    private static final HeaderMessage HEADER =
+            new HeaderMessage().withFrameId("map").withStamp(new Time(1616650098, 493819000));
+
+    public static Message create(String name) {
+        return switch (name) {
+                // ~2MB
+            case "pointcloud2-large" -> pointCloud(174_763);
+                // 1920x1080 rgb8, ~6MB
+            case "image-large" -> image(1920, 1080);
+            case "marker-array-deep" -> new MarkerArrayMessage()
+                    .withMarkers(
+                            IntStream.range(0, 1000)
+                                    .mapToObj(i -> marker(i, 100))
+                                    .toArray(MarkerMessage[]::new));
+            default -> TestMessages.create(name);
+        };
+    }
+
+    private static PoseMessage pose(double x, double y, double z) {
+        return new PoseMessage()
+                .withPosition(new PointMessage().withX(x).withY(y).withZ(z))
+                .withQuaternion(
+                        new QuaternionMessage().withX(0.0).withY(0.0).withZ(0.0).withW(1.0));
+    }
+
+    private static MarkerMessage marker(int id, int pointsCount) {
+        var marker =
+                new MarkerMessage()
+                        .withHeader(new HeaderMessage().withFrameId("/map"))
+                        .withNs(new StringMessage().withData("basic_shapes"))
+                        .withId(id)
+                        .withType(MarkerMessage.Type.CUBE)
+                        .withAction(MarkerMessage.Action.ADD)
+                        .withPose(pose(1.0, 0.0, 2.0))
+                        .withScale(new Vector3Message().withX(0.05).withY(0.05).withZ(0.05))
+                        .withColor(
+                                new ColorRGBAMessage()
+                                        .withR(0.8F)
+                                        .withG(0.1F)
+                                        .withB(0.1F)
+                                        .withA(1.0F))
+                        .withText(new StringMessage().withData("aa"))
+                        .withLifetime(new Duration())
+                        .withFrameLocked(true)
+                        .withMeshUseEmbeddedMaterials(true);
+        var random = new Random(id);
+        marker.points =
+                IntStream.range(0, pointsCount)
+                        .mapToObj(
+                                i ->
+                                        new PointMessage()
+                                                .withX(random.nextDouble())
+                                                .withY(random.nextDouble())
+                                                .withZ(random.nextDouble()))
+                        .toArray(PointMessage[]::new);
+        marker.colors =
+                IntStream.range(0, pointsCount)
+                        .mapToObj(
+                                i ->
+                                        new ColorRGBAMessage()
+                                                .withR(random.nextFloat())
+                                                .withG(random.nextFloat())
+                                                .withB(random.nextFloat())
+                                                .withA(1.0F))
+                        .toArray(ColorRGBAMessage[]::new);
+        return marker;
+    }
+
+    private static PointCloud2Message pointCloud(int width) {
+        var pointStep = 12;
+        var data = new byte[width * pointStep];
+        new Random(0).nextBytes(data);
+        return new PointCloud2Message()
+                .withHeader(HEADER)
+                .withHeight(1)
+                .withWidth(width)
+                .withIsDense(true)
+                .withPointStep(pointStep)
+                .withRowStep(data.length)
+                .withFields(field("x", 0), field("y", Float.BYTES), field("z", 2 * Float.BYTES))
+                .withData(data);
+    }
+
+    private static PointFieldMessage field(String name, int offset) {
+        return new PointFieldMessage()
+                .withName(name)
+                .withOffset(offset)
+                .withCount(1)
+                .withDataType(DataType.FLOAT32);
+    }
+
+    private static ImageMessage image(int width, int height) {
+        var step = width * 3;
+        var data = new byte[step * height];
+        new Random(0).nextBytes(data);
+        return new ImageMessage()
+                .withHeader(HEADER)
+                .withHeight(height)
+                .withWidth(width)
+                .withEncoding(ImageEncoding.RGB8)
+                .withStep(step)
+                .withData(data);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import id.jros2messages.imageio.CompressedImageCodec;
+import id.jros2messages.sensor_msgs.CompressedImageMessage;
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+
+/**
+ * Throughput (frames per second) of {@link CompressedImageCodec} on 1280x720 bgr8 image.
+ *
+ * <p>{@link #decodeImageIORead()} is the baseline which decodes image with {@link ImageIO#read}
+ * (new reader per frame).
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CompressedImageBenchmark {
+
+    @Param({"JPEG", "PNG"})
+    public CompressedImageCodec.Format format;
+
+    private CompressedImageCodec codec = new CompressedImageCodec();
+    private ImageMessage image;
+    private CompressedImageMessage compressed = new CompressedImageMessage();
+    private ImageMessage decoded = new ImageMessage();
+    private CompressedImageMessage encoded = new CompressedImageMessage();
+
+    @Setup
+    public void setup() {
+        int width = 1280, height = 720;
+        var data = new byte[width * height * 3];
+        var random = new Random(1);
+        // smooth gradients with some noise, similar to camera images
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                var i = (y * width + x) * 3;
+                data[i] = (byte) (x / 5 + random.nextInt(8));
+                data[i + 1] = (byte) (y / 3 + random.nextInt(8));
+                data[i + 2] = (byte) ((x + y) / 8 + random.nextInt(8));
+            }
+        }
+        image =
+                new ImageMessage()
+                        .withWidth(width)
+                        .withHeight(height)
+                        .withEncoding(ImageEncoding.BGR8)
+                        .withStep(width * 3)
+                        .withData(data);
+        codec.encode(image, format, compressed);
+    }
+
+    @TearDown
+    public void tearDown() {
+        codec.close();
+    }
+
+    @Benchmark
+    public ImageMessage decode() {
+        return codec.decode(compressed, decoded);
+    }
+
+    @Benchmark
+    public BufferedImage decodeImageIORead() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(compressed.data));
+    }
+
+    @Benchmark
+    public CompressedImageMessage encode() {
+        return codec.encode(image, format, encoded);
+    }
+}
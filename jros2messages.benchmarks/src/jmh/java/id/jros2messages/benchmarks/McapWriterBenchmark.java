@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import id.jros2messages.bag.McapCompression;
+import id.jros2messages.bag.McapWriter;
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import id.jros2messages.std_msgs.HeaderMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link McapWriter} benchmarks which write 100 VGA (640x480) {@link ImageEncoding#RGB8} images
+ * (92MB) into the file. To keep up with 1GB/min recording one operation should take less than 5.5
+ * seconds.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class McapWriterBenchmark {
+
+    private static final int MESSAGE_COUNT = 100;
+
+    @Param({"NONE", "LZ4"})
+    public McapCompression compression;
+
+    /** Compress chunks in background thread */
+    @Param({"false", "true"})
+    public boolean background;
+
+    private ImageMessage image;
+    private Path file;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() throws IOException {
+        int width = 640, height = 480;
+        var data = new byte[width * height * 3];
+        // gradient, similar to camera images it is compressible
+        for (int i = 0; i < data.length; i++) data[i] = (byte) (i / 3 % width / 4);
+        image =
+                new ImageMessage()
+                        .withHeader(new HeaderMessage().withFrameId("camera"))
+                        .withWidth(width)
+                        .withHeight(height)
+                        .withEncoding(ImageEncoding.RGB8)
+                        .withStep(width * 3)
+                        .withData(data);
+        file = Files.createTempFile("benchmark", ".mcap");
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public void write() {
+        var writer = new McapWriter(file).withCompression(compression);
+        if (background) writer.withExecutor(executor);
+        try (writer) {
+            var channel = writer.addChannel("/camera/image_raw", ImageMessage.class);
+            for (int i = 0; i < MESSAGE_COUNT; i++) writer.write(channel, i, i, image);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jrosmessages.Message;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.nio.ByteBuffer;
+
+/**
+ * Message being (de)serialized together with its serialized form.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class MessageState {
+
+    @Param({
+        "empty",
+        "point",
+        "pose",
+        "colorrgba",
+        "vector3",
+        "header",
+        "uuid",
+        "polygonstamped",
+        "joint-state",
+        "joy",
+        "MultiDOFJointState",
+        "JointTrajectory",
+        "marker-array",
+        "pointcloud2",
+        "pointcloud2-large",
+        "image-large",
+        "marker-array-deep"
+    })
+    public String messageName;
+
+    public Ros2MessageSerializationUtils utils = new Ros2MessageSerializationUtils();
+    public Message message;
+    public byte[] data;
+
+    /** Preallocated direct buffer of exactly the serialized message size */
+    public ByteBuffer directBuffer;
+
+    /** Instance to deserialize into */
+    public Message reuse;
+
+    @Setup
+    public void setup() {
+        message = BenchmarkMessages.create(messageName);
+        data = utils.write(message);
+        directBuffer = ByteBuffer.allocateDirect(data.length);
+        reuse = utils.read(data, message.getClass());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import id.jros2messages.sensor_msgs.PointCloud2Builder;
+import id.jros2messages.sensor_msgs.PointCloud2CropBoxFilter;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jros2messages.sensor_msgs.PointCloud2VoxelGridFilter;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point cloud filters benchmarks on 1M points (x, y, z, intensity) uniformly distributed inside of
+ * the 20m cube.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PointCloud2FilterBenchmark {
+
+    @Param({"1", "0"})
+    public int threads;
+
+    private PointCloud2Message cloud;
+    private ForkJoinPool pool;
+    private PointCloud2VoxelGridFilter voxelGrid;
+    private PointCloud2CropBoxFilter cropBox;
+
+    @Setup
+    public void setup() {
+        var builder =
+                new PointCloud2Builder()
+                        .withField("x", DataType.FLOAT32, 1)
+                        .withField("y", DataType.FLOAT32, 1)
+                        .withField("z", DataType.FLOAT32, 1)
+                        .withField("intensity", DataType.FLOAT32, 1)
+                        .resize(1000, 1000);
+        var random = new Random(1);
+        for (int i = 0; i < builder.getPointCount(); i++) {
+            for (int field = 0; field < 4; field++)
+                builder.setFloat(i, field, random.nextFloat() * 20 - 10);
+        }
+        cloud = builder.build(new HeaderMessage().withFrameId("lidar"));
+        // 0 - all available processors
+        pool =
+                threads == 0
+                        ? new ForkJoinPool(Runtime.getRuntime().availableProcessors())
+                        : new ForkJoinPool(threads);
+        voxelGrid = new PointCloud2VoxelGridFilter(0.2).withPool(pool);
+        cropBox = new PointCloud2CropBoxFilter(-5, -5, -1, 5, 5, 1).withPool(pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public PointCloud2Message voxelGrid() {
+        return voxelGrid.filter(cloud);
+    }
+
+    @Benchmark
+    public PointCloud2Message cropBox() {
+        return cropBox.filter(cloud);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import id.jrosmessages.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message deserialization benchmarks.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadBenchmark {
+
+    @Benchmark
+    public Message read(MessageState state) {
+        return state.utils.read(state.data, state.message.getClass());
+    }
+
+    @Benchmark
+    public Message readReuse(MessageState state) {
+        return state.utils.read(ByteBuffer.wrap(state.data), state.reuse);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message serialization benchmarks.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WriteBenchmark {
+
+    @Benchmark
+    public byte[] write(MessageState state) {
+        return state.utils.write(state.message);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeToDirectBuffer(MessageState state) {
+        state.utils.serialize(state.message, state.directBuffer.clear());
+        return state.directBuffer;
+    }
+
+    @Benchmark
+    public int serializedSize(MessageState state) {
+        return state.utils.serializedSize(state.message);
+    }
+}
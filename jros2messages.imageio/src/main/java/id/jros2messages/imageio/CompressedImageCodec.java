@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.imageio;
+
+import id.jros2messages.sensor_msgs.CompressedImageMessage;
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import id.jrosmessages.std_msgs.StringMessage;
+import id.xfunction.lang.XRE;
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.Raster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+/**
+ * Decodes {@link CompressedImageMessage} into {@link ImageMessage} and encodes it back using JDK
+ * {@link ImageIO} (JPEG and PNG formats are supported).
+ *
+ * <p>Creating {@link ImageReader}/{@link ImageWriter} is expensive (it requires lookup in the
+ * service registry and allocation of native codec state), so each thread keeps its own readers and
+ * writers and reuses them for all images. Streams are always cached in memory (never in the
+ * temporary files, regardless of {@link ImageIO#getUseCache()}). Cached readers and writers hold
+ * native resources until they are disposed, so codec should be closed with {@link #close()} once it
+ * is no longer needed.
+ *
+ * <p>Decoded pixels are written by ImageIO directly into the data array of the target {@link
+ * ImageMessage} which is reused when its length matches, so decoding stream of images of the same
+ * size does not allocate new pixel arrays. Color images are decoded into {@link ImageEncoding#BGR8}
+ * (or {@link ImageEncoding#BGRA8} when image has alpha channel) and grayscale images into {@link
+ * ImageEncoding#MONO8}.
+ *
+ * <p>This class is part of the separate module since {@link ImageIO} is not available on Android.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class CompressedImageCodec implements AutoCloseable {
+
+    public enum Format {
+        JPEG("jpeg"),
+        PNG("png");
+
+        private String name;
+
+        Format(String name) {
+            this.name = name;
+        }
+
+        /** Format name as used in {@link CompressedImageMessage#format} */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Find compression format inside of {@link CompressedImageMessage#format}. It can be just
+         * the name of the format ("jpeg", "png") or include image encodings as in ROS
+         * image_transport ("bgr8; jpeg compressed bgr8").
+         */
+        public static Format parse(String format) {
+            var lower = format.toLowerCase();
+            if (lower.contains("jpeg") || lower.contains("jpg")) return JPEG;
+            if (lower.contains("png")) return PNG;
+            throw new XRE("Unsupported compressed image format: %s", format);
+        }
+    }
+
+    /** Readers and writers of one thread */
+    private static class Codecs {
+        private Map<Format, ImageReader> readers = new HashMap<>();
+        private Map<Format, ImageWriter> writers = new HashMap<>();
+        private ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ImageReader reader(Format format) {
+            return readers.computeIfAbsent(
+                    format,
+                    f -> {
+                        var it = ImageIO.getImageReadersByFormatName(f.name);
+                        if (!it.hasNext()) throw new XRE("No ImageIO reader for %s", f);
+                        return it.next();
+                    });
+        }
+
+        ImageWriter writer(Format format) {
+            return writers.computeIfAbsent(
+                    format,
+                    f -> {
+                        var it = ImageIO.getImageWritersByFormatName(f.name);
+                        if (!it.hasNext()) throw new XRE("No ImageIO writer for %s", f);
+                        return it.next();
+                    });
+        }
+
+        void dispose() {
+            readers.values().forEach(ImageReader::dispose);
+            writers.values().forEach(ImageWriter::dispose);
+            readers.clear();
+            writers.clear();
+        }
+    }
+
+    /** Codecs of all threads which used this instance, so that they can be disposed on close */
+    private final ConcurrentLinkedQueue<Codecs> allCodecs = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<Codecs> codecs =
+            ThreadLocal.withInitial(
+                    () -> {
+                        var codecs = new Codecs();
+                        allCodecs.add(codecs);
+                        return codecs;
+                    });
+    private volatile boolean isClosed;
+    private float quality = 0.9f;
+
+    /**
+     * Compression quality from 0 (smallest size) to 1 (best quality). For PNG, which is lossless,
+     * it controls only the compression level. Default is 0.9.
+     */
+    public CompressedImageCodec withQuality(float quality) {
+        if (quality < 0 || quality > 1) throw new XRE("Quality should be in [0, 1]: %s", quality);
+        this.quality = quality;
+        return this;
+    }
+
+    /**
+     * Decode compressed image.
+     *
+     * @param target message where decoded image is stored. All its fields except header are
+     *     overwritten.
+     * @return target message
+     */
+    public ImageMessage decode(CompressedImageMessage source, ImageMessage target) {
+        var reader = codecs().reader(Format.parse(source.format.data));
+        try (var in = new MemoryCacheImageInputStream(new ByteArrayInputStream(source.data))) {
+            reader.setInput(in, true, true);
+            var width = reader.getWidth(0);
+            var height = reader.getHeight(0);
+            var type = reader.getRawImageType(0);
+            var channels = type == null ? 3 : type.getSampleModel().getNumBands();
+            var hasAlpha = type != null && type.getColorModel().hasAlpha();
+            ImageEncoding encoding;
+            int[] bandOffsets;
+            if (channels == 1 && !hasAlpha) {
+                encoding = ImageEncoding.MONO8;
+                bandOffsets = new int[] {0};
+            } else if (hasAlpha) {
+                encoding = ImageEncoding.BGRA8;
+                bandOffsets = new int[] {2, 1, 0, 3};
+            } else {
+                encoding = ImageEncoding.BGR8;
+                bandOffsets = new int[] {2, 1, 0};
+            }
+            var step = width * bandOffsets.length;
+            var len = step * height;
+            var data = target.data.length == len ? target.data : new byte[len];
+            var image = wrap(data, width, height, step, bandOffsets);
+            var directDecode =
+                    type != null
+                            && type.getSampleModel().getDataType() == DataBuffer.TYPE_BYTE
+                            && type.getSampleModel().getNumBands() == bandOffsets.length;
+            if (directDecode) {
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setDestination(image);
+                reader.read(0, param);
+            } else {
+                // 16-bit, palette and other layouts which ImageIO cannot decode into the
+                // destination image directly
+                var decoded = reader.read(0);
+                var g = image.createGraphics();
+                try {
+                    g.drawImage(decoded, 0, 0, null);
+                } finally {
+                    g.dispose();
+                }
+            }
+            return target.withHeight(height)
+                    .withWidth(width)
+                    .withEncoding(encoding)
+                    .withIsBigendian((byte) 0)
+                    .withStep(step)
+                    .withData(data);
+        } catch (IOException e) {
+            throw new XRE(e);
+        } finally {
+            reader.setInput(null);
+        }
+    }
+
+    /**
+     * Compress image. Supported image encodings are {@link ImageEncoding#RGB8}, {@link
+     * ImageEncoding#BGR8}, {@link ImageEncoding#RGBA8}, {@link ImageEncoding#BGRA8} and {@link
+     * ImageEncoding#MONO8} (JPEG does not support alpha channel so it is dropped).
+     *
+     * @param target message where compressed image is stored. All its fields except header are
+     *     overwritten.
+     * @return target message
+     */
+    public CompressedImageMessage encode(
+            ImageMessage source, Format format, CompressedImageMessage target) {
+        var encodingName = source.encoding.data;
+        int[] bandOffsets =
+                switch (encodingName) {
+                    case "rgb8" -> new int[] {0, 1, 2};
+                    case "bgr8" -> new int[] {2, 1, 0};
+                    case "rgba8" -> new int[] {0, 1, 2, 3};
+                    case "bgra8" -> new int[] {2, 1, 0, 3};
+                    case "mono8" -> new int[] {0};
+                    default -> throw new XRE(
+                            "Image encoding %s is not supported by %s", encodingName, format);
+                };
+        if (source.step < source.width * bandOffsets.length)
+            throw new XRE("Image step %s is too small", source.step);
+        if (source.data.length < (long) source.step * source.height)
+            throw new XRE("Image data is too small: %s", source.data.length);
+        var image = wrap(source.data, source.width, source.height, source.step, bandOffsets);
+        var state = codecs();
+        var writer = state.writer(format);
+        var param = writer.getDefaultWriteParam();
+        if (bandOffsets.length == 4 && format == Format.JPEG)
+            param.setSourceBands(new int[] {0, 1, 2});
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+        }
+        state.out.reset();
+        try (var out = new MemoryCacheImageOutputStream(state.out)) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new XRE(e);
+        } finally {
+            writer.setOutput(null);
+        }
+        return target.withFormat(
+                        new StringMessage(
+                                encodingName + "; " + format.name + " compressed " + encodingName))
+                .withData(state.out.toByteArray());
+    }
+
+    /**
+     * Dispose {@link ImageReader}/{@link ImageWriter} cached by all threads. It should be called
+     * when there are no {@link #decode}/{@link #encode} calls in progress. After codec is closed it
+     * cannot be used anymore.
+     */
+    @Override
+    public void close() {
+        if (isClosed) return;
+        isClosed = true;
+        Codecs c;
+        while ((c = allCodecs.poll()) != null) c.dispose();
+        codecs.remove();
+    }
+
+    private Codecs codecs() {
+        if (isClosed) throw new XRE("Codec is closed");
+        return codecs.get();
+    }
+
+    /** Create image which shares the given pixel data */
+    private static BufferedImage wrap(
+            byte[] data, int width, int height, int step, int[] bandOffsets) {
+        var channels = bandOffsets.length;
+        var raster =
+                Raster.createInterleavedRaster(
+                        new DataBufferByte(data, data.length),
+                        width,
+                        height,
+                        step,
+                        channels,
+                        bandOffsets,
+                        null);
+        var colorSpace =
+                ColorSpace.getInstance(channels == 1 ? ColorSpace.CS_GRAY : ColorSpace.CS_sRGB);
+        var hasAlpha = channels == 4;
+        var colorModel =
+                new ComponentColorModel(
+                        colorSpace,
+                        hasAlpha,
+                        false,
+                        hasAlpha ? Transparency.TRANSLUCENT : Transparency.OPAQUE,
+                        DataBuffer.TYPE_BYTE);
+        return new BufferedImage(colorModel, raster, false, null);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 jrosclient project
+ *
+ * Website: https://github.com/lambdaprime/jros2messages
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Codecs for {@link id.jros2messages.sensor_msgs.CompressedImageMessage} based on JDK ImageIO.
+ *
+ * <p>It is separate from {@code jros2messages} module because ImageIO (and whole {@code
+ * java.desktop} module) is not available on Android.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+module jros2messages.imageio {
+    requires transitive jros2messages;
+    requires transitive java.desktop;
+    requires id.xfunction;
+
+    exports id.jros2messages.imageio;
+}
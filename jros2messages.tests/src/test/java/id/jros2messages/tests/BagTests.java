@@ -0,0 +1,639 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jros2messages.bag.BagPlayer;
+import id.jros2messages.bag.BagPlayerMetrics;
+import id.jros2messages.bag.BagTranscoder;
+import id.jros2messages.bag.DecodedMessage;
+import id.jros2messages.bag.McapCompression;
+import id.jros2messages.bag.McapReader;
+import id.jros2messages.bag.McapWriter;
+import id.jros2messages.bag.RecordedMessage;
+import id.jros2messages.bag.Rosbag2Reader;
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import id.jros2messages.sensor_msgs.JointStateMessage;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.std_msgs.StringMessage;
+import id.xfunction.lang.XRE;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class BagTests {
+
+    @Test
+    public void test_mcap_writer() throws Exception {
+        var file = Files.createTempFile("test", ".mcap");
+        var sizes = new ArrayList<Long>();
+        for (var compression : McapCompression.values()) {
+            try (var writer =
+                    new McapWriter(file)
+                            .withCompression(compression)
+                            .withChunkSize(10_000)
+                            .withExecutor(ForkJoinPool.commonPool())) {
+                var images = writer.addChannel("/image", ImageMessage.class);
+                var strings = writer.addChannel("/string", StringMessage.class, "string data");
+                for (int i = 0; i < 100; i++) {
+                    var image =
+                            new ImageMessage()
+                                    .withEncoding(ImageEncoding.MONO8)
+                                    .withWidth(1000)
+                                    .withHeight(1)
+                                    .withStep(1000)
+                                    .withData(new byte[1000]);
+                    writer.write(images, i, i, image);
+                    // pre-serialized messages include encapsulation header
+                    var string = new Ros2MessageSerializationUtils().write(new StringMessage("a"));
+                    writer.write(
+                            strings,
+                            i,
+                            i,
+                            ByteBuffer.allocate(4 + string.length)
+                                    .put(new byte[] {0, 1, 0, 0})
+                                    .put(string)
+                                    .flip());
+                }
+            }
+            var data = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+            sizes.add((long) data.capacity());
+            var magic = Arrays.copyOf(data.array(), 8);
+            assertArrayEquals(
+                    magic, Arrays.copyOfRange(data.array(), data.capacity() - 8, data.capacity()));
+            assertEquals("MCAP0", new String(magic, 1, 5));
+            // footer
+            var footer = data.capacity() - 8 - 29;
+            assertEquals(2, data.get(footer));
+            var summaryStart = (int) data.getLong(footer + 9);
+            var summaryOffsetStart = (int) data.getLong(footer + 17);
+            var crc = new CRC32();
+            crc.update(data.array(), summaryStart, footer + 25 - summaryStart);
+            assertEquals((int) crc.getValue(), data.getInt(footer + 25));
+            // statistics
+            var statistics = summaryStart;
+            while (data.get(statistics) != 0x0B) statistics += 9 + data.getLong(statistics + 1);
+            assertTrue(statistics < summaryOffsetStart);
+            assertEquals(200, data.getLong(statistics + 9));
+            assertEquals(2, data.getShort(statistics + 17));
+            assertEquals(2, data.getInt(statistics + 19));
+            assertEquals(99, data.getLong(statistics + 43));
+        }
+        assertTrue(sizes.get(1) < sizes.get(0) / 10);
+        Files.delete(file);
+    }
+
+    @Test
+    public void test_mcap_writer_large_messages() throws Exception {
+        var file = Files.createTempFile("test", ".mcap");
+        var images = new ArrayList<ImageMessage>();
+        try (var writer =
+                new McapWriter(file)
+                        .withCompression(McapCompression.LZ4)
+                        .withChunkSize(1000)
+                        .withExecutor(ForkJoinPool.commonPool())) {
+            var channel = writer.addChannel("/image", ImageMessage.class);
+            for (int i = 0; i < 6; i++) {
+                // message does not fit into the chunk buffer
+                var image =
+                        new ImageMessage()
+                                .withEncoding(ImageEncoding.MONO8)
+                                .withWidth(100_000)
+                                .withHeight(1)
+                                .withStep(100_000)
+                                .withData(new byte[100_000]);
+                image.data[i] = 1;
+                images.add(image);
+                writer.write(channel, i, i, image);
+                // chunks which are still being compressed keep their compression
+                writer.withCompression(i % 2 == 0 ? McapCompression.NONE : McapCompression.LZ4);
+            }
+        }
+        try (var reader = new McapReader(file)) {
+            assertEquals(
+                    images, reader.read("/image", ImageMessage.class, 0, Long.MAX_VALUE).toList());
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    public void test_mcap_reader() throws Exception {
+        var file = Files.createTempFile("test", ".mcap");
+        for (var compression : McapCompression.values()) {
+            try (var writer =
+                    new McapWriter(file).withCompression(compression).withChunkSize(500)) {
+                var a = writer.addChannel("/a", StringMessage.class);
+                var b = writer.addChannel("/b", StringMessage.class);
+                for (int i = 0; i < 1000; i++) {
+                    writer.write(a, 2 * i, 0, new StringMessage("a" + i));
+                    // lagging topic, so that chunks overlap in time
+                    writer.write(b, 2 * i - 51, 0, new StringMessage("b" + i));
+                }
+            }
+            try (var reader = new McapReader(file)) {
+                assertEquals(
+                        "{/a=std_msgs/msg/String, /b=std_msgs/msg/String}",
+                        reader.getTopics().toString());
+                assertEquals(2000, reader.getMessageCount());
+                assertEquals(-51, reader.getStartTime());
+                assertEquals(1998, reader.getEndTime());
+                var times = reader.read().mapToLong(RecordedMessage::logTime).toArray();
+                assertEquals(2000, times.length);
+                var sorted = times.clone();
+                Arrays.sort(sorted);
+                assertArrayEquals(sorted, times);
+                var utils = new Ros2MessageSerializationUtils();
+                var range =
+                        reader.read(100, 200, Set.of("/b"))
+                                .map(m -> utils.read(m.payload(), StringMessage.class).data)
+                                .toList();
+                assertEquals(50, range.size());
+                assertEquals("b76", range.get(0));
+                assertEquals("b125", range.get(49));
+                assertEquals(
+                        "[a998, a999]",
+                        reader.read("/a", StringMessage.class, 1996, Long.MAX_VALUE)
+                                .map(m -> m.data)
+                                .toList()
+                                .toString());
+            }
+        }
+        Files.delete(file);
+    }
+
+    /**
+     * MCAP file with "ros2" profile laid out as the ones recorded by rosbag2: schemas with message
+     * definitions, channels with QoS metadata, rosbag2 metadata record, one uncompressed and one
+     * LZ4 compressed chunk. It is written by an independent MCAP writer following the specification
+     * and LZ4 frame is compressed by lz4-java.
+     */
+    @Test
+    public void test_mcap_reader_ros2() throws Exception {
+        var file = Files.createTempFile("ros2", ".mcap");
+        try (var in = BagTests.class.getResourceAsStream("ros2.mcap")) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        var startTime = 1_700_000_000_000_000_000L;
+        try (var reader = new McapReader(file)) {
+            assertEquals(
+                    "{/chatter=std_msgs/msg/String, /joint_states=sensor_msgs/msg/JointState}",
+                    reader.getTopics().toString());
+            assertEquals(24, reader.getMessageCount());
+            assertEquals(startTime, reader.getStartTime());
+            var messages = reader.read().toList();
+            assertEquals(24, messages.size());
+            for (var message : messages) {
+                var header = new byte[4];
+                message.data().duplicate().get(header);
+                assertArrayEquals(new byte[] {0, 1, 0, 0}, header);
+            }
+            assertEquals(
+                    "[hello world 10, hello world 11]",
+                    reader.read(
+                                    "/chatter",
+                                    StringMessage.class,
+                                    startTime + 1_000_000_000L,
+                                    Long.MAX_VALUE)
+                            .map(m -> m.data)
+                            .toList()
+                            .toString());
+            var joints =
+                    reader.read(
+                                    "/joint_states",
+                                    JointStateMessage.class,
+                                    Long.MIN_VALUE,
+                                    Long.MAX_VALUE)
+                            .toList();
+            assertEquals(12, joints.size());
+            for (int i = 0; i < joints.size(); i++) {
+                var joint = joints.get(i);
+                assertEquals("base_link", joint.header.frame_id);
+                assertEquals(1_700_000_000, joint.header.stamp.sec);
+                assertEquals(i * 100_000_000 + 50_000_000, joint.header.stamp.nanosec);
+                assertEquals("[joint1, joint2, joint3]", Arrays.toString(joint.name));
+                assertArrayEquals(new double[] {0.5 * i, -0.25 * i, 1.0}, joint.position);
+                assertArrayEquals(new double[] {0.1, 0.2, 0.3}, joint.velocity);
+                assertEquals(0, joint.effort.length);
+            }
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    public void test_mcap_reader_encapsulation() throws Exception {
+        var file = Files.createTempFile("test", ".mcap");
+        var string = new Ros2MessageSerializationUtils().write(new StringMessage("a"));
+        try (var writer = new McapWriter(file)) {
+            var channel = writer.addChannel("/string", StringMessage.class);
+            for (var header : new byte[][] {{0, 1, 0, 0}, {0, 0, 0, 0}, {0, 3, 0, 0}}) {
+                var data = ByteBuffer.allocate(header.length + string.length);
+                writer.write(channel, 0, 0, data.put(header).put(string).flip());
+            }
+            writer.write(channel, 0, 0, ByteBuffer.wrap(new byte[] {0, 1}));
+        }
+        try (var reader = new McapReader(file)) {
+            var messages = reader.read().toList();
+            assertEquals(4, messages.size());
+            assertEquals(
+                    "a",
+                    new Ros2MessageSerializationUtils()
+                            .read(messages.get(0).payload(), StringMessage.class)
+                            .data);
+            // big endian CDR
+            assertThrows(XRE.class, () -> messages.get(1).payload());
+            // parameter list CDR
+            assertThrows(XRE.class, () -> messages.get(2).payload());
+            // truncated header
+            assertThrows(XRE.class, () -> messages.get(3).payload());
+            assertThrows(
+                    XRE.class,
+                    () -> reader.read("/string", StringMessage.class, 0, Long.MAX_VALUE).toList());
+        }
+        Files.delete(file);
+    }
+
+    /**
+     * rosbag2 sqlite3 storage (humble schema) with messages inserted in the order they were
+     * received, so their ids do not follow timestamps and some timestamps are equal. It is created
+     * with Python sqlite3 module, messages are encoded by hand.
+     */
+    @Test
+    public void test_rosbag2_reader() throws Exception {
+        var file = Files.createTempFile("rosbag2", ".db3");
+        try (var in = BagTests.class.getResourceAsStream("rosbag2.db3")) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        var startTime = 1_700_000_000_000_000_000L;
+        // topics of messages ordered by timestamp and then by id
+        var expectedTopics = new ArrayList<String>();
+        for (int i = 0; i < 10; i++) {
+            if (i % 2 == 0) expectedTopics.addAll(List.of("/chatter", "/joint_states"));
+            else expectedTopics.addAll(List.of("/joint_states", "/chatter"));
+        }
+        for (var batchSize : new int[] {3, 1000}) {
+            try (var reader = new Rosbag2Reader(file).withBatchSize(batchSize)) {
+                assertEquals(
+                        "{/chatter=std_msgs/msg/String, /joint_states=sensor_msgs/msg/JointState}",
+                        reader.getTopics().toString());
+                try (var messages = reader.read()) {
+                    var list = messages.toList();
+                    assertEquals(
+                            expectedTopics, list.stream().map(RecordedMessage::topic).toList());
+                    var times = list.stream().mapToLong(RecordedMessage::logTime).toArray();
+                    var sorted = times.clone();
+                    Arrays.sort(sorted);
+                    assertArrayEquals(sorted, times);
+                    assertEquals(startTime, times[0]);
+                    for (var message : list) {
+                        assertEquals(message.logTime(), message.publishTime());
+                        assertEquals(0, message.data().get(0));
+                        assertEquals(1, message.data().get(1));
+                    }
+                }
+                try (var messages =
+                        reader.read(
+                                startTime + 100_000_000L,
+                                startTime + 300_000_000L,
+                                Set.of("/joint_states"))) {
+                    assertEquals(
+                            List.of(startTime + 200_000_000L, startTime + 240_000_000L),
+                            messages.map(RecordedMessage::logTime).toList());
+                }
+                try (var messages = reader.readMessages()) {
+                    var list = messages.toList();
+                    assertEquals(20, list.size());
+                    var strings =
+                            list.stream()
+                                    .filter(m -> m.topic().equals("/chatter"))
+                                    .map(m -> ((StringMessage) m.message()).data)
+                                    .toList();
+                    assertEquals("hello world 0", strings.get(0));
+                    assertEquals("hello world 9", strings.get(9));
+                    var joints =
+                            list.stream()
+                                    .filter(m -> m.topic().equals("/joint_states"))
+                                    .map(m -> (JointStateMessage) m.message())
+                                    .toList();
+                    for (int i = 0; i < joints.size(); i++) {
+                        var joint = joints.get(i);
+                        assertEquals(i * 100_000_000, joint.header.stamp.nanosec);
+                        assertEquals("base_link", joint.header.frame_id);
+                        assertEquals("[joint1, joint2]", Arrays.toString(joint.name));
+                        assertArrayEquals(new double[] {0.5 * i, -0.25 * i}, joint.position);
+                        assertEquals(0, joint.velocity.length);
+                        assertArrayEquals(new double[] {1.5}, joint.effort);
+                    }
+                }
+            }
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    public void test_rosbag2_reader_big_endian() throws Exception {
+        var file = Files.createTempFile("rosbag2", ".db3");
+        Files.delete(file);
+        try (var connection = DriverManager.getConnection("jdbc:sqlite:" + file);
+                var statement = connection.createStatement()) {
+            statement.executeUpdate(
+                    "CREATE TABLE topics(id INTEGER PRIMARY KEY, name TEXT NOT NULL, type TEXT NOT"
+                            + " NULL, serialization_format TEXT NOT NULL, offered_qos_profiles"
+                            + " TEXT NOT NULL)");
+            statement.executeUpdate(
+                    "CREATE TABLE messages(id INTEGER PRIMARY KEY, topic_id INTEGER NOT NULL,"
+                            + " timestamp INTEGER NOT NULL, data BLOB NOT NULL)");
+            statement.executeUpdate(
+                    "INSERT INTO topics VALUES(1, '/string', 'std_msgs/msg/String', 'cdr', '')");
+            // big endian CDR "a"
+            statement.executeUpdate(
+                    "INSERT INTO messages VALUES(1, 1, 0, x'0000000000000002610000')");
+        }
+        try (var reader = new Rosbag2Reader(file)) {
+            assertThrows(XRE.class, () -> reader.read().toList());
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    public void test_bag_transcoder() throws Exception {
+        var input = Files.createTempFile("input", ".mcap");
+        var output = Files.createTempFile("output", ".mcap");
+        try (var writer = new McapWriter(input).withChunkSize(10_000)) {
+            var images = writer.addChannel("/image", ImageMessage.class);
+            var debugImages = writer.addChannel("/debug", ImageMessage.class);
+            var strings = writer.addChannel("/string", StringMessage.class);
+            for (int i = 0; i < 100; i++) {
+                var image =
+                        new ImageMessage()
+                                .withHeader(new HeaderMessage().withFrameId("camera"))
+                                .withEncoding(ImageEncoding.MONO8)
+                                .withWidth(100)
+                                .withHeight(1)
+                                .withStep(100)
+                                .withData(new byte[100]);
+                writer.write(images, 3 * i, 0, image);
+                writer.write(debugImages, 3 * i + 1, 0, image);
+                writer.write(strings, 3 * i + 2, 0, new StringMessage("s" + i));
+            }
+        }
+        try (var reader = new McapReader(input);
+                var writer = new McapWriter(output)) {
+            var count =
+                    new BagTranscoder()
+                            .withTimeRange(0, 150)
+                            .withQueueSize(8)
+                            .withTransform("/debug", m -> null)
+                            .withTransform(
+                                    ImageMessage.class,
+                                    image ->
+                                            image.withHeader(
+                                                            image.header.withFrameId(
+                                                                    "camera_optical"))
+                                                    .withData(new byte[0]))
+                            .transcode(reader, writer);
+            assertEquals(100, count);
+        }
+        try (var reader = new McapReader(output)) {
+            assertEquals(
+                    "{/image=sensor_msgs/msg/Image, /string=std_msgs/msg/String}",
+                    reader.getTopics().toString());
+            var utils = new Ros2MessageSerializationUtils();
+            var messages = reader.read().toList();
+            assertEquals(100, messages.size());
+            // copied and transformed messages have the same encapsulation header
+            for (var message : messages) {
+                var header = new byte[4];
+                message.data().duplicate().get(header);
+                assertArrayEquals(new byte[] {0, 1, 0, 0}, header);
+            }
+            for (int i = 0; i < 50; i++) {
+                var image = utils.read(messages.get(2 * i).payload(), ImageMessage.class);
+                assertEquals(3 * i, messages.get(2 * i).logTime());
+                assertEquals("camera_optical", image.header.frame_id);
+                assertEquals(0, image.data.length);
+                assertEquals(100, image.width);
+                var string = utils.read(messages.get(2 * i + 1).payload(), StringMessage.class);
+                assertEquals("s" + i, string.data);
+            }
+        }
+        Files.delete(input);
+        Files.delete(output);
+    }
+
+    @Test
+    public void test_bag_player() throws Exception {
+        var file = Files.createTempFile("test", ".mcap");
+        try (var writer = new McapWriter(file)) {
+            var joints = writer.addChannel("/joints", JointStateMessage.class);
+            var strings = writer.addChannel("/string", StringMessage.class);
+            for (int i = 0; i < 20; i++) {
+                // messages are recorded every 1ms but stamped every 2ms with simulation time
+                var joint =
+                        new JointStateMessage()
+                                .withHeader(
+                                        new HeaderMessage()
+                                                .withStamp(new Time(100, i * 2_000_000)));
+                writer.write(strings, i * 1_000_000L, 0, new StringMessage("s" + i));
+                writer.write(joints, i * 1_000_000L + 1, 0, joint);
+            }
+        }
+        var metricReader = InMemoryMetricReader.create();
+        var meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+        try (var reader = new McapReader(file)) {
+            var player = new BagPlayer(meterProvider.get("test"));
+            var received = new ArrayList<String>();
+            var startAt = System.nanoTime();
+            var statistics =
+                    player.play(
+                            reader,
+                            Long.MIN_VALUE,
+                            Long.MAX_VALUE,
+                            Set.of("/string"),
+                            m -> received.add(((StringMessage) m.message()).data));
+            assertTrue(System.nanoTime() - startAt >= 19_000_000);
+            assertEquals(20, statistics.messageCount());
+            assertEquals("s0", received.get(0));
+            assertEquals("s19", received.get(19));
+            assertTrue(statistics.maxLateness() >= statistics.meanLateness());
+
+            startAt = System.nanoTime();
+            statistics =
+                    player.withTimeSource(BagPlayer.TimeSource.HEADER_STAMP)
+                            .withRate(2)
+                            .play(
+                                    reader,
+                                    Long.MIN_VALUE,
+                                    Long.MAX_VALUE,
+                                    Set.of("/joints"),
+                                    m -> {});
+            assertTrue(System.nanoTime() - startAt >= 19_000_000);
+            assertEquals(20, statistics.messageCount());
+
+            // header stamps and log times are on different clocks
+            startAt = System.nanoTime();
+            statistics =
+                    assertTimeoutPreemptively(
+                            Duration.ofSeconds(10),
+                            () ->
+                                    player.withTimeSource(BagPlayer.TimeSource.HEADER_STAMP)
+                                            .withRate(1)
+                                            .play(reader, m -> {}));
+            assertTrue(System.nanoTime() - startAt >= 38_000_000);
+            assertEquals(40, statistics.messageCount());
+
+            statistics = player.withRate(Double.POSITIVE_INFINITY).play(reader, m -> {});
+            assertEquals(40, statistics.messageCount());
+            assertEquals(0, statistics.maxLateness());
+        }
+        var lateness =
+                metricReader.collectAllMetrics().stream()
+                        .filter(m -> m.getName().equals(BagPlayerMetrics.LATENESS_METRIC))
+                        .findFirst()
+                        .get();
+        assertEquals("s", lateness.getUnit());
+        var points = lateness.getHistogramData().getPoints();
+        assertEquals(2, points.size());
+        assertEquals(80, points.stream().mapToLong(p -> p.getCount()).sum());
+        Files.delete(file);
+    }
+
+    @Test
+    public void test_bag_player_underruns() throws Exception {
+        var file = Files.createTempFile("test", ".mcap");
+        try (var writer = new McapWriter(file)) {
+            var fast = writer.addChannel("/fast", StringMessage.class);
+            var slow = writer.addChannel("/slow", StringMessage.class);
+            for (int i = 0; i < 6; i++)
+                writer.write(fast, i * 1_000_000L, 0, new StringMessage("f" + i));
+            for (int i = 0; i < 4; i++)
+                writer.write(
+                        slow, 1_000_000_000L + i * 500_000_000L, 0, new StringMessage("s" + i));
+        }
+        // decoding of each message after the first two starts only when the previous message is
+        // emitted, so the buffer is always empty when the next message is due
+        var permits = new Semaphore(2);
+        var decodeDelay = new AtomicLong();
+        var executor =
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+                    @Override
+                    protected void beforeExecute(Thread thread, Runnable task) {
+                        permits.acquireUninterruptibly();
+                        try {
+                            Thread.sleep(decodeDelay.get());
+                        } catch (InterruptedException e) {
+                            thread.interrupt();
+                        }
+                    }
+                };
+        try (var reader = new McapReader(file)) {
+            var player =
+                    new BagPlayer(MeterProvider.noop().get("test"))
+                            .withExecutor(executor)
+                            .withBufferSize(2);
+            var received = new AtomicInteger();
+            Consumer<DecodedMessage> subscriber =
+                    m -> {
+                        if (received.getAndIncrement() > 0) permits.release();
+                    };
+            // next message is decoded 20ms after the previous one was emitted, but it is due 1ms
+            // after, so all messages after the first two are late
+            decodeDelay.set(20);
+            var statistics =
+                    player.play(
+                            reader, Long.MIN_VALUE, Long.MAX_VALUE, Set.of("/fast"), subscriber);
+            assertEquals(6, statistics.messageCount());
+            assertEquals(4, statistics.underruns());
+            // buffer runs empty after each message but the next one is decoded long before it is
+            // due
+            permits.drainPermits();
+            permits.release(2);
+            received.set(0);
+            decodeDelay.set(50);
+            statistics =
+                    player.play(
+                            reader, Long.MIN_VALUE, Long.MAX_VALUE, Set.of("/slow"), subscriber);
+            assertEquals(4, statistics.messageCount());
+            assertEquals(0, statistics.underruns());
+        } finally {
+            executor.shutdown();
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    public void test_bag_player_global_meter() throws Exception {
+        var file = Files.createTempFile("test", ".mcap");
+        try (var writer = new McapWriter(file)) {
+            var strings = writer.addChannel("/string", StringMessage.class);
+            writer.write(strings, 0, 0, new StringMessage("s"));
+        }
+        GlobalOpenTelemetry.resetForTest();
+        try (var reader = new McapReader(file)) {
+            var player = new BagPlayer();
+            var metricReader = InMemoryMetricReader.create();
+            GlobalOpenTelemetry.set(
+                    OpenTelemetrySdk.builder()
+                            .setMeterProvider(
+                                    SdkMeterProvider.builder()
+                                            .registerMetricReader(metricReader)
+                                            .build())
+                            .build());
+            player.play(reader, m -> {});
+            assertTrue(
+                    metricReader.collectAllMetrics().stream()
+                            .anyMatch(m -> m.getName().equals(BagPlayerMetrics.LATENESS_METRIC)));
+        } finally {
+            GlobalOpenTelemetry.resetForTest();
+        }
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jros2messages.impl.CdrCodecs;
+import id.jrosmessages.Message;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Generated CDR codecs must produce exactly the same bytes as reflection based serialization.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class CdrCodecTests {
+
+    private static final Ros2MessageSerializationUtils CODECS = new Ros2MessageSerializationUtils();
+    private static final Ros2MessageSerializationUtils REFLECTION =
+            new Ros2MessageSerializationUtils().withCdrCodecs(false);
+
+    static Stream<Class<?>> dataProvider() {
+        return CdrCodecs.getMessageClasses().stream()
+                .filter(Message.class::isAssignableFrom)
+                .sorted(Comparator.comparing(Class::getName));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void test_same_as_reflection(Class<? extends Message> messageClass) throws Exception {
+        var random = new Random(messageClass.getName().hashCode());
+        for (int i = 0; i < 3; i++) {
+            var message = randomMessage(messageClass, random);
+            var expected = REFLECTION.write(message);
+            assertArrayEquals(expected, CODECS.write(message));
+            assertEquals(message, CODECS.read(expected, messageClass));
+            assertEquals(message, REFLECTION.read(CODECS.write(message), messageClass));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void test_read_reuse(Class<? extends Message> messageClass) throws Exception {
+        var random = new Random(messageClass.getName().hashCode());
+        var reuse = randomMessage(messageClass, random);
+        for (int i = 0; i < 3; i++) {
+            var message = randomMessage(messageClass, random);
+            var data = ByteBuffer.wrap(REFLECTION.write(message));
+            assertSame(reuse, CODECS.read(data, reuse));
+            assertEquals(message, reuse);
+        }
+    }
+
+    private static <T> T randomMessage(Class<T> type, Random random) throws Exception {
+        var message = type.getConstructor().newInstance();
+        for (var field : type.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
+                continue;
+            field.set(message, randomValue(field.getType(), field.get(message), random));
+        }
+        return message;
+    }
+
+    private static Object randomValue(Class<?> type, Object current, Random random)
+            throws Exception {
+        if (type == boolean.class) return random.nextBoolean();
+        if (type == byte.class) return (byte) random.nextInt();
+        if (type == short.class) return (short) random.nextInt();
+        if (type == int.class) return random.nextInt();
+        if (type == long.class) return random.nextLong();
+        if (type == float.class) return random.nextFloat();
+        if (type == double.class) return random.nextDouble();
+        if (type == String.class) return "s" + random.nextInt(1000);
+        if (type == UUID.class) return new UUID(random.nextLong(), random.nextLong());
+        if (type.isArray()) {
+            // fixed size arrays are initialized with their size, keep it
+            var len =
+                    current != null && Array.getLength(current) > 0
+                            ? Array.getLength(current)
+                            : 1 + random.nextInt(3);
+            var array = Array.newInstance(type.getComponentType(), len);
+            for (int i = 0; i < len; i++)
+                Array.set(array, i, randomValue(type.getComponentType(), null, random));
+            return array;
+        }
+        return randomMessage(type, random);
+    }
+}
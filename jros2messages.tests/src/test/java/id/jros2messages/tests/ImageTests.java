@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.imageio.CompressedImageCodec;
+import id.jros2messages.sensor_msgs.BayerDemosaic;
+import id.jros2messages.sensor_msgs.CompressedImageMessage;
+import id.jros2messages.sensor_msgs.ImageConverter;
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import id.jros2messages.sensor_msgs.ImageResizer;
+import id.jros2messages.sensor_msgs.ImageRoi;
+import id.jros2messages.vision_msgs.BoundingBox2DMessage;
+import id.jros2messages.vision_msgs.Point2DMessage;
+import id.jros2messages.vision_msgs.Pose2DMessage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class ImageTests {
+
+    @Test
+    public void test_image_convert() {
+        var converter = new ImageConverter();
+        // 2x2 rgb8 with 2 bytes of row padding
+        var rgb =
+                new ImageMessage()
+                        .withHeight(2)
+                        .withWidth(2)
+                        .withEncoding(ImageEncoding.RGB8)
+                        .withStep(8)
+                        .withData(new byte[] {1, 2, 3, 4, 5, 6, 0, 0, 7, 8, 9, 10, 11, 12, 0, 0});
+        var out = converter.convert(rgb, ImageEncoding.BGR8, new ImageMessage());
+        assertEquals("bgr8", out.encoding.data);
+        assertEquals(6, out.step);
+        assertEquals("[3, 2, 1, 6, 5, 4, 9, 8, 7, 12, 11, 10]", Arrays.toString(out.data));
+        // data array is reused
+        var data = out.data;
+        assertSame(data, converter.convert(rgb, ImageEncoding.BGR8, out).data);
+
+        var rgba =
+                new ImageMessage()
+                        .withHeight(1)
+                        .withWidth(2)
+                        .withEncoding(ImageEncoding.RGBA8)
+                        .withStep(8)
+                        .withData(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        out = converter.convert(rgba, ImageEncoding.RGB8, new ImageMessage());
+        assertEquals("[1, 2, 3, 5, 6, 7]", Arrays.toString(out.data));
+        out = converter.convert(rgb, ImageEncoding.MONO8, new ImageMessage());
+        assertEquals("[2, 5, 8, 11]", Arrays.toString(out.data));
+
+        var mono16 =
+                new ImageMessage()
+                        .withHeight(1)
+                        .withWidth(3)
+                        .withEncoding(ImageEncoding.MONO16)
+                        .withIsBigendian((byte) 1)
+                        .withStep(6)
+                        .withData(new byte[] {0, 0, 0x10, 0, (byte) 0xff, (byte) 0xff});
+        out = new ImageConverter().withMono16Max(0x2000).convert(mono16, ImageEncoding.MONO8, out);
+        assertEquals("[0, 127, -1]", Arrays.toString(out.data));
+        out = converter.convert(mono16, ImageEncoding.MONO16, out);
+        var nativeLittle = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+        assertEquals(nativeLittle ? 0 : 1, out.is_bigendian);
+        assertEquals(
+                nativeLittle ? "[0, 0, 0, 16, -1, -1]" : "[0, 0, 16, 0, -1, -1]",
+                Arrays.toString(out.data));
+
+        var depth = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        depth.putFloat(1.5f).putFloat(Float.NaN).putFloat(-1).putFloat(0.0124f);
+        var depthImage =
+                new ImageMessage()
+                        .withHeight(1)
+                        .withWidth(4)
+                        .withEncoding(ImageEncoding.TYPE_32FC1)
+                        .withStep(16)
+                        .withData(depth.array());
+        out = converter.convert(depthImage, ImageEncoding.TYPE_16UC1, out);
+        var mm = ByteBuffer.wrap(out.data).order(ByteOrder.nativeOrder()).asShortBuffer();
+        var actual = new short[4];
+        mm.get(actual);
+        assertEquals("[1500, 0, 0, 12]", Arrays.toString(actual));
+
+        assertThrows(
+                RuntimeException.class,
+                () -> converter.convert(depthImage, ImageEncoding.RGB8, new ImageMessage()));
+    }
+
+    @Test
+    public void test_bayer_demosaic() {
+        // flat color (red 200, green 100, blue 50) is reconstructed exactly by any algorithm
+        int width = 6, height = 4;
+        var rggb = new byte[width * height];
+        var gbrg16 = ByteBuffer.allocate(width * height * 2).order(ByteOrder.BIG_ENDIAN);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                var isRed = x % 2 == 0 && y % 2 == 0;
+                var isBlue = x % 2 == 1 && y % 2 == 1;
+                rggb[y * width + x] = (byte) (isRed ? 200 : isBlue ? 50 : 100);
+                isRed = x % 2 == 0 && y % 2 == 1;
+                isBlue = x % 2 == 1 && y % 2 == 0;
+                gbrg16.putShort((short) ((isRed ? 200 : isBlue ? 50 : 100) << 8));
+            }
+        }
+        var expectedRgb = new byte[width * height * 3];
+        for (int i = 0; i < expectedRgb.length; i += 3) {
+            expectedRgb[i] = (byte) 200;
+            expectedRgb[i + 1] = 100;
+            expectedRgb[i + 2] = 50;
+        }
+        var source =
+                new ImageMessage()
+                        .withHeight(height)
+                        .withWidth(width)
+                        .withEncoding(ImageEncoding.BAYER_RGGB8)
+                        .withStep(width)
+                        .withData(rggb);
+        for (var algorithm : BayerDemosaic.Algorithm.values()) {
+            var demosaic = new BayerDemosaic().withAlgorithm(algorithm);
+            var out = demosaic.demosaic(source, ImageEncoding.RGB8, new ImageMessage());
+            assertEquals("rgb8", out.encoding.data);
+            assertEquals(width * 3, out.step);
+            assertArrayEquals(expectedRgb, out.data);
+        }
+        var source16 =
+                new ImageMessage()
+                        .withHeight(height)
+                        .withWidth(width)
+                        .withEncoding(ImageEncoding.BAYER_GBRG16)
+                        .withIsBigendian((byte) 1)
+                        .withStep(width * 2)
+                        .withData(gbrg16.array());
+        var out = new BayerDemosaic().demosaic(source16, ImageEncoding.BGR8, new ImageMessage());
+        assertEquals("[50, 100, -56]", Arrays.toString(Arrays.copyOf(out.data, 3)));
+        assertThrows(
+                RuntimeException.class,
+                () -> new BayerDemosaic().demosaic(out, ImageEncoding.RGB8, new ImageMessage()));
+    }
+
+    @Test
+    public void test_image_roi_resize() {
+        // 4x4 mono8 with 2 bytes of row padding
+        var data = new byte[4 * 6];
+        for (int i = 0; i < 16; i++) data[i / 4 * 6 + i % 4] = (byte) i;
+        var image =
+                new ImageMessage()
+                        .withHeight(4)
+                        .withWidth(4)
+                        .withEncoding(ImageEncoding.MONO8)
+                        .withStep(6)
+                        .withData(data);
+        var roi = new ImageRoi(image, 1, 1, 3, 3).crop(0, 0, 2, 2);
+        assertEquals(7, roi.getOffset());
+        assertEquals(5, roi.getData().get(0));
+        assertEquals("[5, 6, 9, 10]", Arrays.toString(roi.toMessage(new ImageMessage()).data));
+        var bbox =
+                new BoundingBox2DMessage()
+                        .withCenter(
+                                new Pose2DMessage()
+                                        .withPosition(new Point2DMessage().withX(3).withY(0.5)))
+                        .withSizeX(2)
+                        .withSizeY(1);
+        roi = new ImageRoi(image, bbox);
+        assertEquals("ImageRoi [2x1 at (2, 0), mono8]", roi.toString());
+        assertThrows(RuntimeException.class, () -> new ImageRoi(image, 3, 3, 2, 2));
+
+        var out = new ImageResizer().resize(image, 2, 2, new ImageMessage());
+        assertEquals(2, out.step);
+        assertEquals("[3, 5, 11, 13]", Arrays.toString(out.data));
+        out =
+                new ImageResizer()
+                        .withInterpolation(ImageResizer.Interpolation.NEAREST)
+                        .resize(image, 2, 2, out);
+        assertEquals("[5, 7, 13, 15]", Arrays.toString(out.data));
+        out = new ImageResizer().resize(new ImageRoi(image, 0, 0, 2, 1), 4, 1, out);
+        assertEquals("[0, 0, 1, 1]", Arrays.toString(out.data));
+
+        var depth = ByteBuffer.allocate(4 * 4 * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 16; i++) depth.putFloat(i);
+        var depthImage =
+                new ImageMessage()
+                        .withHeight(4)
+                        .withWidth(4)
+                        .withEncoding(ImageEncoding.TYPE_32FC1)
+                        .withStep(16)
+                        .withData(depth.array());
+        out = new ImageResizer().resize(new ImageRoi(depthImage, 2, 2, 2, 2), 1, 1, out);
+        assertEquals(
+                12.5f, ByteBuffer.wrap(out.data).order(ByteOrder.LITTLE_ENDIAN).getFloat(), 1e-6);
+    }
+
+    @Test
+    public void test_compressed_image_codec() throws InterruptedException {
+        int width = 64, height = 48;
+        var data = new byte[width * height * 3];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                var i = (y * width + x) * 3;
+                data[i] = (byte) (x * 4);
+                data[i + 1] = (byte) (y * 4);
+                data[i + 2] = (byte) 128;
+            }
+        }
+        var image =
+                new ImageMessage()
+                        .withHeight(height)
+                        .withWidth(width)
+                        .withEncoding(ImageEncoding.BGR8)
+                        .withStep(width * 3)
+                        .withData(data);
+        var codec = new CompressedImageCodec();
+        var compressed =
+                codec.encode(image, CompressedImageCodec.Format.PNG, new CompressedImageMessage());
+        assertEquals("bgr8; png compressed bgr8", compressed.format.data);
+        var decoded = codec.decode(compressed, new ImageMessage());
+        assertEquals("bgr8", decoded.encoding.data);
+        assertEquals(width * 3, decoded.step);
+        assertArrayEquals(data, decoded.data);
+        // pixel array is reused
+        var decodedData = decoded.data;
+        assertSame(decodedData, codec.decode(compressed, decoded).data);
+
+        codec.withQuality(0.95f).encode(image, CompressedImageCodec.Format.JPEG, compressed);
+        codec.decode(compressed, decoded);
+        assertEquals(width, decoded.width);
+        assertEquals(height, decoded.height);
+        for (int i = 0; i < data.length; i++)
+            assertTrue(Math.abs((data[i] & 0xff) - (decoded.data[i] & 0xff)) < 16);
+
+        var mono =
+                new ImageMessage()
+                        .withHeight(2)
+                        .withWidth(2)
+                        .withEncoding(ImageEncoding.MONO8)
+                        .withStep(2)
+                        .withData(new byte[] {0, 50, 100, (byte) 200});
+        codec.encode(mono, CompressedImageCodec.Format.PNG, compressed);
+        decoded = codec.decode(compressed, decoded);
+        assertEquals("mono8", decoded.encoding.data);
+        assertArrayEquals(mono.data, decoded.data);
+
+        // codecs cached by other threads are disposed too
+        var thread = new Thread(() -> codec.decode(compressed, new ImageMessage()));
+        thread.start();
+        thread.join();
+        codec.close();
+        codec.close();
+        assertThrows(RuntimeException.class, () -> codec.decode(compressed, new ImageMessage()));
+    }
+}
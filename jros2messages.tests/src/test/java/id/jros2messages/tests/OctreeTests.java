@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.octomap_msgs.OctomapMessage;
+import id.jros2messages.octomap_msgs.Octree;
+import id.jrosmessages.std_msgs.StringMessage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class OctreeTests {
+
+    @Test
+    public void test_octree() {
+        // root with 2 leaves: occupied (-x, -y, -z) and free (+x, -y, -z) octants
+        var full = ByteBuffer.allocate(15).order(ByteOrder.LITTLE_ENDIAN);
+        full.putFloat(2).put((byte) 0b11).putFloat(2).put((byte) 0).putFloat(-2).put((byte) 0);
+        var message =
+                new OctomapMessage()
+                        .withId(new StringMessage(Octree.OCTREE_ID))
+                        .withResolution(0.1)
+                        .withData(full.array());
+        var octree = new Octree().read(message);
+        assertEquals(3, octree.getNodeCount());
+        assertEquals(Octree.Occupancy.OCCUPIED, octree.lookup(-1, -1, -1));
+        assertEquals(Octree.Occupancy.FREE, octree.lookup(1, -1, -1));
+        assertEquals(Octree.Occupancy.UNKNOWN, octree.lookup(1, 1, 1));
+        assertEquals(Octree.Occupancy.UNKNOWN, octree.lookup(1e6, 0, 0));
+        assertEquals(0.88, octree.getOccupancy(octree.search(-1, -1, -1)), 0.01);
+        assertArrayEquals(full.array(), octree.write(false, new OctomapMessage()).data);
+
+        var end = new double[3];
+        assertTrue(octree.castRay(1, -1, -1, -1, 0, 0, false, 0, end));
+        assertArrayEquals(new double[] {-0.05, -0.95, -0.95}, end, 1e-9);
+        assertFalse(octree.castRay(1, -1, -1, -1, 0, 0, false, 0.5, end));
+        assertFalse(octree.castRay(1, -1, -1, 0, 1, 0, false, 0, end));
+        assertArrayEquals(new double[] {1.05, 0.05, -0.95}, end, 1e-9);
+
+        var leaves = new ArrayList<String>();
+        octree.forEachLeaf(
+                -1, -1, -1, 1, -0.5, -0.5, (node, x, y, z, size) -> leaves.add(x + " " + size));
+        assertEquals("[-1638.4 3276.8, 1638.4 3276.8]", leaves.toString());
+        leaves.clear();
+        octree.forEachLeaf(1, 1, 1, 2, 2, 2, (node, x, y, z, size) -> leaves.add("" + node));
+        assertEquals("[]", leaves.toString());
+
+        var binary = octree.write(true, new OctomapMessage());
+        assertTrue(binary.binary);
+        assertEquals("[6, 0]", Arrays.toString(binary.data));
+        octree.read(binary);
+        assertEquals(3, octree.getNodeCount());
+        assertEquals(Octree.Occupancy.OCCUPIED, octree.lookup(-1, -1, -1));
+        assertEquals(Octree.Occupancy.FREE, octree.lookup(1, -1, -1));
+
+        // same tree with colors
+        var color = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+        color.putFloat(2).put(new byte[] {1, 2, 3}).put((byte) 0b11);
+        color.putFloat(2).put(new byte[] {4, 5, 6}).put((byte) 0);
+        color.putFloat(-2).put(new byte[] {7, 8, 9}).put((byte) 0);
+        octree.read(Octree.COLOR_OCTREE_ID, false, 0.1, color.flip());
+        assertEquals(0x040506, octree.getColor(octree.search(-1, -1, -1)));
+        assertArrayEquals(color.array(), octree.write(false, new OctomapMessage()).data);
+        assertThrows(
+                RuntimeException.class,
+                () -> new Octree().read("OcTreeStamped", false, 0.1, ByteBuffer.allocate(0)));
+    }
+}
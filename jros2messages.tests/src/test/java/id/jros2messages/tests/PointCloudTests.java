@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jros2messages.sensor_msgs.PointCloud2Builder;
+import id.jros2messages.sensor_msgs.PointCloud2CropBoxFilter;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jros2messages.sensor_msgs.PointCloud2View;
+import id.jros2messages.sensor_msgs.PointCloud2VoxelGridFilter;
+import id.jros2messages.sensor_msgs.PointFieldTypes;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.xfunction.lang.XRE;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class PointCloudTests {
+
+    private static final Ros2MessageSerializationUtils UTILS = new Ros2MessageSerializationUtils();
+
+    @Test
+    public void test_point_cloud_view_fields() {
+        var fields =
+                new PointFieldMessage[] {
+                    field("x", 0, DataType.FLOAT32),
+                    field("y", 4, DataType.FLOAT32),
+                    field("intensity", 8, DataType.UINT8)
+                };
+        // 2x2 points, each row padded with 4 bytes
+        var data = ByteBuffer.allocate(2 * 28).order(ByteOrder.BIG_ENDIAN);
+        for (int i = 0; i < 4; i++) {
+            var pos = (i / 2) * 28 + (i % 2) * 12;
+            data.putFloat(pos, i).putFloat(pos + 4, -i).put(pos + 8, (byte) (250 + i));
+        }
+        var pointCloud =
+                new PointCloud2Message()
+                        .withHeight(2)
+                        .withWidth(2)
+                        .withFields(fields)
+                        .withIsBigendian(true)
+                        .withPointStep(12)
+                        .withRowStep(28)
+                        .withData(data.array());
+        var view = new PointCloud2View(ByteBuffer.wrap(UTILS.write(pointCloud)));
+        assertEquals(4, view.getPointCount());
+        assertEquals(3, view.getFieldCount());
+        var x = view.getFieldIndex("x");
+        var y = view.getFieldIndex("y");
+        var intensity = view.getFieldIndex("intensity");
+        assertEquals(-1, view.getFieldIndex("z"));
+        assertEquals(DataType.UINT8, view.getFieldDataType(intensity));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, view.getFloat(i, x));
+            assertEquals(-i, view.getDouble(i, y));
+            assertEquals(250 + i, view.getLong(i, intensity));
+            assertEquals(250 + i, view.getFloat(i, intensity));
+        }
+        // rows are padded
+        assertThrows(Exception.class, () -> view.getFloatBuffer(x));
+
+        // point step is not multiple of float size
+        pointCloud.withHeight(1).withWidth(4).withPointStep(14).withRowStep(56);
+        var stridedView = new PointCloud2View(ByteBuffer.wrap(UTILS.write(pointCloud)));
+        assertThrows(Exception.class, () -> stridedView.getFloatBuffer(y));
+        // 1x2 points without padding, each point covers whole padded row of the original cloud
+        pointCloud.withWidth(2).withPointStep(28);
+        var rowsView = new PointCloud2View(ByteBuffer.wrap(UTILS.write(pointCloud)));
+        var xs = rowsView.getFloatBuffer(x);
+        var stride = rowsView.getPointStep() / Float.BYTES;
+        assertEquals(0F, xs.get(0));
+        assertEquals(2F, xs.get(stride));
+        assertThrows(Exception.class, () -> rowsView.getDoubleBuffer(x));
+    }
+
+    /** Point cloud published by ROS with FLOAT32 x, y, z fields (datatype 7) */
+    @Test
+    public void test_point_cloud_view_ros_fields() throws Exception {
+        var data = readResource("pointcloud2");
+        var view = new PointCloud2View(ByteBuffer.wrap(data));
+        assertEquals(3, view.getFieldCount());
+        for (var name : List.of("x", "y", "z")) {
+            var field = view.getFieldIndex(name);
+            assertEquals(DataType.FLOAT32, view.getFieldDataType(field));
+            assertEquals(field * Float.BYTES, view.getFieldOffset(field));
+        }
+        var message = UTILS.read(data, PointCloud2Message.class);
+        assertEquals(DataType.FLOAT32, PointFieldTypes.of(message.fields[0].datatype));
+        assertEquals(
+                8,
+                new PointCloud2CropBoxFilter(-1e30, -1e30, -1e30, 1e30, 1e30, 1e30)
+                        .filter(message)
+                        .width);
+
+        // datatype values are 1-based, 0 and values after FLOAT64 are not valid
+        for (var datatype : new byte[] {0, 9}) {
+            message.fields[0].datatype = datatype;
+            var invalid = UTILS.write(message);
+            assertThrows(XRE.class, () -> new PointCloud2View(ByteBuffer.wrap(invalid)));
+            assertThrows(
+                    XRE.class,
+                    () -> new PointCloud2CropBoxFilter(0, 0, 0, 1, 1, 1).filter(message));
+        }
+    }
+
+    @Test
+    public void test_point_cloud_builder() {
+        var builder =
+                new PointCloud2Builder()
+                        .withField("x", DataType.FLOAT32, 1)
+                        .withField("rgb", DataType.UINT8, 3)
+                        .withField("t", DataType.FLOAT64, 1)
+                        .resize(3, 2);
+        assertEquals(15, builder.getPointStep());
+        assertEquals(45, builder.getRowStep());
+        for (int i = 0; i < builder.getPointCount(); i++) {
+            builder.setFloat(i, 0, i / 2F).setLong(i, 1, 2, 200 + i).setDouble(i, 2, i * 1.5);
+        }
+        var message = builder.build(new HeaderMessage().withFrameId("map"));
+        var data = message.data;
+        assertSame(message, builder.resize(2, 3).build(new HeaderMessage()));
+        assertSame(data, message.data);
+        var view = new PointCloud2View(ByteBuffer.wrap(UTILS.write(message)));
+        assertEquals(6, view.getPointCount());
+        assertEquals(7, view.getFieldOffset(view.getFieldIndex("t")));
+        for (int i = 0; i < view.getPointCount(); i++) {
+            assertEquals(i / 2F, view.getFloat(i, 0));
+            assertEquals(0, view.getLong(i, 1));
+            assertEquals(200 + i, view.getLong(i, 1, 2));
+            assertEquals(i * 1.5, view.getDouble(i, 2));
+        }
+    }
+
+    @Test
+    public void test_point_cloud_filters() {
+        var builder =
+                new PointCloud2Builder()
+                        .withField("x", DataType.FLOAT32, 1)
+                        .withField("y", DataType.FLOAT32, 1)
+                        .withField("z", DataType.FLOAT64, 1)
+                        .withField("intensity", DataType.UINT8, 1)
+                        .resize(4, 1);
+        float[][] xyz = {{0.1F, 0.1F, 0.1F}, {0.3F, 0.3F, 0.3F}, {1.5F, 0.2F, 0.2F}, {0, 0, -1}};
+        for (int i = 0; i < xyz.length; i++) {
+            builder.setFloat(i, 0, xyz[i][0])
+                    .setFloat(i, 1, xyz[i][1])
+                    .setFloat(i, 2, xyz[i][2])
+                    .setLong(i, 3, i);
+        }
+        var cloud = builder.build(new HeaderMessage().withFrameId("map"));
+
+        var cropped = new PointCloud2CropBoxFilter(0, 0, 0, 1, 1, 1).filter(cloud);
+        assertEquals(2, cropped.width);
+        assertEquals(1, cropped.height);
+        assertEquals(cloud.point_step * 2, cropped.row_step);
+        assertArrayEquals(Arrays.copyOf(cloud.data, 2 * cloud.point_step), cropped.data);
+
+        var downsampled = new PointCloud2VoxelGridFilter(1).filter(cloud);
+        var view = new PointCloud2View(ByteBuffer.wrap(UTILS.write(downsampled)));
+        assertEquals(3, view.getPointCount());
+        assertEquals(0.2F, view.getFloat(0, 0), 1e-6);
+        assertEquals(0.2, view.getDouble(0, 2), 1e-6);
+        assertEquals(0, view.getLong(0, 3));
+        assertEquals(1.5F, view.getFloat(1, 0));
+        assertEquals(2, view.getLong(1, 3));
+        assertEquals(-1, view.getDouble(2, 2));
+
+        // large point cloud is processed in parallel
+        var random = new Random(1);
+        builder.resize(1000, 300);
+        for (int i = 0; i < builder.getPointCount(); i++) {
+            for (int axis = 0; axis < 3; axis++)
+                builder.setFloat(i, axis, random.nextFloat() * 10 - 5);
+        }
+        cloud = builder.build(new HeaderMessage());
+        var singleThread = new ForkJoinPool(1);
+        assertEquals(
+                new PointCloud2VoxelGridFilter(0.5).withPool(singleThread).filter(cloud),
+                new PointCloud2VoxelGridFilter(0.5).filter(cloud));
+        cropped = new PointCloud2CropBoxFilter(-1, -1, -1, 1, 1, 1).filter(cloud);
+        assertEquals(
+                new PointCloud2CropBoxFilter(-1, -1, -1, 1, 1, 1)
+                        .withPool(singleThread)
+                        .filter(cloud),
+                cropped);
+        assertTrue(Math.abs(cropped.width - cloud.width * cloud.height / 125) < 500);
+        singleThread.shutdown();
+    }
+
+    @Test
+    public void test_point_cloud_voxel_grid_non_finite() {
+        var builder =
+                new PointCloud2Builder()
+                        .withField("x", DataType.FLOAT32, 1)
+                        .withField("y", DataType.FLOAT32, 1)
+                        .withField("z", DataType.FLOAT32, 1)
+                        .resize(4, 1);
+        float[][] xyz = {
+            {Float.NaN, 0, 0},
+            {0, Float.POSITIVE_INFINITY, 0},
+            {0.5F, 0.5F, 0.5F},
+            {0, 0, Float.NEGATIVE_INFINITY}
+        };
+        for (int i = 0; i < xyz.length; i++) {
+            builder.setFloat(i, 0, xyz[i][0]).setFloat(i, 1, xyz[i][1]).setFloat(i, 2, xyz[i][2]);
+        }
+        var downsampled =
+                new PointCloud2VoxelGridFilter(0.1).filter(builder.build(new HeaderMessage()));
+        var view = new PointCloud2View(ByteBuffer.wrap(UTILS.write(downsampled)));
+        assertEquals(1, view.getPointCount());
+        assertEquals(0.5F, view.getFloat(0, 0));
+        assertEquals(0.5F, view.getFloat(0, 1));
+        assertEquals(0.5F, view.getFloat(0, 2));
+    }
+
+    private static PointFieldMessage field(String name, int offset, DataType type) {
+        var field = new PointFieldMessage().withName(name).withOffset(offset).withCount(1);
+        field.datatype = PointFieldTypes.toByte(type);
+        return field;
+    }
+
+    /** Reads message bytes stored as hex text in the test resources */
+    private static byte[] readResource(String name) throws Exception {
+        try (var in = PointCloudTests.class.getResourceAsStream(name)) {
+            return HexFormat.of().parseHex(new String(in.readAllBytes()).replaceAll("\\s", ""));
+        }
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.Ros2MessageMetrics;
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jros2messages.impl.ByteBufferDataOutput;
+import id.jros2messages.impl.CountingDataOutput;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.sensor_msgs.JointStateMessage;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jros2messages.sensor_msgs.PointCloud2View;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jros2messages.tests.msgs.Int16TestMessage;
+import id.jros2messages.visualization_msgs.MarkerArrayMessage;
+import id.jros2messages.visualization_msgs.MarkerMessage;
+import id.jrosmessages.Message;
+import id.jrosmessages.geometry_msgs.PointMessage;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.std_msgs.EmptyMessage;
+import id.kineticstreamer.KineticStreamController;
+import id.xfunction.logging.TracingToken;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class SerializationTests {
+
+    private static final Ros2MessageSerializationUtils UTILS = new Ros2MessageSerializationUtils();
+
+    static Stream<Message> serializeDataProvider() {
+        return Stream.of(
+                new EmptyMessage(),
+                new PointMessage().withX(1.0).withY(1.0).withZ(1.0),
+                new HeaderMessage().withFrameId("map").withStamp(new Time(1616650098, 493819000)),
+                new JointStateMessage()
+                        .withNames("joint_0", "joint_1")
+                        .withPositions(new double[] {0.0, 0.767944870877505}),
+                new PointCloud2Message()
+                        .withHeader(new HeaderMessage().withFrameId("map"))
+                        .withHeight(1)
+                        .withWidth(2)
+                        .withPointStep(4)
+                        .withRowStep(8)
+                        .withData(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializeDataProvider")
+    public void test_serialize_to_buffer(Message message) {
+        var expected = UTILS.write(message);
+        // use offset which breaks 8 bytes alignment to make sure that CDR alignment
+        // is calculated relative to the message start
+        var offset = 3;
+        var buf = ByteBuffer.allocateDirect(expected.length + offset + 5);
+        buf.position(offset);
+        assertEquals(expected.length, UTILS.serialize(message, buf));
+        assertEquals(expected.length + offset, buf.position());
+        var actual = new byte[expected.length];
+        buf.position(offset);
+        buf.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializeDataProvider")
+    public void test_serialized_size(Message message) {
+        assertEquals(UTILS.write(message).length, UTILS.serializedSize(message));
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializeDataProvider")
+    public void test_read_reuse(Message message) throws Exception {
+        var data = UTILS.write(message);
+        var reuse = message.getClass().getConstructor().newInstance();
+        assertSame(reuse, UTILS.read(ByteBuffer.wrap(data), reuse));
+        assertEquals(message, reuse);
+    }
+
+    @Test
+    public void test_read_reuse_arrays() {
+        var message =
+                new JointStateMessage()
+                        .withHeader(new HeaderMessage().withFrameId("map"))
+                        .withNames("joint_0", "joint_1")
+                        .withPositions(new double[] {0.1, 0.2})
+                        .withVelocities(new double[] {0.3, 0.4});
+        var data = UTILS.write(message);
+        var reuse = UTILS.read(data, JointStateMessage.class);
+        var header = reuse.header;
+        var positions = reuse.position;
+        UTILS.read(ByteBuffer.wrap(data), reuse);
+        assertSame(header, reuse.header);
+        assertSame(positions, reuse.position);
+        assertEquals(message, reuse);
+        // length mismatch
+        message.withPositions(new double[] {0.1, 0.2, 0.3});
+        UTILS.read(ByteBuffer.wrap(UTILS.write(message)), reuse);
+        assertNotSame(positions, reuse.position);
+        assertEquals(message, reuse);
+    }
+
+    @Test
+    public void test_read_parallel() throws Exception {
+        var markers = new MarkerMessage[3000];
+        for (int i = 0; i < markers.length; i++) {
+            markers[i] =
+                    new MarkerMessage()
+                            .withHeader(new HeaderMessage().withFrameId("marker" + i))
+                            .withId(i);
+            markers[i].points = new PointMessage[] {new PointMessage(i, 0, 0)};
+        }
+        var markerArray = new MarkerArrayMessage().withMarkers(markers);
+        var cloud = new PointCloud2Message().withData(new byte[10 * 1024 * 1024 + 3]);
+        new Random(1).nextBytes(cloud.data);
+        var executor = Executors.newFixedThreadPool(3);
+        try {
+            var utils = new Ros2MessageSerializationUtils().withParallelDecoding(executor);
+            assertEquals(
+                    markerArray, utils.read(UTILS.write(markerArray), MarkerArrayMessage.class));
+            assertEquals(cloud, utils.read(UTILS.write(cloud), PointCloud2Message.class));
+            // reuse
+            var reuse = new MarkerArrayMessage().withMarkers(new MarkerMessage[markers.length]);
+            reuse.markers[7] = new MarkerMessage();
+            var marker = reuse.markers[7];
+            utils.read(ByteBuffer.wrap(UTILS.write(markerArray)), reuse);
+            assertSame(marker, reuse.markers[7]);
+            assertEquals(markerArray, reuse);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_read_parallel_truncated() throws Exception {
+        var markers = new MarkerMessage[3000];
+        for (int i = 0; i < markers.length; i++) {
+            markers[i] = new MarkerMessage().withId(i);
+        }
+        var markerArray = UTILS.write(new MarkerArrayMessage().withMarkers(markers));
+        var cloud = UTILS.write(new PointCloud2Message().withData(new byte[10 * 1024 * 1024]));
+        var executor = Executors.newFixedThreadPool(3);
+        try {
+            var utils = new Ros2MessageSerializationUtils().withParallelDecoding(executor);
+            // parallel decoding fails same way as sequential one
+            var truncatedCloud = ByteBuffer.wrap(cloud, 0, cloud.length - 100).slice();
+            var expected =
+                    assertThrows(
+                            RuntimeException.class,
+                            () -> UTILS.read(truncatedCloud.duplicate(), PointCloud2Message.class));
+            var actual =
+                    assertThrows(
+                            RuntimeException.class,
+                            () -> utils.read(truncatedCloud.duplicate(), PointCloud2Message.class));
+            assertEquals(expected.getClass(), actual.getClass());
+            assertEquals(rootCause(expected).getClass(), rootCause(actual).getClass());
+            var reuse = new MarkerArrayMessage().withMarkers(new MarkerMessage[markers.length]);
+            var truncatedArray = ByteBuffer.wrap(markerArray, 0, markerArray.length - 100).slice();
+            expected =
+                    assertThrows(
+                            RuntimeException.class,
+                            () -> UTILS.read(truncatedArray.duplicate(), reuse));
+            actual =
+                    assertThrows(
+                            RuntimeException.class,
+                            () -> utils.read(truncatedArray.duplicate(), reuse));
+            assertEquals(expected.getClass(), actual.getClass());
+            assertEquals(rootCause(expected).getClass(), rootCause(actual).getClass());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        while (e.getCause() != null) e = e.getCause();
+        return e;
+    }
+
+    @Test
+    public void test_strings_utf8() {
+        var utils = new Ros2MessageSerializationUtils().withStringInternCache(16);
+        var message =
+                new JointStateMessage()
+                        .withHeader(
+                                new HeaderMessage().withFrameId("\u043a\u0430\u0440\u0442\u0430"))
+                        .withNames(
+                                "joint_0", "\u0440\u0443\u0447\u043a\u0430_\ud83d\ude00", "\ud800");
+        var data = utils.write(message);
+        // frame_id length: 10 bytes of UTF-8 and null byte
+        assertEquals(11, ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).getInt(8));
+        assertEquals(data.length, utils.serializedSize(message));
+        var buf = ByteBuffer.allocateDirect(data.length);
+        utils.serialize(message, buf);
+        var direct = new byte[data.length];
+        buf.flip().get(direct).flip();
+        assertArrayEquals(data, direct);
+        var a = utils.read(data, JointStateMessage.class);
+        var b = utils.read(buf, JointStateMessage.class);
+        message.withNames("joint_0", "\u0440\u0443\u0447\u043a\u0430_\ud83d\ude00", "?");
+        assertEquals(message, a);
+        assertEquals(message, b);
+        assertSame(a.header.frame_id, b.header.frame_id);
+        assertSame(a.name[1], b.name[1]);
+    }
+
+    @Test
+    public void test_metrics() {
+        var metricReader = InMemoryMetricReader.create();
+        var meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+        var utils = new Ros2MessageSerializationUtils(meterProvider.get("test"));
+        var message =
+                new JointStateMessage()
+                        .withNames("joint_0", "joint_1")
+                        .withPositions(new double[] {0.1, 0.2});
+        var data = utils.write(message);
+        utils.read(data, JointStateMessage.class);
+        assertThrows(
+                RuntimeException.class, () -> utils.read(new byte[3], JointStateMessage.class));
+        var metrics =
+                metricReader.collectAllMetrics().stream()
+                        .collect(Collectors.toMap(MetricData::getName, Function.identity()));
+        var encodeBytes =
+                metrics.get(Ros2MessageMetrics.ENCODE_BYTES_METRIC)
+                        .getHistogramData()
+                        .getPoints()
+                        .iterator()
+                        .next();
+        assertEquals(data.length, encodeBytes.getSum());
+        assertEquals(
+                "sensor_msgs/JointState",
+                encodeBytes
+                        .getAttributes()
+                        .get(AttributeKey.stringKey(Ros2MessageMetrics.MESSAGE_TYPE_ATTR)));
+        var decodeTime =
+                metrics.get(Ros2MessageMetrics.DECODE_TIME_METRIC)
+                        .getHistogramData()
+                        .getPoints()
+                        .iterator()
+                        .next();
+        assertEquals(1, decodeTime.getCount());
+        assertEquals("s", metrics.get(Ros2MessageMetrics.DECODE_TIME_METRIC).getUnit());
+        assertTrue(decodeTime.getSum() > 0);
+        var decodeErrors =
+                metrics.get(Ros2MessageMetrics.DECODE_ERRORS_METRIC)
+                        .getLongSumData()
+                        .getPoints()
+                        .iterator()
+                        .next();
+        assertEquals(1, decodeErrors.getValue());
+    }
+
+    @Test
+    public void test_metrics_global_meter() {
+        GlobalOpenTelemetry.resetForTest();
+        try {
+            var utils = new Ros2MessageSerializationUtils();
+            new PointCloud2View(ByteBuffer.wrap(UTILS.write(new PointCloud2Message()))).getHeader();
+            var metricReader = InMemoryMetricReader.create();
+            GlobalOpenTelemetry.set(
+                    OpenTelemetrySdk.builder()
+                            .setMeterProvider(
+                                    SdkMeterProvider.builder()
+                                            .registerMetricReader(metricReader)
+                                            .build())
+                            .build());
+            utils.write(new PointMessage());
+            assertTrue(
+                    metricReader.collectAllMetrics().stream()
+                            .anyMatch(
+                                    m ->
+                                            m.getName()
+                                                    .equals(
+                                                            Ros2MessageMetrics
+                                                                    .ENCODE_TIME_METRIC)));
+        } finally {
+            GlobalOpenTelemetry.resetForTest();
+        }
+    }
+
+    @Test
+    public void test_serialize_to_buffer_overflow() {
+        var buf = ByteBuffer.allocate(10);
+        buf.position(1);
+        assertThrows(
+                BufferOverflowException.class,
+                () -> UTILS.serialize(new PointMessage().withX(1.0).withY(1.0).withZ(1.0), buf));
+        assertEquals(1, buf.position());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "ros2", "\u0000", "h\u00e9llo", "\u65e5\u672c"})
+    public void test_write_utf(String str) throws Exception {
+        var expected = new ByteArrayOutputStream();
+        new DataOutputStream(expected).writeUTF(str);
+        var buf = ByteBuffer.allocate(20);
+        var out = new ByteBufferDataOutput(buf);
+        out.writeUTF(str);
+        out.commit();
+        assertArrayEquals(expected.toByteArray(), Arrays.copyOf(buf.array(), buf.position()));
+        var counter = new CountingDataOutput();
+        counter.writeUTF(str);
+        assertEquals(expected.size(), counter.size());
+    }
+
+    @Test
+    public void test_int16_alignment() {
+        var message = new Int16TestMessage();
+        message.first_int16 = -2;
+        message.int32 = 3;
+        message.flag = true;
+        message.second_int16 = 0x0102;
+        message.float64 = 1.5;
+        message.int16_array = new short[] {4, 5};
+        message.bool_array = new boolean[] {true, false};
+        var expected =
+                HexFormat.of()
+                        .parseHex(
+                                // first_int16, padding, int32
+                                "feff0000"
+                                        + "03000000"
+                                        // flag, padding, second_int16, padding
+                                        + "01000201"
+                                        + "00000000"
+                                        // float64
+                                        + "000000000000f83f"
+                                        // int16_array
+                                        + "02000000"
+                                        + "04000500"
+                                        // bool_array
+                                        + "02000000"
+                                        + "0100");
+        assertArrayEquals(expected, UTILS.write(message));
+        assertEquals(expected.length, UTILS.serializedSize(message));
+        var buf = ByteBuffer.allocate(100);
+        UTILS.serialize(message, buf);
+        assertArrayEquals(expected, Arrays.copyOf(buf.array(), buf.position()));
+        assertEquals(message, UTILS.read(expected, Int16TestMessage.class));
+    }
+
+    @Test
+    public void test_primitive_arrays() throws Exception {
+        var buf = ByteBuffer.allocate(100);
+        var bufOut = new ByteBufferDataOutput(buf);
+        var out =
+                new DdsDataOutput(new TracingToken("test"), bufOut, new KineticStreamController());
+        out.writeShortArray(new short[] {4, -5}, EMPTY_ANNOTATIONS);
+        out.writeLongArray(new long[] {Long.MIN_VALUE}, EMPTY_ANNOTATIONS);
+        out.writeBooleanArray(new boolean[] {true, false, true}, EMPTY_ANNOTATIONS);
+        bufOut.commit();
+        buf.flip();
+        var expected =
+                HexFormat.of()
+                        .parseHex(
+                                // int16[2]
+                                "02000000"
+                                        + "0400fbff"
+                                        // int64[1] length, padding, data
+                                        + "01000000"
+                                        + "00000000"
+                                        + "0000000000000080"
+                                        // bool[3]
+                                        + "03000000"
+                                        + "010001");
+        assertArrayEquals(expected, Arrays.copyOf(buf.array(), buf.limit()));
+
+        // arrays of the same length are reused
+        var shorts = new short[2];
+        var longs = new long[1];
+        var bools = new boolean[3];
+        var in = new DdsDataInput(new TracingToken("test"), buf, new KineticStreamController());
+        assertSame(shorts, in.readShortArray(shorts, EMPTY_ANNOTATIONS));
+        assertArrayEquals(new short[] {4, -5}, shorts);
+        assertSame(longs, in.readLongArray(longs, EMPTY_ANNOTATIONS));
+        assertArrayEquals(new long[] {Long.MIN_VALUE}, longs);
+        assertSame(bools, in.readBooleanArray(bools, EMPTY_ANNOTATIONS));
+        assertArrayEquals(new boolean[] {true, false, true}, bools);
+        assertEquals(buf.limit(), buf.position());
+
+        // otherwise new arrays are allocated
+        buf.rewind();
+        in = new DdsDataInput(new TracingToken("test"), buf, new KineticStreamController());
+        assertArrayEquals(new short[] {4, -5}, in.readShortArray(new short[5], EMPTY_ANNOTATIONS));
+        assertArrayEquals(
+                new long[] {Long.MIN_VALUE}, in.readLongArray(new long[0], EMPTY_ANNOTATIONS));
+        assertArrayEquals(
+                new boolean[] {true, false, true}, in.readBooleanArray(null, EMPTY_ANNOTATIONS));
+    }
+}
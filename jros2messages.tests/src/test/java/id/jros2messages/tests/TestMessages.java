@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import id.jros2messages.geometry_msgs.PolygonStampedMessage;
+import id.jros2messages.sensor_msgs.JointStateMessage;
+import id.jros2messages.sensor_msgs.JoyMessage;
+import id.jros2messages.sensor_msgs.MultiDOFJointStateMessage;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jros2messages.trajectory_msgs.JointTrajectoryMessage;
+import id.jros2messages.unique_identifier_msgs.UUIDMessage;
+import id.jros2messages.vision_msgs.ObjectHypothesisWithPoseMessage;
+import id.jros2messages.visualization_msgs.MarkerArrayMessage;
+import id.jros2messages.visualization_msgs.MarkerMessage;
+import id.jrosmessages.Message;
+import id.jrosmessages.geometry_msgs.Point32Message;
+import id.jrosmessages.geometry_msgs.PointMessage;
+import id.jrosmessages.geometry_msgs.PolygonMessage;
+import id.jrosmessages.geometry_msgs.PoseMessage;
+import id.jrosmessages.geometry_msgs.PoseWithCovarianceMessage;
+import id.jrosmessages.geometry_msgs.QuaternionMessage;
+import id.jrosmessages.geometry_msgs.TransformMessage;
+import id.jrosmessages.geometry_msgs.TwistMessage;
+import id.jrosmessages.geometry_msgs.Vector3Message;
+import id.jrosmessages.geometry_msgs.WrenchMessage;
+import id.jrosmessages.primitives.Duration;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.sensor_msgs.PointFieldMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.jrosmessages.std_msgs.ColorRGBAMessage;
+import id.jrosmessages.std_msgs.EmptyMessage;
+import id.jrosmessages.std_msgs.StringMessage;
+import id.jrosmessages.tests.msgs.TestMessage;
+import id.jrosmessages.trajectory_msgs.JointTrajectoryPointMessage;
+import id.xfunction.lang.XRE;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Messages for which serialized form is stored in test resources (see {@link JRos2MessageTests}).
+ *
+ * <p>Also used by benchmarks.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class TestMessages {
+
+    private static final Map<String, Supplier<Message>> MESSAGES = new LinkedHashMap<>();
+
+    static {
+        MESSAGES.put(
+                "Test",
+                () ->
+                        new TestMessage()
+                                .withData(123)
+                                .withBoolArray(new boolean[] {true, false})
+                                .withBoolFixedArray(new boolean[] {true, true, true}));
+        MESSAGES.put("string-empty-ros2", StringMessage::new);
+        MESSAGES.put("point-empty", PointMessage::new);
+        MESSAGES.put("point", () -> new PointMessage().withX(1.0).withY(1.0).withZ(1.0));
+        MESSAGES.put("point32", () -> new Point32Message().withX(1.0F).withY(1.0F).withZ(1.0F));
+        MESSAGES.put("quaternion-empty", QuaternionMessage::new);
+        MESSAGES.put(
+                "quaternion",
+                () -> new QuaternionMessage().withX(1.0).withY(1.0).withZ(1.0).withW(3.0));
+        MESSAGES.put("pose-empty", PoseMessage::new);
+        MESSAGES.put(
+                "pose",
+                () ->
+                        new PoseMessage()
+                                .withPosition(new PointMessage().withX(1.0).withY(1.0).withZ(1.0))
+                                .withQuaternion(
+                                        new QuaternionMessage()
+                                                .withX(1.0)
+                                                .withY(1.0)
+                                                .withZ(1.0)
+                                                .withW(3.0)));
+        MESSAGES.put("colorrgba-empty", ColorRGBAMessage::new);
+        MESSAGES.put(
+                "colorrgba",
+                () -> new ColorRGBAMessage().withR(.12F).withG(.13F).withB(.14F).withA(.15F));
+        MESSAGES.put("vector3-empty", Vector3Message::new);
+        MESSAGES.put("vector3", () -> new Vector3Message().withX(.12).withY(.13).withZ(.14));
+        MESSAGES.put(
+                "polygonstamped",
+                () ->
+                        new PolygonStampedMessage()
+                                .withHeader(
+                                        new HeaderMessage()
+                                                .withStamp(new Time(0, 1111))
+                                                .withFrameId("aaaa"))
+                                .withPolygon(
+                                        new PolygonMessage()
+                                                .withPoints(
+                                                        new Point32Message[] {
+                                                            new Point32Message(2F, 2F, 0F),
+                                                            new Point32Message(1F, 2F, 3F),
+                                                            new Point32Message(0F, 0F, 0F)
+                                                        })));
+        MESSAGES.put("header-empty", HeaderMessage::new);
+        MESSAGES.put(
+                "header",
+                () -> new HeaderMessage().withStamp(new Time(0, 1111)).withFrameId("aaaa"));
+        MESSAGES.put("marker-empty", MarkerMessage::new);
+        MESSAGES.put(
+                "marker-array",
+                () ->
+                        new MarkerArrayMessage()
+                                .withMarkers(
+                                        new MarkerMessage()
+                                                .withHeader(new HeaderMessage().withFrameId("/map"))
+                                                .withNs(
+                                                        new StringMessage()
+                                                                .withData("basic_shapes"))
+                                                .withType(MarkerMessage.Type.CUBE)
+                                                .withAction(MarkerMessage.Action.ADD)
+                                                .withPose(
+                                                        new PoseMessage()
+                                                                .withPosition(
+                                                                        new PointMessage()
+                                                                                .withX(1.0)
+                                                                                .withY(0.0)
+                                                                                .withZ(2.0))
+                                                                .withQuaternion(
+                                                                        new QuaternionMessage()
+                                                                                .withX(0.0)
+                                                                                .withY(0.0)
+                                                                                .withZ(0.0)
+                                                                                .withW(1.0)))
+                                                .withScale(
+                                                        new Vector3Message()
+                                                                .withX(0.05)
+                                                                .withY(0.05)
+                                                                .withZ(0.05))
+                                                .withColor(
+                                                        new ColorRGBAMessage()
+                                                                .withR(0.8F)
+                                                                .withG(0.1F)
+                                                                .withB(0.1F)
+                                                                .withA(1.0F))
+                                                .withText(new StringMessage().withData("aa"))
+                                                .withLifetime(new Duration())
+                                                .withFrameLocked(true)
+                                                .withMeshUseEmbeddedMaterials(true)));
+        MESSAGES.put(
+                "pointcloud2",
+                () ->
+                        new PointCloud2Message()
+                                .withHeader(
+                                        new HeaderMessage()
+                                                .withFrameId("map")
+                                                .withStamp(new Time(1616650098, 493819000)))
+                                .withHeight(1)
+                                .withIsDense(true)
+                                .withPointStep(12)
+                                .withFields(
+                                        new PointFieldMessage()
+                                                .withName("x")
+                                                .withOffset(0)
+                                                .withCount(1)
+                                                .withDataType(DataType.FLOAT64),
+                                        new PointFieldMessage()
+                                                .withName("y")
+                                                .withOffset(4)
+                                                .withCount(1)
+                                                .withDataType(DataType.FLOAT64),
+                                        new PointFieldMessage()
+                                                .withName("z")
+                                                .withOffset(8)
+                                                .withCount(1)
+                                                .withDataType(DataType.FLOAT64))
+                                .withData("a".repeat(96).getBytes())
+                                .withRowStep(96)
+                                .withWidth(8));
+        MESSAGES.put(
+                "joint-state",
+                () ->
+                        new JointStateMessage()
+                                .withHeader(
+                                        new HeaderMessage()
+                                                .withStamp(new Time(1621056685, 970860000)))
+                                .withNames("joint_0", "joint_1", "joint_2", "joint_3", "joint_4")
+                                .withPositions(
+                                        new double[] {0.0, 0.0, 0.0, 0.767944870877505, 0.0}));
+        MESSAGES.put("uuid", () -> new UUIDMessage(new UUID(0x10101020, 0x30101040)));
+        MESSAGES.put(
+                "joy",
+                () ->
+                        new JoyMessage()
+                                .withHeader(
+                                        new HeaderMessage()
+                                                .withStamp(new Time(1621056685, 970860000)))
+                                .withAxes(3.3F, 3.2F, 3.1F)
+                                .withButtons(5, 6, 7));
+        MESSAGES.put(
+                "obj_hypothesis",
+                () ->
+                        new ObjectHypothesisWithPoseMessage()
+                                .withPose(
+                                        new PoseWithCovarianceMessage()
+                                                .withCovariance(
+                                                        1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13,
+                                                        14, 15.56, 16, 17, 18, 19, 20, 21, 22, 23,
+                                                        24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34,
+                                                        35, 36)));
+        /*
+         *
+        ros2 topic pub -r 10 helloRos "sensor_msgs/MultiDOFJointState" '
+        header:
+          stamp: {sec: 123}
+          frame_id: "aaa"
+        joint_names: ["joint1", "joint2"]
+        transforms:
+          - translation: {x: 1, y: 2, z: 3}
+            rotation: {x: 4,y: 5,z: 6,w: 7}
+          - translation: {x: 8, y: 9, z: 10}
+            rotation: {x: 11,y: 12,z: 13,w: 14}
+        twist:
+          - linear: {x: 11, y: 12, z: 13}
+            angular: {x: 14, y: 15, z: 16}
+          - linear: {x: 18, y: 19, z: 110}
+            angular: {x: 111, y: 112, z: 113}
+        wrench:
+          - force: {x: 11, y: 12, z: 13}
+            torque: {x: 14, y: 15, z: 16}
+          - force: {x: 18, y: 19, z: 110}
+            torque: {x: 111, y: 112, z: 113}
+        '
+        *
+        */
+        MESSAGES.put(
+                "MultiDOFJointState",
+                () ->
+                        new MultiDOFJointStateMessage()
+                                .withHeader(new HeaderMessage().withFrameId("aaa"))
+                                .withJointNames(
+                                        new StringMessage("joint1"), new StringMessage("joint2"))
+                                .withTransforms(
+                                        new TransformMessage()
+                                                .withTranslation(new Vector3Message(1, 2, 3))
+                                                .withRotation(
+                                                        new QuaternionMessage(4., 5., 6., 7.)),
+                                        new TransformMessage()
+                                                .withTranslation(new Vector3Message(8, 9, 10))
+                                                .withRotation(
+                                                        new QuaternionMessage(11, 12, 13, 14)))
+                                .withTwist(
+                                        new TwistMessage()
+                                                .withLinear(new Vector3Message(11, 12, 13))
+                                                .withAngular(new Vector3Message(14, 15, 16)),
+                                        new TwistMessage()
+                                                .withLinear(new Vector3Message(18, 19, 110))
+                                                .withAngular(new Vector3Message(111, 112, 113)))
+                                .withWrench(
+                                        new WrenchMessage()
+                                                .withForce(new Vector3Message(11, 12, 13))
+                                                .withTorque(new Vector3Message(14, 15, 16)),
+                                        new WrenchMessage()
+                                                .withForce(new Vector3Message(18, 19, 110))
+                                                .withTorque(new Vector3Message(111, 112, 113))));
+        /*
+         *
+         ros2 topic pub -r 10 helloRos "trajectory_msgs/JointTrajectory" '
+         header:
+           stamp: {sec: 123}
+           frame_id: "aaa"
+         joint_names: ["joint1", "joint2"]
+         points:
+           - positions: [1,2,3]
+             velocities: [4,5,6,7]
+             accelerations: [8,9,10]
+             effort: [11,12,13,14]
+             time_from_start:  {sec: 333}
+           - positions: [11,12,13]
+             velocities: [14,15,16,17]
+             accelerations: [18,19,10]
+             effort: [1,2,3,4]
+             time_from_start:  {sec: 54}
+         '
+        *
+        */
+        MESSAGES.put(
+                "JointTrajectory",
+                () ->
+                        new JointTrajectoryMessage()
+                                .withHeader(
+                                        new HeaderMessage()
+                                                .withStamp(new Time(123, 0))
+                                                .withFrameId("aaa"))
+                                .withJointNames(
+                                        new StringMessage("joint1"), new StringMessage("joint2"))
+                                .withPoints(
+                                        new JointTrajectoryPointMessage()
+                                                .withPositions(1, 2, 3)
+                                                .withVelocities(4, 5, 6, 7)
+                                                .withAccelerations(8, 9, 10)
+                                                .withEffort(11, 12, 13, 14)
+                                                .withTimeFromStart(new Duration(333)),
+                                        new JointTrajectoryPointMessage()
+                                                .withPositions(11, 12, 13)
+                                                .withVelocities(14, 15, 16, 17)
+                                                .withAccelerations(18, 19, 10)
+                                                .withEffort(1, 2, 3, 4)
+                                                .withTimeFromStart(new Duration(54))));
+        /** ros2 topic pub -r 10 helloRos "std_msgs/Empty" '{}' */
+        MESSAGES.put("empty", EmptyMessage::new);
+    }
+
+    /** Names of all available messages, same as the names of their resource files */
+    public static final List<String> NAMES = List.copyOf(MESSAGES.keySet());
+
+    public static Message create(String name) {
+        var message = MESSAGES.get(name);
+        if (message == null) throw new XRE("Unknown test message %s", name);
+        return message.get();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.geometry_msgs.TransformBuffer;
+import id.jros2messages.geometry_msgs.TransformStampedMessage;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.geometry_msgs.QuaternionMessage;
+import id.jrosmessages.geometry_msgs.TransformMessage;
+import id.jrosmessages.geometry_msgs.Vector3Message;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.std_msgs.StringMessage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class TransformBufferTests {
+
+    private static TransformStampedMessage transform(
+            String parent, String child, int sec, double x, double yaw) {
+        return new TransformStampedMessage()
+                .withHeader(new HeaderMessage().withFrameId(parent).withStamp(new Time(sec, 0)))
+                .withChildFrameId(new StringMessage(child))
+                .withTransform(
+                        new TransformMessage()
+                                .withTranslation(new Vector3Message(x, 0, 0))
+                                .withRotation(
+                                        new QuaternionMessage(
+                                                0, 0, Math.sin(yaw / 2), Math.cos(yaw / 2))));
+    }
+
+    @Test
+    public void test_transform_buffer() {
+        var buffer = new TransformBuffer();
+        buffer.addStatic(transform("map", "odom", 0, 1, 0));
+        buffer.add(transform("odom", "base", 1, 0, 0));
+        buffer.add(transform("odom", "base", 2, 2, Math.PI / 2));
+        var camera = transform("base", "camera", 0, 0, 0);
+        camera.transform.translation.y = 1;
+        buffer.addStatic(camera);
+
+        // interpolated
+        var t = buffer.lookup("map", "base", new Time(1, 500_000_000)).transform;
+        assertEquals(2, t.translation.x, 1e-9);
+        assertEquals(Math.sin(Math.PI / 8), t.rotation.z, 1e-9);
+        assertEquals(Math.cos(Math.PI / 8), t.rotation.w, 1e-9);
+        // inverse
+        t = buffer.lookup("base", "map", new Time(1, 0)).transform;
+        assertEquals(-1, t.translation.x, 1e-9);
+        // latest with the chain through the frame with rotation
+        var latest = buffer.lookup("map", "camera", new Time());
+        assertEquals(2, latest.header.stamp.sec);
+        assertEquals("map", latest.header.frame_id);
+        assertEquals("camera", latest.child_frame_id.data);
+        assertEquals(2, latest.transform.translation.x, 1e-9);
+        assertEquals(0, latest.transform.translation.y, 1e-9);
+        // between siblings
+        t = buffer.lookup("camera", "odom", new Time(2, 0)).transform;
+        assertEquals(0, t.translation.x, 1e-9);
+        assertEquals(1, t.translation.y, 1e-9);
+
+        assertFalse(buffer.canTransform("map", "base", new Time(3, 0)));
+        assertFalse(buffer.canTransform("map", "base", new Time(0, 1)));
+        assertFalse(buffer.canTransform("map", "unknown", new Time()));
+        assertThrows(RuntimeException.class, () -> buffer.lookup("map", "base", new Time(3, 0)));
+
+        // re-parenting invalidates the cached chain
+        buffer.add(transform("world", "base", 5, 10, 0));
+        assertFalse(buffer.canTransform("map", "base", new Time()));
+        assertEquals(
+                10, buffer.lookup("world", "camera", new Time()).transform.translation.x, 1e-9);
+
+        // old transforms are dropped
+        var shortBuffer = new TransformBuffer().withCacheDuration(java.time.Duration.ofSeconds(1));
+        for (int i = 0; i < 100; i++) shortBuffer.add(transform("odom", "base", i, i, 0));
+        assertTrue(shortBuffer.canTransform("odom", "base", new Time(98, 500)));
+        assertFalse(shortBuffer.canTransform("odom", "base", new Time(97, 0)));
+    }
+
+    @Test
+    public void test_transform_buffer_concurrent() throws Exception {
+        var buffer = new TransformBuffer().withCacheDuration(java.time.Duration.ofDays(1));
+        buffer.add(transform("odom", "base", 1, 0, 0));
+        var writer =
+                new Thread(
+                        () -> {
+                            for (int i = 2; i < 20_000; i++)
+                                buffer.add(transform("odom", "base", i, i, i * 0.1));
+                        });
+        writer.start();
+        // lookups race with the writer which appends new transforms and grows the buffer
+        while (writer.isAlive()) {
+            var latest = buffer.lookup("odom", "base", new Time()).header.stamp.sec;
+            if (latest < 2) continue;
+            var r = buffer.lookup("odom", "base", new Time(latest - 1, 500_000_000)).transform;
+            assertEquals(latest - 0.5, r.translation.x, 1e-6);
+            var q = r.rotation;
+            assertEquals(1, q.x * q.x + q.y * q.y + q.z * q.z + q.w * q.w, 1e-9);
+        }
+        writer.join();
+    }
+}
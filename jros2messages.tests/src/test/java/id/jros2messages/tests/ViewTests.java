@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jros2messages.octomap_msgs.OctomapMessage;
+import id.jros2messages.octomap_msgs.OctomapView;
+import id.jros2messages.sensor_msgs.CompressedImageMessage;
+import id.jros2messages.sensor_msgs.CompressedImageView;
+import id.jros2messages.sensor_msgs.ImageEncoding;
+import id.jros2messages.sensor_msgs.ImageMessage;
+import id.jros2messages.sensor_msgs.ImageView;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jros2messages.sensor_msgs.PointCloud2View;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.sensor_msgs.PointFieldMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.jrosmessages.std_msgs.StringMessage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class ViewTests {
+
+    private static final Ros2MessageSerializationUtils UTILS = new Ros2MessageSerializationUtils();
+
+    @Test
+    public void test_views() {
+        var header =
+                new HeaderMessage()
+                        .withFrameId("camera")
+                        .withStamp(new Time(1616650098, 493819000));
+        var buf = ByteBuffer.allocate(1000);
+        var pointCloud =
+                new PointCloud2Message()
+                        .withHeader(header)
+                        .withHeight(1)
+                        .withWidth(2)
+                        .withFields(
+                                new PointFieldMessage()
+                                        .withName("x")
+                                        .withOffset(0)
+                                        .withCount(1)
+                                        .withDataType(DataType.FLOAT64))
+                        .withPointStep(4)
+                        .withRowStep(8)
+                        .withData(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})
+                        .withIsDense(true);
+        UTILS.serialize(pointCloud, buf);
+        var pointCloudView = new PointCloud2View(buf.flip());
+        assertEquals(header, pointCloudView.getHeader());
+        assertEquals(1, pointCloudView.getHeight());
+        assertEquals(2, pointCloudView.getWidth());
+        assertEquals(4, pointCloudView.getPointStep());
+        assertEquals(8, pointCloudView.getRowStep());
+        assertFalse(pointCloudView.isBigendian());
+        assertTrue(pointCloudView.isDense());
+        assertEquals(ByteBuffer.wrap(pointCloud.data), pointCloudView.getData());
+        assertTrue(pointCloudView.getData().isReadOnly());
+        assertEquals(pointCloud, pointCloudView.toMessage());
+
+        var image =
+                new ImageMessage()
+                        .withHeader(header)
+                        .withHeight(2)
+                        .withWidth(1)
+                        .withEncoding(ImageEncoding.RGB8)
+                        .withStep(3)
+                        .withData(new byte[] {1, 2, 3, 4, 5, 6});
+        UTILS.serialize(image, buf.clear());
+        var imageView = new ImageView(buf.flip());
+        assertEquals(header, imageView.getHeader());
+        assertEquals(2, imageView.getHeight());
+        assertEquals(1, imageView.getWidth());
+        assertEquals(image.encoding.data, imageView.getEncoding());
+        assertEquals(3, imageView.getStep());
+        assertEquals(ByteBuffer.wrap(image.data), imageView.getData());
+        assertEquals(image, imageView.toMessage());
+
+        var compressedImage =
+                new CompressedImageMessage()
+                        .withHeader(header)
+                        .withFormat(new StringMessage("jpeg"))
+                        .withData(new byte[] {1, 2, 3});
+        UTILS.serialize(compressedImage, buf.clear());
+        var compressedImageView = new CompressedImageView(buf.flip());
+        assertEquals(header, compressedImageView.getHeader());
+        assertEquals("jpeg", compressedImageView.getFormat());
+        assertEquals(ByteBuffer.wrap(compressedImage.data), compressedImageView.getData());
+        assertEquals(compressedImage, compressedImageView.toMessage());
+
+        var octomap =
+                new OctomapMessage()
+                        .withHeader(header)
+                        .withBinary(true)
+                        .withId(new StringMessage("OcTree"))
+                        .withResolution(0.05)
+                        .withData(new byte[] {1, 2, 3});
+        UTILS.serialize(octomap, buf.clear());
+        var octomapView = new OctomapView(buf.flip());
+        assertEquals(header, octomapView.getHeader());
+        assertTrue(octomapView.isBinary());
+        assertEquals("OcTree", octomapView.getId());
+        assertEquals(0.05, octomapView.getResolution());
+        assertEquals(ByteBuffer.wrap(octomap.data), octomapView.getData());
+        assertEquals(octomap, octomapView.toMessage());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.tests.msgs;
+
+import id.jrosmessages.Message;
+import id.jrosmessages.MessageMetadata;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Message with int16 fields next to the fields of other sizes, so that CDR alignment after them can
+ * be checked.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@MessageMetadata(
+        name = Int16TestMessage.NAME,
+        fields = {
+            "first_int16",
+            "int32",
+            "flag",
+            "second_int16",
+            "float64",
+            "int16_array",
+            "bool_array"
+        })
+public class Int16TestMessage implements Message {
+
+    static final String NAME = "test_msgs/Int16Test";
+
+    public short first_int16;
+    public int int32;
+    public boolean flag;
+    public short second_int16;
+    public double float64;
+    public short[] int16_array = new short[0];
+    public boolean[] bool_array = new boolean[0];
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                first_int16,
+                int32,
+                flag,
+                second_int16,
+                float64,
+                Arrays.hashCode(int16_array),
+                Arrays.hashCode(bool_array));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof Int16TestMessage other)
+            return first_int16 == other.first_int16
+                    && int32 == other.int32
+                    && flag == other.flag
+                    && second_int16 == other.second_int16
+                    && float64 == other.float64
+                    && Arrays.equals(int16_array, other.int16_array)
+                    && Arrays.equals(bool_array, other.bool_array);
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "first_int16=%d, int32=%d, flag=%s, second_int16=%d, float64=%s, int16_array=%s, bool_array=%s"
+                .formatted(
+                        first_int16,
+                        int32,
+                        flag,
+                        second_int16,
+                        float64,
+                        Arrays.toString(int16_array),
+                        Arrays.toString(bool_array));
+    }
+}
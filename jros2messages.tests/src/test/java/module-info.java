@@ -20,11 +20,17 @@
  */
 open module jros2messages.tests {
     requires jros2messages;
+    requires jros2messages.imageio;
     requires id.xfunction;
+    requires id.kineticstreamer;
     requires org.junit.jupiter.api;
     requires org.junit.jupiter.params;
     requires org.junit.platform.commons;
     requires jrosmessages.tests;
+    requires io.opentelemetry.sdk;
+    requires io.opentelemetry.sdk.testing;
+    requires io.opentelemetry.sdk.metrics;
+    requires org.xerial.sqlitejdbc;
 
     exports id.jros2messages.tests;
 }
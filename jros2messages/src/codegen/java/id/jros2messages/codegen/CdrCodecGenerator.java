@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.codegen;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.kineticstreamer.StreamedFieldsProvider;
+import id.xfunction.lang.XRE;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Generates {@code CdrCodec} for each message listed in cdr-codecs.txt
+ *
+ * <p>Codecs stream message fields in the same order and with the same {@code DdsDataOutput}, {@code
+ * DdsDataInput} calls as kinetic stream does, only without reflection and boxing. Nested messages
+ * which are not listed are streamed by kinetic stream.
+ *
+ * <p>When reading, codecs fill existing message instance (if any) in place and pass existing arrays
+ * to {@code DdsDataInput} so that they can be reused.
+ *
+ * <p>Codecs also skip messages without decoding them (to find where elements of the arrays start).
+ *
+ * <p>Usage: {@code gradle generateCdrCodecs}
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class CdrCodecGenerator {
+
+    private static final String CODECS_PACKAGE = "id.jros2messages.impl.codecs";
+    private static final String SUFFIX = "CdrCodec";
+
+    /** Reuse exactly the same fields provider which is used by kinetic stream */
+    private static class FieldsProviderAccessor extends Ros2MessageSerializationUtils {
+        static StreamedFieldsProvider get() {
+            return FIELDS_PROVIDER;
+        }
+    }
+
+    private StreamedFieldsProvider fieldsProvider = FieldsProviderAccessor.get();
+    private Map<Class<?>, String> codecs = new LinkedHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: CdrCodecGenerator <OUTPUT_SOURCE_DIR> <CODECS_LIST_FILE>");
+            System.exit(1);
+        }
+        new CdrCodecGenerator().run(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    private void run(Path outputDir, Path codecsList) throws Exception {
+        for (var line : Files.readAllLines(codecsList)) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            var messageClass = Class.forName(line);
+            var codecName = messageClass.getSimpleName() + SUFFIX;
+            if (codecs.containsValue(codecName))
+                throw new XRE("Codec name %s is not unique", codecName);
+            codecs.put(messageClass, codecName);
+        }
+        var packageDir = outputDir.resolve(CODECS_PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDir);
+        try (var files = Files.list(packageDir)) {
+            for (var file : files.toList()) Files.delete(file);
+        }
+        var generated = new ArrayList<String>();
+        for (var entry : codecs.entrySet()) {
+            String source;
+            try {
+                source = generateCodec(entry.getKey(), entry.getValue());
+            } catch (UnsupportedOperationException e) {
+                System.err.format("Skipping %s: %s%n", entry.getKey().getName(), e.getMessage());
+                continue;
+            }
+            Files.writeString(packageDir.resolve(entry.getValue() + ".java"), source);
+            generated.add(entry.getValue());
+        }
+        Files.writeString(packageDir.resolve("CdrCodecsIndex.java"), generateIndex(generated));
+        System.out.format("Generated %d codecs into %s%n", generated.size(), packageDir);
+    }
+
+    private String generateIndex(List<String> generated) {
+        var buf = new StringBuilder();
+        buf.append(header());
+        buf.append("package " + CODECS_PACKAGE + ";\n\n");
+        buf.append("import id.jros2messages.impl.CdrCodec;\n");
+        buf.append("import java.util.List;\n\n");
+        buf.append("/** Generated by CdrCodecGenerator. Do not edit. */\n");
+        buf.append("public class CdrCodecsIndex {\n\n");
+        buf.append("    public static final List<CdrCodec<?>> CODECS =\n");
+        buf.append("            List.of(\n");
+        for (int i = 0; i < generated.size(); i++) {
+            buf.append("                    " + generated.get(i) + ".INSTANCE");
+            buf.append(i + 1 < generated.size() ? ",\n" : ");\n");
+        }
+        buf.append("}\n");
+        return buf.toString();
+    }
+
+    private String generateCodec(Class<?> messageClass, String codecName) throws Exception {
+        if (!Modifier.isPublic(messageClass.getModifiers()))
+            throw new UnsupportedOperationException("message class is not public");
+        try {
+            messageClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException("no public default constructor");
+        }
+        var imports = new TreeSet<String>();
+        imports.add("id.jros2messages.impl.CdrCodec");
+        imports.add("id.jros2messages.impl.DdsDataInput");
+        imports.add("id.jros2messages.impl.DdsDataOutput");
+        imports.add(messageClass.getName());
+        var constants = new StringBuilder();
+        var write = new StringBuilder();
+        var read = new StringBuilder();
+        var skip = new StringBuilder();
+        for (var field : fieldsProvider.getDeclaredStreamedFields(messageClass)) {
+            if (!Modifier.isPublic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
+                throw new UnsupportedOperationException(
+                        "field " + field.getName() + " is not public or final");
+            var annotations = "EMPTY_ANNOTATIONS";
+            if (field.getAnnotations().length != 0) {
+                annotations = field.getName().toUpperCase() + "_ANNOTATIONS";
+                imports.add("java.lang.annotation.Annotation");
+                constants.append(
+                        "    private static final Annotation[] %s =\n            CdrCodec.annotationsOf(%s.class, \"%s\");\n\n"
+                                .formatted(
+                                        annotations,
+                                        messageClass.getSimpleName(),
+                                        field.getName()));
+            }
+            generateField(field, annotations, imports, write, read, skip);
+        }
+        var message = messageClass.getSimpleName();
+        var buf = new StringBuilder();
+        buf.append(header());
+        buf.append("package " + CODECS_PACKAGE + ";\n\n");
+        if (read.indexOf("EMPTY_ANNOTATIONS") >= 0
+                || write.indexOf("EMPTY_ANNOTATIONS") >= 0
+                || skip.indexOf("EMPTY_ANNOTATIONS") >= 0)
+            buf.append(
+                    "import static"
+                            + " id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;\n\n");
+        imports.forEach(i -> buf.append("import " + i + ";\n"));
+        buf.append("\n");
+        buf.append(
+                "/** Generated by CdrCodecGenerator from {@link %s}. Do not edit. */\n"
+                        .formatted(message));
+        buf.append("public class %s implements CdrCodec<%s> {\n\n".formatted(codecName, message));
+        buf.append(
+                "    public static final %s INSTANCE = new %s();\n\n"
+                        .formatted(codecName, codecName));
+        buf.append(constants);
+        buf.append("    @Override\n");
+        buf.append("    public Class<%s> getMessageClass() {\n".formatted(message));
+        buf.append("        return %s.class;\n".formatted(message));
+        buf.append("    }\n\n");
+        buf.append("    @Override\n");
+        buf.append(
+                "    public void write(%s message, DdsDataOutput out) throws Exception {\n"
+                        .formatted(message));
+        buf.append(write);
+        buf.append("    }\n\n");
+        buf.append("    @Override\n");
+        buf.append(
+                "    public %s read(DdsDataInput in, %s reuse) throws Exception {\n"
+                        .formatted(message, message));
+        buf.append("        var message = reuse != null ? reuse : new %s();\n".formatted(message));
+        buf.append(read);
+        buf.append("        return message;\n");
+        buf.append("    }\n\n");
+        buf.append("    @Override\n");
+        buf.append("    public void skip(DdsDataInput in) throws Exception {\n");
+        buf.append(skip);
+        buf.append("    }\n");
+        buf.append("}\n");
+        return buf.toString();
+    }
+
+    private void generateField(
+            Field field,
+            String annotations,
+            TreeSet<String> imports,
+            StringBuilder write,
+            StringBuilder read,
+            StringBuilder skip) {
+        var type = field.getType();
+        var name = "message." + field.getName();
+        if (type.isPrimitive()) {
+            var method = primitiveMethodSuffix(type);
+            // DdsDataOutput has unboxed versions only for the types which have alignment
+            if (type == char.class)
+                write.append("        out.write%s(%s, %s);\n".formatted(method, name, annotations));
+            else write.append("        out.write%s(%s);\n".formatted(method, name));
+            read.append(
+                    "        %s = in.read%s(%s);\n"
+                            .formatted(name, type == boolean.class ? "Bool" : method, annotations));
+            if (type == char.class)
+                skip.append("        in.readChar(%s);\n".formatted(annotations));
+            else skip.append("        in.skip(%s);\n".formatted(primitiveSize(type)));
+        } else if (type == String.class) {
+            write.append("        out.writeString(%s, %s);\n".formatted(name, annotations));
+            read.append("        %s = in.readString(%s);\n".formatted(name, annotations));
+            skip.append("        in.skipString();\n");
+        } else if (type == UUID.class) {
+            write.append("        out.writeUUID(%s);\n".formatted(name));
+            read.append("        %s = in.readUUID();\n".formatted(name));
+            skip.append("        in.readUUID();\n");
+        } else if (type.isArray()) {
+            var componentType = type.getComponentType();
+            String method;
+            if (componentType.isPrimitive()) method = primitiveMethodSuffix(componentType);
+            else if (componentType == String.class) method = "String";
+            else method = null;
+            if (method != null) {
+                write.append(
+                        "        out.write%sArray(%s, %s);\n".formatted(method, name, annotations));
+                read.append(
+                        "        %s = in.read%sArray(%s, %s);\n"
+                                .formatted(name, method, name, annotations));
+                if (componentType == String.class)
+                    skip.append("        in.skipStringArray(%s);\n".formatted(annotations));
+                else if (componentType == char.class)
+                    skip.append("        in.readCharArray(null, %s);\n".formatted(annotations));
+                else
+                    skip.append(
+                            "        in.skipArray(%s, %s);\n"
+                                    .formatted(primitiveSize(componentType), annotations));
+            } else {
+                checkMessageType(componentType);
+                imports.add(componentType.getName());
+                write.append("        out.writeArray(%s, %s);\n".formatted(name, annotations));
+                read.append(
+                        "        %s = (%s[]) in.readArray(%s, %s.class, %s);\n"
+                                .formatted(
+                                        name,
+                                        componentType.getSimpleName(),
+                                        name,
+                                        componentType.getSimpleName(),
+                                        annotations));
+                var codec = codecs.get(componentType);
+                if (codec != null)
+                    skip.append(
+                            "        in.skipArray(%s.INSTANCE, %s);\n"
+                                    .formatted(codec, annotations));
+                else
+                    skip.append(
+                            "        in.readArray(null, %s.class, %s);\n"
+                                    .formatted(componentType.getSimpleName(), annotations));
+            }
+        } else {
+            checkMessageType(type);
+            var codec = codecs.get(type);
+            if (codec != null) {
+                write.append("        %s.INSTANCE.write(%s, out);\n".formatted(codec, name));
+                read.append(
+                        "        %s = %s.INSTANCE.read(in, %s);\n".formatted(name, codec, name));
+                skip.append("        %s.INSTANCE.skip(in);\n".formatted(codec));
+            } else {
+                imports.add(type.getName());
+                write.append("        out.writeMessage(%s);\n".formatted(name));
+                read.append(
+                        "        %s = in.readMessage(%s.class);\n"
+                                .formatted(name, type.getSimpleName()));
+                skip.append("        in.readMessage(%s.class);\n".formatted(type.getSimpleName()));
+            }
+        }
+    }
+
+    private void checkMessageType(Class<?> type) {
+        if (type.isEnum()
+                || type.isInterface()
+                || type.isPrimitive()
+                || type.isArray()
+                || type.getName().startsWith("java."))
+            throw new UnsupportedOperationException("unsupported field type " + type.getName());
+    }
+
+    private static String primitiveMethodSuffix(Class<?> type) {
+        if (type == boolean.class) return "Boolean";
+        var name = type.getName();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /** Size of the primitive type in CDR (which is also its alignment) */
+    private static String primitiveSize(Class<?> type) {
+        if (type == boolean.class || type == byte.class) return "Byte.BYTES";
+        if (type == short.class) return "Short.BYTES";
+        if (type == int.class) return "Integer.BYTES";
+        if (type == long.class) return "Long.BYTES";
+        if (type == float.class) return "Float.BYTES";
+        if (type == double.class) return "Double.BYTES";
+        throw new UnsupportedOperationException("unsupported primitive type " + type.getName());
+    }
+
+    private static String header() {
+        return """
+                /*
+                 * Copyright 2026 jrosclient project
+                 *\s
+                 * Website: https://github.com/lambdaprime/jros2messages
+                 *\s
+                 * Licensed under the Apache License, Version 2.0 (the "License");
+                 * you may not use this file except in compliance with the License.
+                 * You may obtain a copy of the License at
+                 *\s
+                 *     http://www.apache.org/licenses/LICENSE-2.0
+                 *\s
+                 * Unless required by applicable law or agreed to in writing, software
+                 * distributed under the License is distributed on an "AS IS" BASIS,
+                 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+                 * See the License for the specific language governing permissions and
+                 * limitations under the License.
+                 */
+                """;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.AccelMessage;
+
+/** Generated by CdrCodecGenerator from {@link AccelMessage}. Do not edit. */
+public class AccelMessageCdrCodec implements CdrCodec<AccelMessage> {
+
+    public static final AccelMessageCdrCodec INSTANCE = new AccelMessageCdrCodec();
+
+    @Override
+    public Class<AccelMessage> getMessageClass() {
+        return AccelMessage.class;
+    }
+
+    @Override
+    public void write(AccelMessage message, DdsDataOutput out) throws Exception {
+        Vector3MessageCdrCodec.INSTANCE.write(message.linear, out);
+        Vector3MessageCdrCodec.INSTANCE.write(message.angular, out);
+    }
+
+    @Override
+    public AccelMessage read(DdsDataInput in, AccelMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new AccelMessage();
+        message.linear = Vector3MessageCdrCodec.INSTANCE.read(in, message.linear);
+        message.angular = Vector3MessageCdrCodec.INSTANCE.read(in, message.angular);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        Vector3MessageCdrCodec.INSTANCE.skip(in);
+        Vector3MessageCdrCodec.INSTANCE.skip(in);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.AccelStampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link AccelStampedMessage}. Do not edit. */
+public class AccelStampedMessageCdrCodec implements CdrCodec<AccelStampedMessage> {
+
+    public static final AccelStampedMessageCdrCodec INSTANCE = new AccelStampedMessageCdrCodec();
+
+    @Override
+    public Class<AccelStampedMessage> getMessageClass() {
+        return AccelStampedMessage.class;
+    }
+
+    @Override
+    public void write(AccelStampedMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        AccelMessageCdrCodec.INSTANCE.write(message.accel, out);
+    }
+
+    @Override
+    public AccelStampedMessage read(DdsDataInput in, AccelStampedMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new AccelStampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.accel = AccelMessageCdrCodec.INSTANCE.read(in, message.accel);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        AccelMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import java.util.List;
+
+/** Generated by CdrCodecGenerator. Do not edit. */
+public class CdrCodecsIndex {
+
+    public static final List<CdrCodec<?>> CODECS =
+            List.of(
+                    TimeCdrCodec.INSTANCE,
+                    DurationCdrCodec.INSTANCE,
+                    StringMessageCdrCodec.INSTANCE,
+                    ColorRGBAMessageCdrCodec.INSTANCE,
+                    PointMessageCdrCodec.INSTANCE,
+                    Point32MessageCdrCodec.INSTANCE,
+                    Vector3MessageCdrCodec.INSTANCE,
+                    QuaternionMessageCdrCodec.INSTANCE,
+                    PoseMessageCdrCodec.INSTANCE,
+                    TransformMessageCdrCodec.INSTANCE,
+                    TwistMessageCdrCodec.INSTANCE,
+                    WrenchMessageCdrCodec.INSTANCE,
+                    AccelMessageCdrCodec.INSTANCE,
+                    PolygonMessageCdrCodec.INSTANCE,
+                    PoseWithCovarianceMessageCdrCodec.INSTANCE,
+                    TwistWithCovarianceMessageCdrCodec.INSTANCE,
+                    HeaderMessageCdrCodec.INSTANCE,
+                    UUIDMessageCdrCodec.INSTANCE,
+                    PointStampedMessageCdrCodec.INSTANCE,
+                    Vector3StampedMessageCdrCodec.INSTANCE,
+                    QuaternionStampedMessageCdrCodec.INSTANCE,
+                    PoseStampedMessageCdrCodec.INSTANCE,
+                    PoseArrayMessageCdrCodec.INSTANCE,
+                    PoseWithCovarianceStampedMessageCdrCodec.INSTANCE,
+                    TransformStampedMessageCdrCodec.INSTANCE,
+                    TwistStampedMessageCdrCodec.INSTANCE,
+                    TwistWithCovarianceStampedMessageCdrCodec.INSTANCE,
+                    WrenchStampedMessageCdrCodec.INSTANCE,
+                    AccelStampedMessageCdrCodec.INSTANCE,
+                    PolygonStampedMessageCdrCodec.INSTANCE,
+                    JointStateMessageCdrCodec.INSTANCE,
+                    JoyMessageCdrCodec.INSTANCE,
+                    MultiDOFJointStateMessageCdrCodec.INSTANCE,
+                    PointCloud2MessageCdrCodec.INSTANCE,
+                    ImageMessageCdrCodec.INSTANCE,
+                    CompressedImageMessageCdrCodec.INSTANCE,
+                    OctomapMessageCdrCodec.INSTANCE,
+                    OctomapWithPoseMessageCdrCodec.INSTANCE,
+                    UVCoordinateMessageCdrCodec.INSTANCE,
+                    MeshFileMessageCdrCodec.INSTANCE,
+                    MarkerMessageCdrCodec.INSTANCE,
+                    MarkerArrayMessageCdrCodec.INSTANCE,
+                    ObjectHypothesisMessageCdrCodec.INSTANCE,
+                    ObjectHypothesisWithPoseMessageCdrCodec.INSTANCE,
+                    Detection3DMessageCdrCodec.INSTANCE,
+                    Detection3DArrayMessageCdrCodec.INSTANCE,
+                    RecognizedObjectMessageCdrCodec.INSTANCE,
+                    RecognizedObjectArrayMessageCdrCodec.INSTANCE);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.sensor_msgs.CompressedImageMessage;
+
+/** Generated by CdrCodecGenerator from {@link CompressedImageMessage}. Do not edit. */
+public class CompressedImageMessageCdrCodec implements CdrCodec<CompressedImageMessage> {
+
+    public static final CompressedImageMessageCdrCodec INSTANCE =
+            new CompressedImageMessageCdrCodec();
+
+    @Override
+    public Class<CompressedImageMessage> getMessageClass() {
+        return CompressedImageMessage.class;
+    }
+
+    @Override
+    public void write(CompressedImageMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        StringMessageCdrCodec.INSTANCE.write(message.format, out);
+        out.writeByteArray(message.data, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public CompressedImageMessage read(DdsDataInput in, CompressedImageMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new CompressedImageMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.format = StringMessageCdrCodec.INSTANCE.read(in, message.format);
+        message.data = in.readByteArray(message.data, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(Byte.BYTES, EMPTY_ANNOTATIONS);
+    }
+}
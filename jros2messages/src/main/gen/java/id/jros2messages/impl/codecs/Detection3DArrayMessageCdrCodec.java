@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.vision_msgs.Detection3DArrayMessage;
+import id.jros2messages.vision_msgs.Detection3DMessage;
+
+/** Generated by CdrCodecGenerator from {@link Detection3DArrayMessage}. Do not edit. */
+public class Detection3DArrayMessageCdrCodec implements CdrCodec<Detection3DArrayMessage> {
+
+    public static final Detection3DArrayMessageCdrCodec INSTANCE =
+            new Detection3DArrayMessageCdrCodec();
+
+    @Override
+    public Class<Detection3DArrayMessage> getMessageClass() {
+        return Detection3DArrayMessage.class;
+    }
+
+    @Override
+    public void write(Detection3DArrayMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeArray(message.detections, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public Detection3DArrayMessage read(DdsDataInput in, Detection3DArrayMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new Detection3DArrayMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.detections =
+                (Detection3DMessage[])
+                        in.readArray(
+                                message.detections, Detection3DMessage.class, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(Detection3DMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.vision_msgs.Detection3DMessage;
+import id.jros2messages.vision_msgs.ObjectHypothesisWithPoseMessage;
+import id.jrosmessages.vision_msgs.BoundingBox3DMessage;
+
+/** Generated by CdrCodecGenerator from {@link Detection3DMessage}. Do not edit. */
+public class Detection3DMessageCdrCodec implements CdrCodec<Detection3DMessage> {
+
+    public static final Detection3DMessageCdrCodec INSTANCE = new Detection3DMessageCdrCodec();
+
+    @Override
+    public Class<Detection3DMessage> getMessageClass() {
+        return Detection3DMessage.class;
+    }
+
+    @Override
+    public void write(Detection3DMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeArray(message.results, EMPTY_ANNOTATIONS);
+        out.writeMessage(message.bbox);
+        StringMessageCdrCodec.INSTANCE.write(message.id, out);
+    }
+
+    @Override
+    public Detection3DMessage read(DdsDataInput in, Detection3DMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new Detection3DMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.results =
+                (ObjectHypothesisWithPoseMessage[])
+                        in.readArray(
+                                message.results,
+                                ObjectHypothesisWithPoseMessage.class,
+                                EMPTY_ANNOTATIONS);
+        message.bbox = in.readMessage(BoundingBox3DMessage.class);
+        message.id = StringMessageCdrCodec.INSTANCE.read(in, message.id);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(ObjectHypothesisWithPoseMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        in.readMessage(BoundingBox3DMessage.class);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.primitives.Duration;
+
+/** Generated by CdrCodecGenerator from {@link Duration}. Do not edit. */
+public class DurationCdrCodec implements CdrCodec<Duration> {
+
+    public static final DurationCdrCodec INSTANCE = new DurationCdrCodec();
+
+    @Override
+    public Class<Duration> getMessageClass() {
+        return Duration.class;
+    }
+
+    @Override
+    public void write(Duration message, DdsDataOutput out) throws Exception {
+        out.writeInt(message.sec);
+        out.writeInt(message.nanosec);
+    }
+
+    @Override
+    public Duration read(DdsDataInput in, Duration reuse) throws Exception {
+        var message = reuse != null ? reuse : new Duration();
+        message.sec = in.readInt(EMPTY_ANNOTATIONS);
+        message.nanosec = in.readInt(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        in.skip(Integer.BYTES);
+        in.skip(Integer.BYTES);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.std_msgs.HeaderMessage;
+
+/** Generated by CdrCodecGenerator from {@link HeaderMessage}. Do not edit. */
+public class HeaderMessageCdrCodec implements CdrCodec<HeaderMessage> {
+
+    public static final HeaderMessageCdrCodec INSTANCE = new HeaderMessageCdrCodec();
+
+    @Override
+    public Class<HeaderMessage> getMessageClass() {
+        return HeaderMessage.class;
+    }
+
+    @Override
+    public void write(HeaderMessage message, DdsDataOutput out) throws Exception {
+        TimeCdrCodec.INSTANCE.write(message.stamp, out);
+        out.writeString(message.frame_id, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public HeaderMessage read(DdsDataInput in, HeaderMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new HeaderMessage();
+        message.stamp = TimeCdrCodec.INSTANCE.read(in, message.stamp);
+        message.frame_id = in.readString(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        TimeCdrCodec.INSTANCE.skip(in);
+        in.skipString();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.sensor_msgs.ImageMessage;
+
+/** Generated by CdrCodecGenerator from {@link ImageMessage}. Do not edit. */
+public class ImageMessageCdrCodec implements CdrCodec<ImageMessage> {
+
+    public static final ImageMessageCdrCodec INSTANCE = new ImageMessageCdrCodec();
+
+    @Override
+    public Class<ImageMessage> getMessageClass() {
+        return ImageMessage.class;
+    }
+
+    @Override
+    public void write(ImageMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeInt(message.height);
+        out.writeInt(message.width);
+        StringMessageCdrCodec.INSTANCE.write(message.encoding, out);
+        out.writeByte(message.is_bigendian);
+        out.writeInt(message.step);
+        out.writeByteArray(message.data, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public ImageMessage read(DdsDataInput in, ImageMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new ImageMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.height = in.readInt(EMPTY_ANNOTATIONS);
+        message.width = in.readInt(EMPTY_ANNOTATIONS);
+        message.encoding = StringMessageCdrCodec.INSTANCE.read(in, message.encoding);
+        message.is_bigendian = in.readByte(EMPTY_ANNOTATIONS);
+        message.step = in.readInt(EMPTY_ANNOTATIONS);
+        message.data = in.readByteArray(message.data, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Integer.BYTES);
+        in.skip(Integer.BYTES);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Byte.BYTES);
+        in.skip(Integer.BYTES);
+        in.skipArray(Byte.BYTES, EMPTY_ANNOTATIONS);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.sensor_msgs.JointStateMessage;
+
+/** Generated by CdrCodecGenerator from {@link JointStateMessage}. Do not edit. */
+public class JointStateMessageCdrCodec implements CdrCodec<JointStateMessage> {
+
+    public static final JointStateMessageCdrCodec INSTANCE = new JointStateMessageCdrCodec();
+
+    @Override
+    public Class<JointStateMessage> getMessageClass() {
+        return JointStateMessage.class;
+    }
+
+    @Override
+    public void write(JointStateMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeStringArray(message.name, EMPTY_ANNOTATIONS);
+        out.writeDoubleArray(message.position, EMPTY_ANNOTATIONS);
+        out.writeDoubleArray(message.velocity, EMPTY_ANNOTATIONS);
+        out.writeDoubleArray(message.effort, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public JointStateMessage read(DdsDataInput in, JointStateMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new JointStateMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.name = in.readStringArray(message.name, EMPTY_ANNOTATIONS);
+        message.position = in.readDoubleArray(message.position, EMPTY_ANNOTATIONS);
+        message.velocity = in.readDoubleArray(message.velocity, EMPTY_ANNOTATIONS);
+        message.effort = in.readDoubleArray(message.effort, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skipStringArray(EMPTY_ANNOTATIONS);
+        in.skipArray(Double.BYTES, EMPTY_ANNOTATIONS);
+        in.skipArray(Double.BYTES, EMPTY_ANNOTATIONS);
+        in.skipArray(Double.BYTES, EMPTY_ANNOTATIONS);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.sensor_msgs.JoyMessage;
+
+/** Generated by CdrCodecGenerator from {@link JoyMessage}. Do not edit. */
+public class JoyMessageCdrCodec implements CdrCodec<JoyMessage> {
+
+    public static final JoyMessageCdrCodec INSTANCE = new JoyMessageCdrCodec();
+
+    @Override
+    public Class<JoyMessage> getMessageClass() {
+        return JoyMessage.class;
+    }
+
+    @Override
+    public void write(JoyMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeFloatArray(message.axes, EMPTY_ANNOTATIONS);
+        out.writeIntArray(message.buttons, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public JoyMessage read(DdsDataInput in, JoyMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new JoyMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.axes = in.readFloatArray(message.axes, EMPTY_ANNOTATIONS);
+        message.buttons = in.readIntArray(message.buttons, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(Float.BYTES, EMPTY_ANNOTATIONS);
+        in.skipArray(Integer.BYTES, EMPTY_ANNOTATIONS);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.visualization_msgs.MarkerArrayMessage;
+import id.jros2messages.visualization_msgs.MarkerMessage;
+
+/** Generated by CdrCodecGenerator from {@link MarkerArrayMessage}. Do not edit. */
+public class MarkerArrayMessageCdrCodec implements CdrCodec<MarkerArrayMessage> {
+
+    public static final MarkerArrayMessageCdrCodec INSTANCE = new MarkerArrayMessageCdrCodec();
+
+    @Override
+    public Class<MarkerArrayMessage> getMessageClass() {
+        return MarkerArrayMessage.class;
+    }
+
+    @Override
+    public void write(MarkerArrayMessage message, DdsDataOutput out) throws Exception {
+        out.writeArray(message.markers, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public MarkerArrayMessage read(DdsDataInput in, MarkerArrayMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new MarkerArrayMessage();
+        message.markers =
+                (MarkerMessage[])
+                        in.readArray(message.markers, MarkerMessage.class, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        in.skipArray(MarkerMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+    }
+}
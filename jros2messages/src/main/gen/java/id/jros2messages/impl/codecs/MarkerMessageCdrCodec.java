@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.visualization_msgs.MarkerMessage;
+import id.jros2messages.visualization_msgs.UVCoordinateMessage;
+import id.jrosmessages.geometry_msgs.PointMessage;
+import id.jrosmessages.std_msgs.ColorRGBAMessage;
+
+/** Generated by CdrCodecGenerator from {@link MarkerMessage}. Do not edit. */
+public class MarkerMessageCdrCodec implements CdrCodec<MarkerMessage> {
+
+    public static final MarkerMessageCdrCodec INSTANCE = new MarkerMessageCdrCodec();
+
+    @Override
+    public Class<MarkerMessage> getMessageClass() {
+        return MarkerMessage.class;
+    }
+
+    @Override
+    public void write(MarkerMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        StringMessageCdrCodec.INSTANCE.write(message.ns, out);
+        out.writeInt(message.id);
+        out.writeInt(message.type);
+        out.writeInt(message.action);
+        PoseMessageCdrCodec.INSTANCE.write(message.pose, out);
+        Vector3MessageCdrCodec.INSTANCE.write(message.scale, out);
+        ColorRGBAMessageCdrCodec.INSTANCE.write(message.color, out);
+        DurationCdrCodec.INSTANCE.write(message.lifetime, out);
+        out.writeBoolean(message.frame_locked);
+        out.writeArray(message.points, EMPTY_ANNOTATIONS);
+        out.writeArray(message.colors, EMPTY_ANNOTATIONS);
+        StringMessageCdrCodec.INSTANCE.write(message.texture_resource, out);
+        CompressedImageMessageCdrCodec.INSTANCE.write(message.texture, out);
+        out.writeArray(message.uv_coordinates, EMPTY_ANNOTATIONS);
+        StringMessageCdrCodec.INSTANCE.write(message.text, out);
+        StringMessageCdrCodec.INSTANCE.write(message.mesh_resource, out);
+        MeshFileMessageCdrCodec.INSTANCE.write(message.mesh_file, out);
+        out.writeBoolean(message.mesh_use_embedded_materials);
+    }
+
+    @Override
+    public MarkerMessage read(DdsDataInput in, MarkerMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new MarkerMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.ns = StringMessageCdrCodec.INSTANCE.read(in, message.ns);
+        message.id = in.readInt(EMPTY_ANNOTATIONS);
+        message.type = in.readInt(EMPTY_ANNOTATIONS);
+        message.action = in.readInt(EMPTY_ANNOTATIONS);
+        message.pose = PoseMessageCdrCodec.INSTANCE.read(in, message.pose);
+        message.scale = Vector3MessageCdrCodec.INSTANCE.read(in, message.scale);
+        message.color = ColorRGBAMessageCdrCodec.INSTANCE.read(in, message.color);
+        message.lifetime = DurationCdrCodec.INSTANCE.read(in, message.lifetime);
+        message.frame_locked = in.readBool(EMPTY_ANNOTATIONS);
+        message.points =
+                (PointMessage[])
+                        in.readArray(message.points, PointMessage.class, EMPTY_ANNOTATIONS);
+        message.colors =
+                (ColorRGBAMessage[])
+                        in.readArray(message.colors, ColorRGBAMessage.class, EMPTY_ANNOTATIONS);
+        message.texture_resource =
+                StringMessageCdrCodec.INSTANCE.read(in, message.texture_resource);
+        message.texture = CompressedImageMessageCdrCodec.INSTANCE.read(in, message.texture);
+        message.uv_coordinates =
+                (UVCoordinateMessage[])
+                        in.readArray(
+                                message.uv_coordinates,
+                                UVCoordinateMessage.class,
+                                EMPTY_ANNOTATIONS);
+        message.text = StringMessageCdrCodec.INSTANCE.read(in, message.text);
+        message.mesh_resource = StringMessageCdrCodec.INSTANCE.read(in, message.mesh_resource);
+        message.mesh_file = MeshFileMessageCdrCodec.INSTANCE.read(in, message.mesh_file);
+        message.mesh_use_embedded_materials = in.readBool(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Integer.BYTES);
+        in.skip(Integer.BYTES);
+        in.skip(Integer.BYTES);
+        PoseMessageCdrCodec.INSTANCE.skip(in);
+        Vector3MessageCdrCodec.INSTANCE.skip(in);
+        ColorRGBAMessageCdrCodec.INSTANCE.skip(in);
+        DurationCdrCodec.INSTANCE.skip(in);
+        in.skip(Byte.BYTES);
+        in.skipArray(PointMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        in.skipArray(ColorRGBAMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        CompressedImageMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(UVCoordinateMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        MeshFileMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Byte.BYTES);
+    }
+}
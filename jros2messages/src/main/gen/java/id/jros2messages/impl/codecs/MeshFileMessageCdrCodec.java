@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.visualization_msgs.MeshFileMessage;
+
+/** Generated by CdrCodecGenerator from {@link MeshFileMessage}. Do not edit. */
+public class MeshFileMessageCdrCodec implements CdrCodec<MeshFileMessage> {
+
+    public static final MeshFileMessageCdrCodec INSTANCE = new MeshFileMessageCdrCodec();
+
+    @Override
+    public Class<MeshFileMessage> getMessageClass() {
+        return MeshFileMessage.class;
+    }
+
+    @Override
+    public void write(MeshFileMessage message, DdsDataOutput out) throws Exception {
+        StringMessageCdrCodec.INSTANCE.write(message.filename, out);
+        out.writeByteArray(message.data, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public MeshFileMessage read(DdsDataInput in, MeshFileMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new MeshFileMessage();
+        message.filename = StringMessageCdrCodec.INSTANCE.read(in, message.filename);
+        message.data = in.readByteArray(message.data, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(Byte.BYTES, EMPTY_ANNOTATIONS);
+    }
+}
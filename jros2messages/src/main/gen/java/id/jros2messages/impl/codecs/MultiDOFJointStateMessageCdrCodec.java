@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.sensor_msgs.MultiDOFJointStateMessage;
+import id.jrosmessages.geometry_msgs.TransformMessage;
+import id.jrosmessages.geometry_msgs.TwistMessage;
+import id.jrosmessages.geometry_msgs.WrenchMessage;
+import id.jrosmessages.std_msgs.StringMessage;
+
+/** Generated by CdrCodecGenerator from {@link MultiDOFJointStateMessage}. Do not edit. */
+public class MultiDOFJointStateMessageCdrCodec implements CdrCodec<MultiDOFJointStateMessage> {
+
+    public static final MultiDOFJointStateMessageCdrCodec INSTANCE =
+            new MultiDOFJointStateMessageCdrCodec();
+
+    @Override
+    public Class<MultiDOFJointStateMessage> getMessageClass() {
+        return MultiDOFJointStateMessage.class;
+    }
+
+    @Override
+    public void write(MultiDOFJointStateMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeArray(message.joint_names, EMPTY_ANNOTATIONS);
+        out.writeArray(message.transforms, EMPTY_ANNOTATIONS);
+        out.writeArray(message.twist, EMPTY_ANNOTATIONS);
+        out.writeArray(message.wrench, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public MultiDOFJointStateMessage read(DdsDataInput in, MultiDOFJointStateMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new MultiDOFJointStateMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.joint_names =
+                (StringMessage[])
+                        in.readArray(message.joint_names, StringMessage.class, EMPTY_ANNOTATIONS);
+        message.transforms =
+                (TransformMessage[])
+                        in.readArray(message.transforms, TransformMessage.class, EMPTY_ANNOTATIONS);
+        message.twist =
+                (TwistMessage[]) in.readArray(message.twist, TwistMessage.class, EMPTY_ANNOTATIONS);
+        message.wrench =
+                (WrenchMessage[])
+                        in.readArray(message.wrench, WrenchMessage.class, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(StringMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        in.skipArray(TransformMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        in.skipArray(TwistMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        in.skipArray(WrenchMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+    }
+}
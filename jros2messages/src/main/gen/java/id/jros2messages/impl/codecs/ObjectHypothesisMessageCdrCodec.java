@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.vision_msgs.ObjectHypothesisMessage;
+
+/** Generated by CdrCodecGenerator from {@link ObjectHypothesisMessage}. Do not edit. */
+public class ObjectHypothesisMessageCdrCodec implements CdrCodec<ObjectHypothesisMessage> {
+
+    public static final ObjectHypothesisMessageCdrCodec INSTANCE =
+            new ObjectHypothesisMessageCdrCodec();
+
+    @Override
+    public Class<ObjectHypothesisMessage> getMessageClass() {
+        return ObjectHypothesisMessage.class;
+    }
+
+    @Override
+    public void write(ObjectHypothesisMessage message, DdsDataOutput out) throws Exception {
+        StringMessageCdrCodec.INSTANCE.write(message.class_id, out);
+        out.writeDouble(message.score);
+    }
+
+    @Override
+    public ObjectHypothesisMessage read(DdsDataInput in, ObjectHypothesisMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new ObjectHypothesisMessage();
+        message.class_id = StringMessageCdrCodec.INSTANCE.read(in, message.class_id);
+        message.score = in.readDouble(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Double.BYTES);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.vision_msgs.ObjectHypothesisWithPoseMessage;
+
+/** Generated by CdrCodecGenerator from {@link ObjectHypothesisWithPoseMessage}. Do not edit. */
+public class ObjectHypothesisWithPoseMessageCdrCodec
+        implements CdrCodec<ObjectHypothesisWithPoseMessage> {
+
+    public static final ObjectHypothesisWithPoseMessageCdrCodec INSTANCE =
+            new ObjectHypothesisWithPoseMessageCdrCodec();
+
+    @Override
+    public Class<ObjectHypothesisWithPoseMessage> getMessageClass() {
+        return ObjectHypothesisWithPoseMessage.class;
+    }
+
+    @Override
+    public void write(ObjectHypothesisWithPoseMessage message, DdsDataOutput out) throws Exception {
+        ObjectHypothesisMessageCdrCodec.INSTANCE.write(message.hypothesis, out);
+        PoseWithCovarianceMessageCdrCodec.INSTANCE.write(message.pose, out);
+    }
+
+    @Override
+    public ObjectHypothesisWithPoseMessage read(
+            DdsDataInput in, ObjectHypothesisWithPoseMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new ObjectHypothesisWithPoseMessage();
+        message.hypothesis = ObjectHypothesisMessageCdrCodec.INSTANCE.read(in, message.hypothesis);
+        message.pose = PoseWithCovarianceMessageCdrCodec.INSTANCE.read(in, message.pose);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        ObjectHypothesisMessageCdrCodec.INSTANCE.skip(in);
+        PoseWithCovarianceMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
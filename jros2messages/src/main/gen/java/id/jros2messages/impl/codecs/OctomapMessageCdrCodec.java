@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.octomap_msgs.OctomapMessage;
+
+/** Generated by CdrCodecGenerator from {@link OctomapMessage}. Do not edit. */
+public class OctomapMessageCdrCodec implements CdrCodec<OctomapMessage> {
+
+    public static final OctomapMessageCdrCodec INSTANCE = new OctomapMessageCdrCodec();
+
+    @Override
+    public Class<OctomapMessage> getMessageClass() {
+        return OctomapMessage.class;
+    }
+
+    @Override
+    public void write(OctomapMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeBoolean(message.binary);
+        StringMessageCdrCodec.INSTANCE.write(message.id, out);
+        out.writeDouble(message.resolution);
+        out.writeByteArray(message.data, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public OctomapMessage read(DdsDataInput in, OctomapMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new OctomapMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.binary = in.readBool(EMPTY_ANNOTATIONS);
+        message.id = StringMessageCdrCodec.INSTANCE.read(in, message.id);
+        message.resolution = in.readDouble(EMPTY_ANNOTATIONS);
+        message.data = in.readByteArray(message.data, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Byte.BYTES);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Double.BYTES);
+        in.skipArray(Byte.BYTES, EMPTY_ANNOTATIONS);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.octomap_msgs.OctomapWithPoseMessage;
+
+/** Generated by CdrCodecGenerator from {@link OctomapWithPoseMessage}. Do not edit. */
+public class OctomapWithPoseMessageCdrCodec implements CdrCodec<OctomapWithPoseMessage> {
+
+    public static final OctomapWithPoseMessageCdrCodec INSTANCE =
+            new OctomapWithPoseMessageCdrCodec();
+
+    @Override
+    public Class<OctomapWithPoseMessage> getMessageClass() {
+        return OctomapWithPoseMessage.class;
+    }
+
+    @Override
+    public void write(OctomapWithPoseMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        PoseMessageCdrCodec.INSTANCE.write(message.origin, out);
+        OctomapMessageCdrCodec.INSTANCE.write(message.octomap, out);
+    }
+
+    @Override
+    public OctomapWithPoseMessage read(DdsDataInput in, OctomapWithPoseMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new OctomapWithPoseMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.origin = PoseMessageCdrCodec.INSTANCE.read(in, message.origin);
+        message.octomap = OctomapMessageCdrCodec.INSTANCE.read(in, message.octomap);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        PoseMessageCdrCodec.INSTANCE.skip(in);
+        OctomapMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
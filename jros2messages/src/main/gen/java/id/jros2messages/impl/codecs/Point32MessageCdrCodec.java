@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.Point32Message;
+
+/** Generated by CdrCodecGenerator from {@link Point32Message}. Do not edit. */
+public class Point32MessageCdrCodec implements CdrCodec<Point32Message> {
+
+    public static final Point32MessageCdrCodec INSTANCE = new Point32MessageCdrCodec();
+
+    @Override
+    public Class<Point32Message> getMessageClass() {
+        return Point32Message.class;
+    }
+
+    @Override
+    public void write(Point32Message message, DdsDataOutput out) throws Exception {
+        out.writeFloat(message.x);
+        out.writeFloat(message.y);
+        out.writeFloat(message.z);
+    }
+
+    @Override
+    public Point32Message read(DdsDataInput in, Point32Message reuse) throws Exception {
+        var message = reuse != null ? reuse : new Point32Message();
+        message.x = in.readFloat(EMPTY_ANNOTATIONS);
+        message.y = in.readFloat(EMPTY_ANNOTATIONS);
+        message.z = in.readFloat(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        in.skip(Float.BYTES);
+        in.skip(Float.BYTES);
+        in.skip(Float.BYTES);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jrosmessages.sensor_msgs.PointFieldMessage;
+
+/** Generated by CdrCodecGenerator from {@link PointCloud2Message}. Do not edit. */
+public class PointCloud2MessageCdrCodec implements CdrCodec<PointCloud2Message> {
+
+    public static final PointCloud2MessageCdrCodec INSTANCE = new PointCloud2MessageCdrCodec();
+
+    @Override
+    public Class<PointCloud2Message> getMessageClass() {
+        return PointCloud2Message.class;
+    }
+
+    @Override
+    public void write(PointCloud2Message message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeInt(message.height);
+        out.writeInt(message.width);
+        out.writeArray(message.fields, EMPTY_ANNOTATIONS);
+        out.writeBoolean(message.is_bigendian);
+        out.writeInt(message.point_step);
+        out.writeInt(message.row_step);
+        out.writeByteArray(message.data, EMPTY_ANNOTATIONS);
+        out.writeBoolean(message.is_dense);
+    }
+
+    @Override
+    public PointCloud2Message read(DdsDataInput in, PointCloud2Message reuse) throws Exception {
+        var message = reuse != null ? reuse : new PointCloud2Message();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.height = in.readInt(EMPTY_ANNOTATIONS);
+        message.width = in.readInt(EMPTY_ANNOTATIONS);
+        message.fields =
+                (PointFieldMessage[])
+                        in.readArray(message.fields, PointFieldMessage.class, EMPTY_ANNOTATIONS);
+        message.is_bigendian = in.readBool(EMPTY_ANNOTATIONS);
+        message.point_step = in.readInt(EMPTY_ANNOTATIONS);
+        message.row_step = in.readInt(EMPTY_ANNOTATIONS);
+        message.data = in.readByteArray(message.data, EMPTY_ANNOTATIONS);
+        message.is_dense = in.readBool(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skip(Integer.BYTES);
+        in.skip(Integer.BYTES);
+        in.readArray(null, PointFieldMessage.class, EMPTY_ANNOTATIONS);
+        in.skip(Byte.BYTES);
+        in.skip(Integer.BYTES);
+        in.skip(Integer.BYTES);
+        in.skipArray(Byte.BYTES, EMPTY_ANNOTATIONS);
+        in.skip(Byte.BYTES);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.PolygonStampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link PolygonStampedMessage}. Do not edit. */
+public class PolygonStampedMessageCdrCodec implements CdrCodec<PolygonStampedMessage> {
+
+    public static final PolygonStampedMessageCdrCodec INSTANCE =
+            new PolygonStampedMessageCdrCodec();
+
+    @Override
+    public Class<PolygonStampedMessage> getMessageClass() {
+        return PolygonStampedMessage.class;
+    }
+
+    @Override
+    public void write(PolygonStampedMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        PolygonMessageCdrCodec.INSTANCE.write(message.polygon, out);
+    }
+
+    @Override
+    public PolygonStampedMessage read(DdsDataInput in, PolygonStampedMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new PolygonStampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.polygon = PolygonMessageCdrCodec.INSTANCE.read(in, message.polygon);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        PolygonMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.geometry_msgs.PoseArrayMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.PoseMessage;
+
+/** Generated by CdrCodecGenerator from {@link PoseArrayMessage}. Do not edit. */
+public class PoseArrayMessageCdrCodec implements CdrCodec<PoseArrayMessage> {
+
+    public static final PoseArrayMessageCdrCodec INSTANCE = new PoseArrayMessageCdrCodec();
+
+    @Override
+    public Class<PoseArrayMessage> getMessageClass() {
+        return PoseArrayMessage.class;
+    }
+
+    @Override
+    public void write(PoseArrayMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeArray(message.poses, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public PoseArrayMessage read(DdsDataInput in, PoseArrayMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new PoseArrayMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.poses =
+                (PoseMessage[]) in.readArray(message.poses, PoseMessage.class, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(PoseMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.PoseMessage;
+
+/** Generated by CdrCodecGenerator from {@link PoseMessage}. Do not edit. */
+public class PoseMessageCdrCodec implements CdrCodec<PoseMessage> {
+
+    public static final PoseMessageCdrCodec INSTANCE = new PoseMessageCdrCodec();
+
+    @Override
+    public Class<PoseMessage> getMessageClass() {
+        return PoseMessage.class;
+    }
+
+    @Override
+    public void write(PoseMessage message, DdsDataOutput out) throws Exception {
+        PointMessageCdrCodec.INSTANCE.write(message.position, out);
+        QuaternionMessageCdrCodec.INSTANCE.write(message.orientation, out);
+    }
+
+    @Override
+    public PoseMessage read(DdsDataInput in, PoseMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new PoseMessage();
+        message.position = PointMessageCdrCodec.INSTANCE.read(in, message.position);
+        message.orientation = QuaternionMessageCdrCodec.INSTANCE.read(in, message.orientation);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        PointMessageCdrCodec.INSTANCE.skip(in);
+        QuaternionMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
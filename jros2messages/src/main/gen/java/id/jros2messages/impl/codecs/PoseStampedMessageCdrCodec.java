@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.PoseStampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link PoseStampedMessage}. Do not edit. */
+public class PoseStampedMessageCdrCodec implements CdrCodec<PoseStampedMessage> {
+
+    public static final PoseStampedMessageCdrCodec INSTANCE = new PoseStampedMessageCdrCodec();
+
+    @Override
+    public Class<PoseStampedMessage> getMessageClass() {
+        return PoseStampedMessage.class;
+    }
+
+    @Override
+    public void write(PoseStampedMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        PoseMessageCdrCodec.INSTANCE.write(message.pose, out);
+    }
+
+    @Override
+    public PoseStampedMessage read(DdsDataInput in, PoseStampedMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new PoseStampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.pose = PoseMessageCdrCodec.INSTANCE.read(in, message.pose);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        PoseMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
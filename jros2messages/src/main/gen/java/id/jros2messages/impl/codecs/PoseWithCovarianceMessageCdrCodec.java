@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.PoseWithCovarianceMessage;
+import java.lang.annotation.Annotation;
+
+/** Generated by CdrCodecGenerator from {@link PoseWithCovarianceMessage}. Do not edit. */
+public class PoseWithCovarianceMessageCdrCodec implements CdrCodec<PoseWithCovarianceMessage> {
+
+    public static final PoseWithCovarianceMessageCdrCodec INSTANCE =
+            new PoseWithCovarianceMessageCdrCodec();
+
+    private static final Annotation[] COVARIANCE_ANNOTATIONS =
+            CdrCodec.annotationsOf(PoseWithCovarianceMessage.class, "covariance");
+
+    @Override
+    public Class<PoseWithCovarianceMessage> getMessageClass() {
+        return PoseWithCovarianceMessage.class;
+    }
+
+    @Override
+    public void write(PoseWithCovarianceMessage message, DdsDataOutput out) throws Exception {
+        PoseMessageCdrCodec.INSTANCE.write(message.pose, out);
+        out.writeDoubleArray(message.covariance, COVARIANCE_ANNOTATIONS);
+    }
+
+    @Override
+    public PoseWithCovarianceMessage read(DdsDataInput in, PoseWithCovarianceMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new PoseWithCovarianceMessage();
+        message.pose = PoseMessageCdrCodec.INSTANCE.read(in, message.pose);
+        message.covariance = in.readDoubleArray(message.covariance, COVARIANCE_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        PoseMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(Double.BYTES, COVARIANCE_ANNOTATIONS);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.PoseWithCovarianceStampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link PoseWithCovarianceStampedMessage}. Do not edit. */
+public class PoseWithCovarianceStampedMessageCdrCodec
+        implements CdrCodec<PoseWithCovarianceStampedMessage> {
+
+    public static final PoseWithCovarianceStampedMessageCdrCodec INSTANCE =
+            new PoseWithCovarianceStampedMessageCdrCodec();
+
+    @Override
+    public Class<PoseWithCovarianceStampedMessage> getMessageClass() {
+        return PoseWithCovarianceStampedMessage.class;
+    }
+
+    @Override
+    public void write(PoseWithCovarianceStampedMessage message, DdsDataOutput out)
+            throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        PoseWithCovarianceMessageCdrCodec.INSTANCE.write(message.pose, out);
+    }
+
+    @Override
+    public PoseWithCovarianceStampedMessage read(
+            DdsDataInput in, PoseWithCovarianceStampedMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new PoseWithCovarianceStampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.pose = PoseWithCovarianceMessageCdrCodec.INSTANCE.read(in, message.pose);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        PoseWithCovarianceMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.QuaternionMessage;
+
+/** Generated by CdrCodecGenerator from {@link QuaternionMessage}. Do not edit. */
+public class QuaternionMessageCdrCodec implements CdrCodec<QuaternionMessage> {
+
+    public static final QuaternionMessageCdrCodec INSTANCE = new QuaternionMessageCdrCodec();
+
+    @Override
+    public Class<QuaternionMessage> getMessageClass() {
+        return QuaternionMessage.class;
+    }
+
+    @Override
+    public void write(QuaternionMessage message, DdsDataOutput out) throws Exception {
+        out.writeDouble(message.x);
+        out.writeDouble(message.y);
+        out.writeDouble(message.z);
+        out.writeDouble(message.w);
+    }
+
+    @Override
+    public QuaternionMessage read(DdsDataInput in, QuaternionMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new QuaternionMessage();
+        message.x = in.readDouble(EMPTY_ANNOTATIONS);
+        message.y = in.readDouble(EMPTY_ANNOTATIONS);
+        message.z = in.readDouble(EMPTY_ANNOTATIONS);
+        message.w = in.readDouble(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        in.skip(Double.BYTES);
+        in.skip(Double.BYTES);
+        in.skip(Double.BYTES);
+        in.skip(Double.BYTES);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.object_recognition_msgs.RecognizedObjectArrayMessage;
+import id.jros2messages.object_recognition_msgs.RecognizedObjectMessage;
+
+/** Generated by CdrCodecGenerator from {@link RecognizedObjectArrayMessage}. Do not edit. */
+public class RecognizedObjectArrayMessageCdrCodec
+        implements CdrCodec<RecognizedObjectArrayMessage> {
+
+    public static final RecognizedObjectArrayMessageCdrCodec INSTANCE =
+            new RecognizedObjectArrayMessageCdrCodec();
+
+    @Override
+    public Class<RecognizedObjectArrayMessage> getMessageClass() {
+        return RecognizedObjectArrayMessage.class;
+    }
+
+    @Override
+    public void write(RecognizedObjectArrayMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeArray(message.objects, EMPTY_ANNOTATIONS);
+        out.writeFloatArray(message.cooccurrence, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public RecognizedObjectArrayMessage read(DdsDataInput in, RecognizedObjectArrayMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new RecognizedObjectArrayMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.objects =
+                (RecognizedObjectMessage[])
+                        in.readArray(
+                                message.objects, RecognizedObjectMessage.class, EMPTY_ANNOTATIONS);
+        message.cooccurrence = in.readFloatArray(message.cooccurrence, EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(RecognizedObjectMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        in.skipArray(Float.BYTES, EMPTY_ANNOTATIONS);
+    }
+}
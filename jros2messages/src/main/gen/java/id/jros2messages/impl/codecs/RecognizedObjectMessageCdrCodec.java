@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.object_recognition_msgs.RecognizedObjectMessage;
+import id.jros2messages.sensor_msgs.PointCloud2Message;
+import id.jrosmessages.geometry_msgs.PointMessage;
+import id.jrosmessages.object_recognition_msgs.ObjectTypeMessage;
+import id.jrosmessages.shape_msgs.MeshMessage;
+
+/** Generated by CdrCodecGenerator from {@link RecognizedObjectMessage}. Do not edit. */
+public class RecognizedObjectMessageCdrCodec implements CdrCodec<RecognizedObjectMessage> {
+
+    public static final RecognizedObjectMessageCdrCodec INSTANCE =
+            new RecognizedObjectMessageCdrCodec();
+
+    @Override
+    public Class<RecognizedObjectMessage> getMessageClass() {
+        return RecognizedObjectMessage.class;
+    }
+
+    @Override
+    public void write(RecognizedObjectMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        out.writeMessage(message.type);
+        out.writeFloat(message.confidence);
+        out.writeArray(message.point_clouds, EMPTY_ANNOTATIONS);
+        out.writeMessage(message.bounding_mesh);
+        out.writeArray(message.bounding_contours, EMPTY_ANNOTATIONS);
+        PoseWithCovarianceStampedMessageCdrCodec.INSTANCE.write(message.pose, out);
+    }
+
+    @Override
+    public RecognizedObjectMessage read(DdsDataInput in, RecognizedObjectMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new RecognizedObjectMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.type = in.readMessage(ObjectTypeMessage.class);
+        message.confidence = in.readFloat(EMPTY_ANNOTATIONS);
+        message.point_clouds =
+                (PointCloud2Message[])
+                        in.readArray(
+                                message.point_clouds, PointCloud2Message.class, EMPTY_ANNOTATIONS);
+        message.bounding_mesh = in.readMessage(MeshMessage.class);
+        message.bounding_contours =
+                (PointMessage[])
+                        in.readArray(
+                                message.bounding_contours, PointMessage.class, EMPTY_ANNOTATIONS);
+        message.pose = PoseWithCovarianceStampedMessageCdrCodec.INSTANCE.read(in, message.pose);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        in.readMessage(ObjectTypeMessage.class);
+        in.skip(Float.BYTES);
+        in.skipArray(PointCloud2MessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        in.readMessage(MeshMessage.class);
+        in.skipArray(PointMessageCdrCodec.INSTANCE, EMPTY_ANNOTATIONS);
+        PoseWithCovarianceStampedMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
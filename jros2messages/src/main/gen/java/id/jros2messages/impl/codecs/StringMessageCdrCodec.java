@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.std_msgs.StringMessage;
+
+/** Generated by CdrCodecGenerator from {@link StringMessage}. Do not edit. */
+public class StringMessageCdrCodec implements CdrCodec<StringMessage> {
+
+    public static final StringMessageCdrCodec INSTANCE = new StringMessageCdrCodec();
+
+    @Override
+    public Class<StringMessage> getMessageClass() {
+        return StringMessage.class;
+    }
+
+    @Override
+    public void write(StringMessage message, DdsDataOutput out) throws Exception {
+        out.writeString(message.data, EMPTY_ANNOTATIONS);
+    }
+
+    @Override
+    public StringMessage read(DdsDataInput in, StringMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new StringMessage();
+        message.data = in.readString(EMPTY_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        in.skipString();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.TransformMessage;
+
+/** Generated by CdrCodecGenerator from {@link TransformMessage}. Do not edit. */
+public class TransformMessageCdrCodec implements CdrCodec<TransformMessage> {
+
+    public static final TransformMessageCdrCodec INSTANCE = new TransformMessageCdrCodec();
+
+    @Override
+    public Class<TransformMessage> getMessageClass() {
+        return TransformMessage.class;
+    }
+
+    @Override
+    public void write(TransformMessage message, DdsDataOutput out) throws Exception {
+        Vector3MessageCdrCodec.INSTANCE.write(message.translation, out);
+        QuaternionMessageCdrCodec.INSTANCE.write(message.rotation, out);
+    }
+
+    @Override
+    public TransformMessage read(DdsDataInput in, TransformMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new TransformMessage();
+        message.translation = Vector3MessageCdrCodec.INSTANCE.read(in, message.translation);
+        message.rotation = QuaternionMessageCdrCodec.INSTANCE.read(in, message.rotation);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        Vector3MessageCdrCodec.INSTANCE.skip(in);
+        QuaternionMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.TransformStampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link TransformStampedMessage}. Do not edit. */
+public class TransformStampedMessageCdrCodec implements CdrCodec<TransformStampedMessage> {
+
+    public static final TransformStampedMessageCdrCodec INSTANCE =
+            new TransformStampedMessageCdrCodec();
+
+    @Override
+    public Class<TransformStampedMessage> getMessageClass() {
+        return TransformStampedMessage.class;
+    }
+
+    @Override
+    public void write(TransformStampedMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        StringMessageCdrCodec.INSTANCE.write(message.child_frame_id, out);
+        TransformMessageCdrCodec.INSTANCE.write(message.transform, out);
+    }
+
+    @Override
+    public TransformStampedMessage read(DdsDataInput in, TransformStampedMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new TransformStampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.child_frame_id = StringMessageCdrCodec.INSTANCE.read(in, message.child_frame_id);
+        message.transform = TransformMessageCdrCodec.INSTANCE.read(in, message.transform);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        StringMessageCdrCodec.INSTANCE.skip(in);
+        TransformMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
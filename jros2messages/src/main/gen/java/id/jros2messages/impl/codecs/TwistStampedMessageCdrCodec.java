@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.TwistStampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link TwistStampedMessage}. Do not edit. */
+public class TwistStampedMessageCdrCodec implements CdrCodec<TwistStampedMessage> {
+
+    public static final TwistStampedMessageCdrCodec INSTANCE = new TwistStampedMessageCdrCodec();
+
+    @Override
+    public Class<TwistStampedMessage> getMessageClass() {
+        return TwistStampedMessage.class;
+    }
+
+    @Override
+    public void write(TwistStampedMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        TwistMessageCdrCodec.INSTANCE.write(message.twist, out);
+    }
+
+    @Override
+    public TwistStampedMessage read(DdsDataInput in, TwistStampedMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new TwistStampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.twist = TwistMessageCdrCodec.INSTANCE.read(in, message.twist);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        TwistMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
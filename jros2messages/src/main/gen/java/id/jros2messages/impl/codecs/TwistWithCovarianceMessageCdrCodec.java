@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jrosmessages.geometry_msgs.TwistWithCovarianceMessage;
+import java.lang.annotation.Annotation;
+
+/** Generated by CdrCodecGenerator from {@link TwistWithCovarianceMessage}. Do not edit. */
+public class TwistWithCovarianceMessageCdrCodec implements CdrCodec<TwistWithCovarianceMessage> {
+
+    public static final TwistWithCovarianceMessageCdrCodec INSTANCE =
+            new TwistWithCovarianceMessageCdrCodec();
+
+    private static final Annotation[] COVARIANCE_ANNOTATIONS =
+            CdrCodec.annotationsOf(TwistWithCovarianceMessage.class, "covariance");
+
+    @Override
+    public Class<TwistWithCovarianceMessage> getMessageClass() {
+        return TwistWithCovarianceMessage.class;
+    }
+
+    @Override
+    public void write(TwistWithCovarianceMessage message, DdsDataOutput out) throws Exception {
+        TwistMessageCdrCodec.INSTANCE.write(message.twist, out);
+        out.writeDoubleArray(message.covariance, COVARIANCE_ANNOTATIONS);
+    }
+
+    @Override
+    public TwistWithCovarianceMessage read(DdsDataInput in, TwistWithCovarianceMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new TwistWithCovarianceMessage();
+        message.twist = TwistMessageCdrCodec.INSTANCE.read(in, message.twist);
+        message.covariance = in.readDoubleArray(message.covariance, COVARIANCE_ANNOTATIONS);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        TwistMessageCdrCodec.INSTANCE.skip(in);
+        in.skipArray(Double.BYTES, COVARIANCE_ANNOTATIONS);
+    }
+}
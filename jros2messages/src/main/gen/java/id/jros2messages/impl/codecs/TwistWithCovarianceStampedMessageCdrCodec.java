@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.TwistWithCovarianceStampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link TwistWithCovarianceStampedMessage}. Do not edit. */
+public class TwistWithCovarianceStampedMessageCdrCodec
+        implements CdrCodec<TwistWithCovarianceStampedMessage> {
+
+    public static final TwistWithCovarianceStampedMessageCdrCodec INSTANCE =
+            new TwistWithCovarianceStampedMessageCdrCodec();
+
+    @Override
+    public Class<TwistWithCovarianceStampedMessage> getMessageClass() {
+        return TwistWithCovarianceStampedMessage.class;
+    }
+
+    @Override
+    public void write(TwistWithCovarianceStampedMessage message, DdsDataOutput out)
+            throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        TwistWithCovarianceMessageCdrCodec.INSTANCE.write(message.twist, out);
+    }
+
+    @Override
+    public TwistWithCovarianceStampedMessage read(
+            DdsDataInput in, TwistWithCovarianceStampedMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new TwistWithCovarianceStampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.twist = TwistWithCovarianceMessageCdrCodec.INSTANCE.read(in, message.twist);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        TwistWithCovarianceMessageCdrCodec.INSTANCE.skip(in);
+    }
+}
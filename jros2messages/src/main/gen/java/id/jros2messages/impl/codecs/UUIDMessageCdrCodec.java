@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.unique_identifier_msgs.UUIDMessage;
+
+/** Generated by CdrCodecGenerator from {@link UUIDMessage}. Do not edit. */
+public class UUIDMessageCdrCodec implements CdrCodec<UUIDMessage> {
+
+    public static final UUIDMessageCdrCodec INSTANCE = new UUIDMessageCdrCodec();
+
+    @Override
+    public Class<UUIDMessage> getMessageClass() {
+        return UUIDMessage.class;
+    }
+
+    @Override
+    public void write(UUIDMessage message, DdsDataOutput out) throws Exception {
+        out.writeUUID(message.uuid);
+    }
+
+    @Override
+    public UUIDMessage read(DdsDataInput in, UUIDMessage reuse) throws Exception {
+        var message = reuse != null ? reuse : new UUIDMessage();
+        message.uuid = in.readUUID();
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        in.readUUID();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl.codecs;
+
+import id.jros2messages.geometry_msgs.Vector3StampedMessage;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataInput;
+import id.jros2messages.impl.DdsDataOutput;
+
+/** Generated by CdrCodecGenerator from {@link Vector3StampedMessage}. Do not edit. */
+public class Vector3StampedMessageCdrCodec implements CdrCodec<Vector3StampedMessage> {
+
+    public static final Vector3StampedMessageCdrCodec INSTANCE =
+            new Vector3StampedMessageCdrCodec();
+
+    @Override
+    public Class<Vector3StampedMessage> getMessageClass() {
+        return Vector3StampedMessage.class;
+    }
+
+    @Override
+    public void write(Vector3StampedMessage message, DdsDataOutput out) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.write(message.header, out);
+        Vector3MessageCdrCodec.INSTANCE.write(message.vector, out);
+    }
+
+    @Override
+    public Vector3StampedMessage read(DdsDataInput in, Vector3StampedMessage reuse)
+            throws Exception {
+        var message = reuse != null ? reuse : new Vector3StampedMessage();
+        message.header = HeaderMessageCdrCodec.INSTANCE.read(in, message.header);
+        message.vector = Vector3MessageCdrCodec.INSTANCE.read(in, message.vector);
+        return message;
+    }
+
+    @Override
+    public void skip(DdsDataInput in) throws Exception {
+        HeaderMessageCdrCodec.INSTANCE.skip(in);
+        Vector3MessageCdrCodec.INSTANCE.skip(in);
+    }
+}
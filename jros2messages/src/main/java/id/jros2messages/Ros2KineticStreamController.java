@@ -17,6 +17,7 @@
  */
 package id.jros2messages;
 
+import id.jros2messages.impl.CdrCodec;
 import id.jros2messages.impl.DdsDataInput;
 import id.jros2messages.impl.DdsDataOutput;
 import id.kineticstreamer.InputKineticStream;
@@ -36,6 +37,11 @@ class Ros2KineticStreamController extends KineticStreamController {
         if (fieldType == UUID.class) {
             return new ReaderResult(true, rtpsStream.readUUID());
         }
+        @SuppressWarnings("unchecked")
+        var codec = (CdrCodec<Object>) rtpsStream.findCodec(fieldType);
+        if (codec != null) {
+            return new ReaderResult(true, codec.read(rtpsStream, obj));
+        }
         return ReaderResult.CONTINUE;
     }
 
@@ -46,6 +52,10 @@ class Ros2KineticStreamController extends KineticStreamController {
             rtpsStream.writeUUID(uuid);
             return new WriterResult(true);
         }
+        if (obj != null && rtpsStream.findCodec(obj.getClass()) != null) {
+            rtpsStream.writeMessage(obj);
+            return new WriterResult(true);
+        }
         return WriterResult.CONTINUE;
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages;
+
+import id.jros2messages.impl.DdsDataInput;
+import id.kineticstreamer.KineticStreamReader;
+
+/**
+ * Reads messages with generated {@link id.jros2messages.impl.CdrCodec} when it is available and
+ * falls back to reflection based kinetic stream otherwise.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class Ros2KineticStreamReader extends KineticStreamReader {
+
+    private DdsDataInput in;
+
+    public Ros2KineticStreamReader(DdsDataInput in) {
+        super(in);
+        this.in = in;
+    }
+
+    @Override
+    public <T> T read(Class<T> type) throws Exception {
+        var codec = in.findCodec(type);
+        if (codec != null) return codec.read(in);
+        return super.read(type);
+    }
+}
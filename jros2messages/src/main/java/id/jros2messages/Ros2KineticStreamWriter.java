@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages;
+
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.DdsDataOutput;
+import id.kineticstreamer.KineticStreamWriter;
+import java.lang.annotation.Annotation;
+
+/**
+ * Writes messages with generated {@link CdrCodec} when it is available and falls back to reflection
+ * based kinetic stream otherwise.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class Ros2KineticStreamWriter extends KineticStreamWriter {
+
+    private DdsDataOutput out;
+
+    public Ros2KineticStreamWriter(DdsDataOutput out) {
+        super(out);
+        this.out = out;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(Object obj, Annotation... fieldAnnotations) throws Exception {
+        var codec = obj == null ? null : (CdrCodec<Object>) out.findCodec(obj.getClass());
+        if (codec != null) codec.write(obj, out);
+        else super.write(obj, fieldAnnotations);
+    }
+}
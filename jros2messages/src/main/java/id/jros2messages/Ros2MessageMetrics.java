@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages;
+
+/**
+ * Names of the OpenTelemetry metrics recorded by {@link Ros2MessageSerializationUtils}.
+ *
+ * <p>All metrics have attribute {@link #MESSAGE_TYPE_ATTR} with the ROS name of the message (ex.
+ * "sensor_msgs/PointCloud2").
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public interface Ros2MessageMetrics {
+
+    String MESSAGE_TYPE_ATTR = "MessageType";
+
+    String ENCODE_TIME_METRIC = "jros2messages.encode.time";
+    String ENCODE_TIME_METRIC_DESCRIPTION = "Message serialization time in seconds";
+
+    String DECODE_TIME_METRIC = "jros2messages.decode.time";
+    String DECODE_TIME_METRIC_DESCRIPTION = "Message deserialization time in seconds";
+
+    String ENCODE_BYTES_METRIC = "jros2messages.encode.bytes";
+    String ENCODE_BYTES_METRIC_DESCRIPTION = "Size of serialized messages in bytes";
+
+    String DECODE_BYTES_METRIC = "jros2messages.decode.bytes";
+    String DECODE_BYTES_METRIC_DESCRIPTION = "Size of deserialized messages in bytes";
+
+    String ENCODE_ERRORS_METRIC = "jros2messages.encode.errors";
+    String ENCODE_ERRORS_METRIC_DESCRIPTION = "Number of messages which failed to serialize";
+
+    String DECODE_ERRORS_METRIC = "jros2messages.decode.errors";
+    String DECODE_ERRORS_METRIC_DESCRIPTION = "Number of messages which failed to deserialize";
+}
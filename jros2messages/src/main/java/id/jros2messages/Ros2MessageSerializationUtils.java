@@ -17,19 +17,38 @@
  */
 package id.jros2messages;
 
+import id.jros2messages.impl.ByteBufferDataOutput;
+import id.jros2messages.impl.CdrCodec;
+import id.jros2messages.impl.CdrCodecs;
+import id.jros2messages.impl.CountingDataOutput;
 import id.jros2messages.impl.DdsDataInput;
 import id.jros2messages.impl.DdsDataOutput;
+import id.jros2messages.impl.StringInternCache;
+import id.jrosmessages.Message;
 import id.jrosmessages.impl.AbstractMessageSerializationUtils;
+import id.kineticstreamer.KineticStreamController;
 import id.kineticstreamer.KineticStreamReader;
 import id.kineticstreamer.KineticStreamWriter;
+import id.xfunction.lang.XRE;
 import id.xfunction.logging.TracingToken;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * Performs message (de)serialization (from)to stream of bytes.
  *
+ * <p>Messages which have generated CDR codec (see {@code src/main/gen}) are (de)serialized by it
+ * directly. All other messages are (de)serialized using reflection.
+ *
+ * <p>Serialization metrics ({@link Ros2MessageMetrics}) are recorded through OpenTelemetry.
+ *
  * <p>Thread safe.
  *
  * @author lambdaprime intid@protonmail.com
@@ -39,25 +58,233 @@ public class Ros2MessageSerializationUtils extends AbstractMessageSerializationU
             new TracingToken(Ros2MessageSerializationUtils.class.getSimpleName());
 
     private static final byte[] EMPTY_MESSAGE = new byte[4];
+    private static final Map<String, String> ATTRIBUTES = Map.of("RosVersion", "ROS2");
 
+    private SerializationMetrics metrics;
+    private StringInternCache stringCache;
+    private ExecutorService executor;
+    private boolean cdrCodecs = true;
+
+    /**
+     * Record {@link Ros2MessageMetrics} using {@link GlobalOpenTelemetry} meter.
+     *
+     * <p>Meter is obtained only when the first metric is recorded, so {@link
+     * GlobalOpenTelemetry#set} can still be called after this object is created.
+     */
     public Ros2MessageSerializationUtils() {
-        super(TRACING_TOKEN, Map.of("RosVersion", "ROS2"));
+        this(
+                () ->
+                        GlobalOpenTelemetry.getMeter(
+                                Ros2MessageSerializationUtils.class.getSimpleName()));
+    }
+
+    /**
+     * @param meter meter to record {@link Ros2MessageMetrics}
+     */
+    public Ros2MessageSerializationUtils(@SuppressWarnings("exports") Meter meter) {
+        this(() -> meter);
+    }
+
+    private Ros2MessageSerializationUtils(Supplier<Meter> meter) {
+        super(TRACING_TOKEN, ATTRIBUTES);
+        metrics = new SerializationMetrics(meter, ATTRIBUTES);
+    }
+
+    /**
+     * Enable cache for decoded strings.
+     *
+     * <p>Strings like {@code HeaderMessage.frame_id}, {@code JointStateMessage.name}, {@code
+     * ImageMessage.encoding} usually repeat in every message of the topic. With this cache enabled
+     * they are decoded only once and all subsequent messages share same {@link String} instances.
+     * Only short strings (up to {@link StringInternCache#DEFAULT_MAX_LENGTH} bytes) are cached.
+     *
+     * <p>Should be called before the object is used for deserialization.
+     *
+     * @param capacity maximum number of cached strings
+     */
+    public Ros2MessageSerializationUtils withStringInternCache(int capacity) {
+        stringCache = new StringInternCache(capacity);
+        return this;
+    }
+
+    /**
+     * Enable or disable generated CDR codecs (enabled by default).
+     *
+     * <p>When disabled all messages are (de)serialized using reflection. Wire format is the same in
+     * both cases.
+     *
+     * <p>Should be called before the object is used for (de)serialization.
+     */
+    public Ros2MessageSerializationUtils withCdrCodecs(boolean enabled) {
+        this.cdrCodecs = enabled;
+        return this;
+    }
+
+    /**
+     * Decode large messages using multiple threads.
+     *
+     * <p>Arrays of nested messages (for example {@code MarkerArrayMessage.markers}, {@code
+     * Detection3DArrayMessage.detections}) are split into the chunks which are decoded in parallel
+     * and large byte arrays ({@code PointCloud2Message.data}, {@code OctomapMessage.data}, ...) are
+     * copied in parallel. Small messages are always decoded in the calling thread.
+     *
+     * <p>Should be called before the object is used for deserialization.
+     *
+     * @param executor executor to run decoding tasks (calling thread takes part in decoding too)
+     */
+    public Ros2MessageSerializationUtils withParallelDecoding(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public <M extends Message> M read(byte[] data, Class<M> clazz) {
+        return read(ByteBuffer.wrap(data), clazz);
+    }
+
+    @Override
+    public <M extends Message> M read(ByteBuffer data, Class<M> clazz) {
+        var startAt = System.nanoTime();
+        var len = data.remaining();
+        M message;
+        try {
+            message = super.read(data, clazz);
+        } catch (RuntimeException e) {
+            metrics.onDecodeError(clazz);
+            throw e;
+        }
+        metrics.onDecode(clazz, startAt, len);
+        return message;
+    }
+
+    @Override
+    public byte[] write(Message message) {
+        var startAt = System.nanoTime();
+        byte[] data;
+        try {
+            data = super.write(message);
+        } catch (RuntimeException e) {
+            metrics.onEncodeError(message.getClass());
+            throw e;
+        }
+        metrics.onEncode(message.getClass(), startAt, data.length);
+        return data;
     }
 
     @Override
     protected KineticStreamReader newKineticStreamReader(ByteBuffer buf) {
         var controller = new Ros2KineticStreamController().withFieldsProvider(FIELDS_PROVIDER);
-        return new KineticStreamReader(new DdsDataInput(TRACING_TOKEN, buf, controller))
+        return new Ros2KineticStreamReader(newDdsDataInput(buf, controller))
                 .withController(controller);
     }
 
+    private DdsDataInput newDdsDataInput(ByteBuffer buf, KineticStreamController controller) {
+        return new DdsDataInput(TRACING_TOKEN, buf, controller)
+                .withStringCache(stringCache)
+                .withExecutor(executor)
+                .withCdrCodecs(cdrCodecs);
+    }
+
+    /**
+     * Deserialize message into existing instance instead of creating new one.
+     *
+     * <p>For messages which have generated CDR codec the whole message graph is filled in place:
+     * nested messages are reused and arrays are reused when their length matches the length of the
+     * received data. This allows subscribers with high message rates to avoid allocating new
+     * objects on every message. Messages without codec are deserialized as usual and only their top
+     * level fields are copied to the given instance.
+     *
+     * @return given message instance
+     */
+    @SuppressWarnings("unchecked")
+    public <M extends Message> M read(ByteBuffer data, M reuse) {
+        var codec = cdrCodecs ? (CdrCodec<M>) CdrCodecs.find(reuse.getClass()) : null;
+        if (codec == null) {
+            // metrics are recorded by read
+            var message = read(data, reuse.getClass());
+            try {
+                for (var field : FIELDS_PROVIDER.getDeclaredStreamedFields(reuse.getClass())) {
+                    field.set(reuse, field.get(message));
+                }
+            } catch (IllegalAccessException e) {
+                throw new XRE(e);
+            }
+            return reuse;
+        }
+        var startAt = System.nanoTime();
+        var len = data.remaining();
+        try {
+            var controller = new Ros2KineticStreamController().withFieldsProvider(FIELDS_PROVIDER);
+            codec.read(newDdsDataInput(data, controller), reuse);
+        } catch (Exception e) {
+            metrics.onDecodeError(reuse.getClass());
+            if (e instanceof RuntimeException re) throw re;
+            throw new XRE(e);
+        }
+        metrics.onDecode(reuse.getClass(), startAt, len);
+        return reuse;
+    }
+
     @Override
     protected KineticStreamWriter newKineticStreamWriter(DataOutputStream dos) {
+        return newKineticStreamWriter((DataOutput) dos);
+    }
+
+    private KineticStreamWriter newKineticStreamWriter(DataOutput out) {
         var controller = new Ros2KineticStreamController().withFieldsProvider(FIELDS_PROVIDER);
-        return new KineticStreamWriter(new DdsDataOutput(TRACING_TOKEN, dos, controller))
+        return new Ros2KineticStreamWriter(
+                        new DdsDataOutput(TRACING_TOKEN, out, controller).withCdrCodecs(cdrCodecs))
                 .withController(controller);
     }
 
+    /**
+     * Serialize message directly into the target buffer starting from its current position.
+     *
+     * <p>Unlike {@link #write(Message)} it does not allocate any intermediate buffers, so with
+     * direct buffers the message is serialized straight into the native memory.
+     *
+     * <p>On success the position of the target buffer is advanced by the number of bytes written.
+     *
+     * @return number of bytes written
+     * @throws BufferOverflowException if there is not enough space remaining in the target buffer,
+     *     in that case its position stays unchanged
+     */
+    public int serialize(Message message, ByteBuffer target) {
+        var startAt = System.nanoTime();
+        var out = new ByteBufferDataOutput(target);
+        try {
+            newKineticStreamWriter(out).write(message);
+            if (out.size() == 0) out.write(EMPTY_MESSAGE);
+        } catch (Exception e) {
+            metrics.onEncodeError(message.getClass());
+            if (e instanceof RuntimeException re) throw re;
+            throw new XRE(e);
+        }
+        out.commit();
+        metrics.onEncode(message.getClass(), startAt, out.size());
+        return out.size();
+    }
+
+    /**
+     * Calculate exact size of the message in serialized form, including all CDR alignment padding,
+     * so that the buffer for {@link #serialize(Message, ByteBuffer)} can be allocated (or taken
+     * from the pool) once.
+     *
+     * <p>Message fields are traversed the same way as during serialization but nothing is written
+     * and no memory is allocated for the message data.
+     */
+    public int serializedSize(Message message) {
+        var out = new CountingDataOutput();
+        try {
+            newKineticStreamWriter(out).write(message);
+        } catch (Exception e) {
+            if (e instanceof RuntimeException re) throw re;
+            throw new XRE(e);
+        }
+        if (out.size() == 0) return EMPTY_MESSAGE.length;
+        return Math.toIntExact(out.size());
+    }
+
     @Override
     protected byte[] postProc(byte[] rawMessage) {
         return rawMessage.length == 0 ? EMPTY_MESSAGE : rawMessage;
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages;
+
+import static id.jros2messages.Ros2MessageMetrics.*;
+
+import id.jrosmessages.MessageMetadata;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records {@link Ros2MessageMetrics}.
+ *
+ * <p>When no OpenTelemetry SDK is installed all instruments are no-op and recording costs only two
+ * {@link System#nanoTime()} calls and a lookup of cached message attributes.
+ *
+ * <p>Meter is resolved and instruments are created only when the first metric is recorded, so that
+ * creating {@link Ros2MessageSerializationUtils} does not initialize {@link
+ * io.opentelemetry.api.GlobalOpenTelemetry}.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class SerializationMetrics {
+
+    private static final AttributeKey<String> MESSAGE_TYPE_KEY =
+            AttributeKey.stringKey(MESSAGE_TYPE_ATTR);
+
+    /** Durations of (de)serialization range from sub-microsecond to seconds for large messages */
+    private static final List<Double> DURATION_BUCKETS =
+            List.of(
+                    1e-6, 2.5e-6, 5e-6, 1e-5, 2.5e-5, 5e-5, 1e-4, 2.5e-4, 5e-4, 1e-3, 2.5e-3, 5e-3,
+                    1e-2, 2.5e-2, 5e-2, 0.1, 0.25, 0.5, 1.0);
+
+    private record Instruments(
+            DoubleHistogram encodeTime,
+            DoubleHistogram decodeTime,
+            LongHistogram encodeBytes,
+            LongHistogram decodeBytes,
+            LongCounter encodeErrors,
+            LongCounter decodeErrors) {}
+
+    private Supplier<Meter> meter;
+    private volatile Instruments instruments;
+
+    /** Attributes are created once per message type so that recording does not allocate */
+    private ClassValue<Attributes> attributes;
+
+    SerializationMetrics(Supplier<Meter> meter, Map<String, String> commonAttributes) {
+        this.meter = meter;
+        attributes =
+                new ClassValue<>() {
+                    @Override
+                    protected Attributes computeValue(Class<?> messageClass) {
+                        var builder = Attributes.builder();
+                        commonAttributes.forEach(builder::put);
+                        var metadata = messageClass.getAnnotation(MessageMetadata.class);
+                        builder.put(
+                                MESSAGE_TYPE_KEY,
+                                metadata != null ? metadata.name() : messageClass.getName());
+                        return builder.build();
+                    }
+                };
+    }
+
+    private Instruments instruments() {
+        var result = instruments;
+        if (result != null) return result;
+        synchronized (this) {
+            if (instruments == null) instruments = createInstruments(meter.get());
+            return instruments;
+        }
+    }
+
+    private static Instruments createInstruments(Meter meter) {
+        return new Instruments(
+                meter.histogramBuilder(ENCODE_TIME_METRIC)
+                        .setDescription(ENCODE_TIME_METRIC_DESCRIPTION)
+                        .setUnit("s")
+                        .setExplicitBucketBoundariesAdvice(DURATION_BUCKETS)
+                        .build(),
+                meter.histogramBuilder(DECODE_TIME_METRIC)
+                        .setDescription(DECODE_TIME_METRIC_DESCRIPTION)
+                        .setUnit("s")
+                        .setExplicitBucketBoundariesAdvice(DURATION_BUCKETS)
+                        .build(),
+                meter.histogramBuilder(ENCODE_BYTES_METRIC)
+                        .setDescription(ENCODE_BYTES_METRIC_DESCRIPTION)
+                        .setUnit("By")
+                        .ofLongs()
+                        .build(),
+                meter.histogramBuilder(DECODE_BYTES_METRIC)
+                        .setDescription(DECODE_BYTES_METRIC_DESCRIPTION)
+                        .setUnit("By")
+                        .ofLongs()
+                        .build(),
+                meter.counterBuilder(ENCODE_ERRORS_METRIC)
+                        .setDescription(ENCODE_ERRORS_METRIC_DESCRIPTION)
+                        .build(),
+                meter.counterBuilder(DECODE_ERRORS_METRIC)
+                        .setDescription(DECODE_ERRORS_METRIC_DESCRIPTION)
+                        .build());
+    }
+
+    void onEncode(Class<?> messageClass, long startNanos, int bytes) {
+        var attrs = attributes.get(messageClass);
+        var instruments = instruments();
+        instruments.encodeTime().record(seconds(startNanos), attrs);
+        instruments.encodeBytes().record(bytes, attrs);
+    }
+
+    void onDecode(Class<?> messageClass, long startNanos, int bytes) {
+        var attrs = attributes.get(messageClass);
+        var instruments = instruments();
+        instruments.decodeTime().record(seconds(startNanos), attrs);
+        instruments.decodeBytes().record(bytes, attrs);
+    }
+
+    void onEncodeError(Class<?> messageClass) {
+        instruments().encodeErrors().add(1, attributes.get(messageClass));
+    }
+
+    void onDecodeError(Class<?> messageClass) {
+        instruments().decodeErrors().add(1, attributes.get(messageClass));
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1e9;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import static id.jros2messages.bag.BagPlayerMetrics.*;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.Message;
+import id.xfunction.lang.XRE;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Replays recorded messages with the original timing (or faster).
+ *
+ * <p>Messages are read and deserialized ahead by a separate thread (and the executor) into the ring
+ * buffer, so that the replay thread only waits for the time to emit the next message. Waiting is
+ * done with {@link LockSupport#parkNanos(long)} until the last {@link #withSpinThreshold(Duration)}
+ * before the emit time, and the rest of the time the replay thread spins. Spinning keeps the jitter
+ * low (parking alone can overshoot by tens of microseconds) at the cost of one busy core.
+ *
+ * <p>Messages are emitted in the order in which they were recorded, at the moment defined by their
+ * {@link TimeSource}. Lateness of each message (how much later than scheduled it was emitted) is
+ * recorded to {@link BagPlayerMetrics} and summarized in {@link Statistics}. Meter is resolved and
+ * instruments are created when the first replay starts.
+ *
+ * <p>Thread safe, but only one replay can run at a time.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class BagPlayer {
+
+    private static final AttributeKey<String> TOPIC_KEY = AttributeKey.stringKey(TOPIC_ATTR);
+
+    /** Lateness ranges from microseconds (spinning) to seconds (slow subscriber) */
+    private static final List<Double> LATENESS_BUCKETS =
+            List.of(
+                    1e-6, 2.5e-6, 5e-6, 1e-5, 2.5e-5, 5e-5, 1e-4, 2.5e-4, 5e-4, 1e-3, 2.5e-3, 5e-3,
+                    1e-2, 2.5e-2, 5e-2, 0.1, 0.25, 0.5, 1.0);
+
+    /** Public "header" fields of the messages, null if message has no header */
+    private static final ClassValue<Field> HEADER_FIELDS =
+            new ClassValue<>() {
+                @Override
+                protected Field computeValue(Class<?> messageClass) {
+                    try {
+                        var field = messageClass.getField("header");
+                        return field.getType() == HeaderMessage.class ? field : null;
+                    } catch (NoSuchFieldException e) {
+                        return null;
+                    }
+                }
+            };
+
+    /** Time according to which messages are emitted */
+    public enum TimeSource {
+        /** Time when message was recorded */
+        LOG_TIME,
+
+        /**
+         * {@link HeaderMessage#stamp} of the messages which have header, for all other messages
+         * {@link #LOG_TIME} is used.
+         *
+         * <p>Header stamps may come from another clock than the log time (for example simulation
+         * time), so they are shifted onto the log time timeline by the difference between the log
+         * time and the header stamp of the first replayed message which has header.
+         */
+        HEADER_STAMP
+    }
+
+    /**
+     * Replay summary
+     *
+     * @param messageCount number of emitted messages
+     * @param underruns number of messages which were not yet deserialized when they had to be
+     *     emitted (replay with infinite rate has no underruns)
+     * @param meanLateness mean lateness of the emitted messages in nanoseconds
+     * @param maxLateness maximum lateness of the emitted messages in nanoseconds
+     */
+    public record Statistics(
+            long messageCount, long underruns, long meanLateness, long maxLateness) {}
+
+    private double rate = 1;
+    private TimeSource timeSource = TimeSource.LOG_TIME;
+    private int bufferSize = 1024;
+    private long spinThreshold = 200_000;
+    private ExecutorService executor = ForkJoinPool.commonPool();
+    private Ros2MessageSerializationUtils serializationUtils = new Ros2MessageSerializationUtils();
+    private Map<String, Class<? extends Message>> messageClasses = new HashMap<>();
+    private Supplier<Meter> meter;
+    private DoubleHistogram lateness;
+    private LongCounter underruns;
+    private volatile boolean isStopped;
+
+    /** Record {@link BagPlayerMetrics} using {@link GlobalOpenTelemetry} meter */
+    public BagPlayer() {
+        this(() -> GlobalOpenTelemetry.getMeter(BagPlayer.class.getSimpleName()));
+    }
+
+    /**
+     * @param meter meter to record {@link BagPlayerMetrics}
+     */
+    public BagPlayer(@SuppressWarnings("exports") Meter meter) {
+        this(() -> meter);
+    }
+
+    private BagPlayer(Supplier<Meter> meter) {
+        this.meter = meter;
+    }
+
+    private synchronized void createInstruments() {
+        if (lateness != null) return;
+        var meter = this.meter.get();
+        lateness =
+                meter.histogramBuilder(LATENESS_METRIC)
+                        .setDescription(LATENESS_METRIC_DESCRIPTION)
+                        .setUnit("s")
+                        .setExplicitBucketBoundariesAdvice(LATENESS_BUCKETS)
+                        .build();
+        underruns =
+                meter.counterBuilder(UNDERRUNS_METRIC)
+                        .setDescription(UNDERRUNS_METRIC_DESCRIPTION)
+                        .build();
+    }
+
+    /**
+     * Replay rate: 1 - original speed (default), 10 - ten times faster, {@link
+     * Double#POSITIVE_INFINITY} - as fast as possible
+     */
+    public BagPlayer withRate(double rate) {
+        if (!(rate > 0)) throw new XRE("Rate should be positive: %s", rate);
+        this.rate = rate;
+        return this;
+    }
+
+    /** Default is {@link TimeSource#LOG_TIME} */
+    public BagPlayer withTimeSource(TimeSource timeSource) {
+        this.timeSource = timeSource;
+        return this;
+    }
+
+    /** Maximum number of messages deserialized ahead. Default is 1024. */
+    public BagPlayer withBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * How long before the emit time replay thread stops parking and starts spinning. Zero disables
+     * spinning. Default is 200 microseconds.
+     */
+    public BagPlayer withSpinThreshold(Duration spinThreshold) {
+        this.spinThreshold = spinThreshold.toNanos();
+        return this;
+    }
+
+    /** Executor to deserialize messages. Default is {@link ForkJoinPool#commonPool()} */
+    public BagPlayer withExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public BagPlayer withSerializationUtils(Ros2MessageSerializationUtils serializationUtils) {
+        this.serializationUtils = serializationUtils;
+        return this;
+    }
+
+    /**
+     * Use given class for the messages of its ROS2 type instead of the default one (or for the
+     * types which are not part of jros2messages).
+     */
+    public BagPlayer withMessageClass(Class<? extends Message> messageClass) {
+        messageClasses.put(MessageTypes.typeName(messageClass), messageClass);
+        return this;
+    }
+
+    /**
+     * @see #play(BagReader, long, long, Set, Consumer)
+     */
+    public Statistics play(BagReader reader, Consumer<DecodedMessage> subscriber) {
+        return play(reader, Long.MIN_VALUE, Long.MAX_VALUE, Set.of(), subscriber);
+    }
+
+    /**
+     * Replay messages in the calling thread. Returns when all messages are replayed or {@link
+     * #stop()} is called.
+     *
+     * @param startTime log time of the first message to replay, inclusive, in nanoseconds since
+     *     epoch
+     * @param endTime log time of the last message to replay, exclusive, in nanoseconds since epoch
+     * @param topics topics to replay, if empty then all topics are replayed
+     * @param subscriber receives messages when they are due
+     */
+    public Statistics play(
+            BagReader reader,
+            long startTime,
+            long endTime,
+            Set<String> topics,
+            Consumer<DecodedMessage> subscriber) {
+        isStopped = false;
+        createInstruments();
+        var classes = MessageTypes.findClasses(messageClasses, reader.getTopics(), topics);
+        var buffer = new RingBuffer<DecodedMessage>(bufferSize);
+        var error = new AtomicReference<Throwable>();
+        var decoder =
+                new Thread(
+                        () -> {
+                            try (var messages = reader.read(startTime, endTime, topics)) {
+                                var iterator =
+                                        new OrderedDecoder(
+                                                messages.iterator(),
+                                                classes::get,
+                                                serializationUtils,
+                                                executor,
+                                                OrderedDecoder.DEFAULT_MAX_PENDING);
+                                while (iterator.hasNext())
+                                    if (!buffer.put(iterator.next(), () -> isStopped)) break;
+                            } catch (Throwable e) {
+                                error.set(e);
+                            }
+                        },
+                        BagPlayer.class.getSimpleName() + "-decoder");
+        decoder.setDaemon(true);
+        decoder.start();
+        try {
+            // replay starts when buffer is full, so that first messages are not late
+            while (!isStopped && decoder.isAlive() && !buffer.isFull())
+                LockSupport.parkNanos(RingBuffer.PARK_NANOS);
+            return replay(buffer, decoder, error, subscriber);
+        } finally {
+            isStopped = true;
+            try {
+                decoder.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Statistics replay(
+            RingBuffer<DecodedMessage> buffer,
+            Thread decoder,
+            AtomicReference<Throwable> error,
+            Consumer<DecodedMessage> subscriber) {
+        var attributes = new HashMap<String, Attributes>();
+        long count = 0, underrunCount = 0, latenessSum = 0, maxLateness = 0;
+        long firstTime = 0, replayStartTime = 0;
+        // difference between log time and header stamp of the first message with header
+        long stampOffset = 0;
+        var hasStampOffset = false;
+        var wasEmpty = false;
+        while (!isStopped) {
+            var message = buffer.poll();
+            if (message == null) {
+                if (!decoder.isAlive()) {
+                    // decoder could add messages before it has finished
+                    message = buffer.poll();
+                    if (message == null) break;
+                } else {
+                    wasEmpty = true;
+                    LockSupport.parkNanos(RingBuffer.PARK_NANOS);
+                    continue;
+                }
+            }
+            var attrs =
+                    attributes.computeIfAbsent(
+                            message.topic(), topic -> Attributes.of(TOPIC_KEY, topic));
+            var time = message.logTime();
+            var header =
+                    timeSource == TimeSource.HEADER_STAMP
+                            ? HEADER_FIELDS.get(message.message().getClass())
+                            : null;
+            if (header != null) {
+                var stamp = headerStamp(header, message.message());
+                if (!hasStampOffset) {
+                    stampOffset = message.logTime() - stamp;
+                    hasStampOffset = true;
+                }
+                time = stamp + stampOffset;
+            }
+            if (count == 0) {
+                firstTime = time;
+                replayStartTime = System.nanoTime();
+            }
+            if (rate != Double.POSITIVE_INFINITY) {
+                var deadline = replayStartTime + (long) ((time - firstTime) / rate);
+                // message was late because it was not decoded in time, not because the
+                // subscriber is slow
+                if (wasEmpty && System.nanoTime() > deadline) {
+                    underruns.add(1, attrs);
+                    underrunCount++;
+                }
+                waitUntil(deadline);
+                var late = Math.max(0, System.nanoTime() - deadline);
+                lateness.record(late / 1e9, attrs);
+                latenessSum += late;
+                maxLateness = Math.max(maxLateness, late);
+            }
+            wasEmpty = false;
+            subscriber.accept(message);
+            count++;
+        }
+        if (error.get() != null) {
+            if (error.get() instanceof RuntimeException e) throw e;
+            throw new XRE(error.get());
+        }
+        return new Statistics(
+                count, underrunCount, count == 0 ? 0 : latenessSum / count, maxLateness);
+    }
+
+    private void waitUntil(long deadline) {
+        while (!isStopped) {
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return;
+            if (remaining > spinThreshold) LockSupport.parkNanos(remaining - spinThreshold);
+            else Thread.onSpinWait();
+        }
+    }
+
+    /** Header stamp in nanoseconds */
+    private static long headerStamp(Field header, Message message) {
+        try {
+            var stamp = ((HeaderMessage) header.get(message)).stamp;
+            return stamp.sec * 1_000_000_000L + Integer.toUnsignedLong(stamp.nanosec);
+        } catch (IllegalAccessException e) {
+            throw new XRE(e);
+        }
+    }
+
+    /** Stop the replay which is currently running */
+    public void stop() {
+        isStopped = true;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+/**
+ * Names of the OpenTelemetry metrics recorded by {@link BagPlayer}.
+ *
+ * <p>All metrics have attribute {@link #TOPIC_ATTR} with the name of the topic.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public interface BagPlayerMetrics {
+
+    String TOPIC_ATTR = "Topic";
+
+    String LATENESS_METRIC = "jros2messages.replay.lateness";
+    String LATENESS_METRIC_DESCRIPTION =
+            "Time between the moment when message was scheduled and when it was emitted in"
+                    + " seconds";
+
+    String UNDERRUNS_METRIC = "jros2messages.replay.underruns";
+    String UNDERRUNS_METRIC_DESCRIPTION =
+            "Number of messages which were not decoded by the time they were scheduled";
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Reader of ROS2 recordings.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public interface BagReader extends AutoCloseable {
+
+    /**
+     * @return topic names mapped to their ROS2 message type names ("sensor_msgs/msg/Image")
+     */
+    Map<String, String> getTopics();
+
+    /**
+     * Read messages of the given topics with log time within given range. Messages are returned in
+     * the order of their log time.
+     *
+     * @param startTime inclusive, in nanoseconds since epoch
+     * @param endTime exclusive, in nanoseconds since epoch
+     * @param topics topics to read, if empty then all topics are read
+     */
+    Stream<RecordedMessage> read(long startTime, long endTime, Set<String> topics);
+
+    /** Read all messages */
+    default Stream<RecordedMessage> read() {
+        return read(Long.MIN_VALUE, Long.MAX_VALUE, Set.of());
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jrosmessages.Message;
+import id.xfunction.lang.XRE;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copies messages from one recording into the new one, applying per topic filters and transforms to
+ * them.
+ *
+ * <p>Messages of the topics without transforms are copied as is, without deserialization. Messages
+ * of all other topics are deserialized, transformed and serialized back on the executor threads. In
+ * both cases written messages start with CDR encapsulation header: copied messages keep the one
+ * they were recorded with, transformed messages are written in little endian CDR. Number of
+ * messages being processed at the same time is limited by {@link #withQueueSize(int)}, if it is
+ * reached then reading is paused until the oldest message is written. Messages are written in the
+ * same order as they were read.
+ *
+ * <p>Example which drops images from the camera and removes the data from the debug images:
+ *
+ * <pre>{@code
+ * new BagTranscoder()
+ *     .withTransform("/camera/image_raw", image -> null)
+ *     .withTransform(ImageMessage.class, image -> image.withData(new byte[0]))
+ *     .transcode(reader, writer);
+ * }</pre>
+ *
+ * <p>Schema definitions are not copied into the new recording.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class BagTranscoder {
+
+    private static final int DEFAULT_QUEUE_SIZE = 256;
+
+    private record Transform(
+            Class<? extends Message> messageClass, Function<Message, ? extends Message> function) {}
+
+    private Map<String, Function<Message, ? extends Message>> topicTransforms = new HashMap<>();
+    private Map<String, Function<Message, ? extends Message>> typeTransforms = new HashMap<>();
+    private Map<String, Class<? extends Message>> messageClasses = new HashMap<>();
+    private Set<String> topics = Set.of();
+    private long startTime = Long.MIN_VALUE, endTime = Long.MAX_VALUE;
+    private Ros2MessageSerializationUtils serializationUtils = new Ros2MessageSerializationUtils();
+    private ExecutorService executor = ForkJoinPool.commonPool();
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+
+    /** Copy only messages of the given topics. By default all topics are copied. */
+    public BagTranscoder withTopics(Set<String> topics) {
+        this.topics = topics;
+        return this;
+    }
+
+    /**
+     * Copy only messages with log time within given range
+     *
+     * @param startTime inclusive, in nanoseconds since epoch
+     * @param endTime exclusive, in nanoseconds since epoch
+     */
+    public BagTranscoder withTimeRange(long startTime, long endTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        return this;
+    }
+
+    /** Executor to transform messages. Default is {@link ForkJoinPool#commonPool()} */
+    public BagTranscoder withExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /** Maximum number of messages being processed at the same time. Default is 256. */
+    public BagTranscoder withQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    public BagTranscoder withSerializationUtils(Ros2MessageSerializationUtils serializationUtils) {
+        this.serializationUtils = serializationUtils;
+        return this;
+    }
+
+    /**
+     * Use given class for the messages of its ROS2 type instead of the default one (or for the
+     * types which are not part of jros2messages).
+     */
+    public BagTranscoder withMessageClass(Class<? extends Message> messageClass) {
+        messageClasses.put(MessageTypes.typeName(messageClass), messageClass);
+        return this;
+    }
+
+    /**
+     * Transform all messages of the topic. It takes precedence over the transform of the message
+     * type.
+     *
+     * @param transform returns message to be written (it can be the same instance or message of
+     *     another type, same for all messages of the topic) or null if message should be dropped,
+     *     it is called from the executor threads
+     */
+    public BagTranscoder withTransform(String topic, UnaryOperator<Message> transform) {
+        topicTransforms.put(topic, transform);
+        return this;
+    }
+
+    /**
+     * Transform all messages of the given type, in all topics.
+     *
+     * @see #withTransform(String, UnaryOperator)
+     */
+    @SuppressWarnings("unchecked")
+    public <M extends Message> BagTranscoder withTransform(
+            Class<M> messageClass, Function<M, ? extends Message> transform) {
+        withMessageClass(messageClass);
+        typeTransforms.put(
+                MessageTypes.typeName(messageClass),
+                (Function<Message, ? extends Message>) transform);
+        return this;
+    }
+
+    /**
+     * Read messages from the reader and write them into the writer. Writer is not closed.
+     *
+     * @return number of written messages
+     */
+    public long transcode(BagReader reader, McapWriter writer) {
+        var transforms = new HashMap<String, Optional<Transform>>();
+        var channels = new HashMap<String, Integer>();
+        var pending = new ArrayDeque<Future<RecordedMessage>>();
+        var count = 0L;
+        try (var messages = reader.read(startTime, endTime, topics)) {
+            var iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                var message = iterator.next();
+                var transform = transforms.computeIfAbsent(message.topic(), t -> find(message));
+                if (transform.isEmpty()) {
+                    pending.add(CompletableFuture.completedFuture(message));
+                } else {
+                    pending.add(executor.submit(() -> apply(transform.get(), message)));
+                }
+                while (!pending.isEmpty()
+                        && (pending.size() >= queueSize || pending.peek().isDone())) {
+                    if (write(await(pending.poll()), writer, channels)) count++;
+                }
+            }
+            while (!pending.isEmpty()) {
+                if (write(await(pending.poll()), writer, channels)) count++;
+            }
+        }
+        return count;
+    }
+
+    private Optional<Transform> find(RecordedMessage message) {
+        var function = topicTransforms.get(message.topic());
+        if (function == null) function = typeTransforms.get(message.type());
+        if (function == null) return Optional.empty();
+        var messageClass = MessageTypes.findClass(messageClasses, message.topic(), message.type());
+        return Optional.of(new Transform(messageClass, function));
+    }
+
+    private RecordedMessage apply(Transform transform, RecordedMessage message) {
+        var decoded = serializationUtils.read(message.payload(), transform.messageClass());
+        var result = transform.function().apply(decoded);
+        if (result == null) return null;
+        return new RecordedMessage(
+                message.topic(),
+                result.getClass() == transform.messageClass()
+                        ? message.type()
+                        : MessageTypes.typeName(result.getClass()),
+                message.logTime(),
+                message.publishTime(),
+                CdrEncapsulation.serialize(serializationUtils, result));
+    }
+
+    private static RecordedMessage await(Future<RecordedMessage> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XRE(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new XRE(e.getCause());
+        }
+    }
+
+    /**
+     * @return false if message was dropped
+     */
+    private static boolean write(
+            RecordedMessage message, McapWriter writer, Map<String, Integer> channels) {
+        if (message == null) return false;
+        var channel =
+                channels.computeIfAbsent(
+                        message.topic(), topic -> writer.addChannel(topic, message.type(), ""));
+        writer.write(channel, message.logTime(), message.publishTime(), message.data());
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jrosmessages.Message;
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * CDR encapsulation header which precedes every serialized message in MCAP and rosbag2 recordings
+ * (same as in RTPS serialized payload): 2 bytes of representation identifier (big endian) followed
+ * by 2 bytes of options.
+ *
+ * <p>Messages of jros2messages are serialized without the header, so it is added when messages are
+ * recorded and removed when they are decoded. Only little endian CDR is supported.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class CdrEncapsulation {
+
+    static final int HEADER_SIZE = 4;
+
+    private static final int CDR_BE = 0x0000;
+    private static final int CDR_LE = 0x0001;
+
+    /** Header of little endian CDR without options */
+    static final byte[] CDR_LE_HEADER = {0, CDR_LE, 0, 0};
+
+    /**
+     * Validate encapsulation header of the message
+     *
+     * @param data message from the current position till the limit, position is not changed
+     * @return message without header
+     * @throws XRE if message is not encoded in little endian CDR
+     */
+    static ByteBuffer payload(ByteBuffer data) {
+        if (data.remaining() < HEADER_SIZE)
+            throw new XRE(
+                    "Message is too short for CDR encapsulation header: %s", data.remaining());
+        var pos = data.position();
+        var kind = (data.get(pos) & 0xff) << 8 | data.get(pos + 1) & 0xff;
+        if (kind == CDR_BE) throw new XRE("Big endian CDR is not supported");
+        if (kind != CDR_LE) throw new XRE("Unsupported CDR encapsulation kind 0x%04x", kind);
+        return data.slice(pos + HEADER_SIZE, data.remaining() - HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /** Serialize message preceded by little endian CDR header */
+    static ByteBuffer serialize(Ros2MessageSerializationUtils serializationUtils, Message message) {
+        var buf =
+                ByteBuffer.allocate(HEADER_SIZE + serializationUtils.serializedSize(message))
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .put(CDR_LE_HEADER);
+        serializationUtils.serialize(message, buf);
+        return buf.flip();
+    }
+}
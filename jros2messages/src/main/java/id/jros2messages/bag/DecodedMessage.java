@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.jrosmessages.Message;
+
+/**
+ * Deserialized message read from the recording.
+ *
+ * @param topic name of the topic
+ * @param logTime time when message was received in nanoseconds since epoch
+ * @param publishTime time when message was published in nanoseconds since epoch
+ * @param message deserialized message
+ * @see RecordedMessage
+ * @author lambdaprime intid@protonmail.com
+ */
+public record DecodedMessage(String topic, long logTime, long publishTime, Message message) {}
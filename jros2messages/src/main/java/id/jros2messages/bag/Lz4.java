@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 frame</a> compression
+ * as used by MCAP "lz4" chunks.
+ *
+ * <p>Compressor uses greedy single hash table match search (same as LZ4 "fast" mode with
+ * acceleration 1), all blocks are independent and checksums are not written.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class Lz4 {
+    private static final int MAGIC = 0x184D2204;
+
+    /** Block maximum size 4MB */
+    private static final int BLOCK_SIZE = 4 << 20;
+
+    private static final int BD_4MB = 7 << 4;
+
+    /** FLG: version 01, independent blocks, content size present */
+    private static final int FLG = 0b0110_1000;
+
+    private static final int MIN_MATCH = 4;
+
+    /** Last 5 bytes of the block are always literals */
+    private static final int LAST_LITERALS = 5;
+
+    /** Last match must start at least 12 bytes before the end of the block */
+    private static final int MF_LIMIT = 12;
+
+    private static final int MAX_OFFSET = 0xffff;
+    private static final int HASH_BITS = 16;
+
+    private int[] table = new int[1 << HASH_BITS];
+
+    /** Maximum size of the compressed frame */
+    static int maxCompressedLength(int len) {
+        var blocks = Math.max(1, (len + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        // header (15) + end mark (4) + block sizes (4 each) + worst case expansion
+        return 19 + blocks * 4 + len + len / 255 + 16;
+    }
+
+    /**
+     * Compress bytes [offset, offset + len) of the source array into LZ4 frame
+     *
+     * @param dst array of at least {@link #maxCompressedLength(int)} bytes
+     * @return length of the frame
+     */
+    int compress(byte[] src, int offset, int len, byte[] dst) {
+        var out = ByteBuffer.wrap(dst).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC);
+        var descriptorStart = out.position();
+        out.put((byte) FLG).put((byte) BD_4MB).putLong(len);
+        out.put((byte) (xxh32(dst, descriptorStart, out.position() - descriptorStart) >> 8));
+        var in = ByteBuffer.wrap(src).order(ByteOrder.LITTLE_ENDIAN);
+        for (int pos = offset; pos < offset + len; pos += BLOCK_SIZE) {
+            var blockLen = Math.min(BLOCK_SIZE, offset + len - pos);
+            var sizePos = out.position();
+            var compressed = compressBlock(in, pos, blockLen, dst, sizePos + 4);
+            if (compressed < 0) {
+                // incompressible data is stored as is
+                out.putInt(sizePos, blockLen | 0x8000_0000);
+                System.arraycopy(src, pos, dst, sizePos + 4, blockLen);
+                out.position(sizePos + 4 + blockLen);
+            } else {
+                out.putInt(sizePos, compressed);
+                out.position(sizePos + 4 + compressed);
+            }
+        }
+        out.putInt(0);
+        return out.position();
+    }
+
+    /**
+     * @return compressed length or -1 if block does not compress
+     */
+    private int compressBlock(ByteBuffer in, int offset, int len, byte[] dst, int dstOffset) {
+        var src = in.array();
+        var end = offset + len;
+        var maxDst = dstOffset + len;
+        var anchor = offset;
+        var op = dstOffset;
+        if (len >= MF_LIMIT + 1) {
+            Arrays.fill(table, -1);
+            var matchLimit = end - LAST_LITERALS;
+            var limit = end - MF_LIMIT;
+            var ip = offset;
+            while (ip < limit) {
+                var sequence = in.getInt(ip);
+                var h = hash(sequence);
+                var ref = table[h];
+                table[h] = ip;
+                if (ref < 0 || ip - ref > MAX_OFFSET || in.getInt(ref) != sequence) {
+                    // skip faster over incompressible data
+                    ip += 1 + ((ip - anchor) >>> 6);
+                    continue;
+                }
+                var matchLen = MIN_MATCH;
+                while (ip + matchLen < matchLimit && src[ref + matchLen] == src[ip + matchLen])
+                    matchLen++;
+                op = writeSequence(src, anchor, ip - anchor, ip - ref, matchLen, dst, op, maxDst);
+                if (op < 0) return -1;
+                ip += matchLen;
+                anchor = ip;
+            }
+        }
+        op = writeSequence(src, anchor, end - anchor, 0, 0, dst, op, maxDst);
+        return op < 0 ? -1 : op - dstOffset;
+    }
+
+    /**
+     * @param matchLen 0 for the last sequence which has only literals
+     * @return new output position or -1 if it goes beyond the limit
+     */
+    private static int writeSequence(
+            byte[] src,
+            int literals,
+            int literalsLen,
+            int offset,
+            int matchLen,
+            byte[] dst,
+            int op,
+            int limit) {
+        if (op + 1 + literalsLen / 255 + 1 + literalsLen + 2 + matchLen / 255 + 1 > limit)
+            return -1;
+        var tokenPos = op++;
+        int token;
+        if (literalsLen >= 15) {
+            token = 15 << 4;
+            op = writeLength(literalsLen - 15, dst, op);
+        } else {
+            token = literalsLen << 4;
+        }
+        System.arraycopy(src, literals, dst, op, literalsLen);
+        op += literalsLen;
+        if (matchLen > 0) {
+            dst[op++] = (byte) offset;
+            dst[op++] = (byte) (offset >>> 8);
+            var len = matchLen - MIN_MATCH;
+            if (len >= 15) {
+                token |= 15;
+                op = writeLength(len - 15, dst, op);
+            } else {
+                token |= len;
+            }
+        }
+        dst[tokenPos] = (byte) token;
+        return op;
+    }
+
+    private static int writeLength(int len, byte[] dst, int op) {
+        while (len >= 255) {
+            dst[op++] = (byte) 255;
+            len -= 255;
+        }
+        dst[op++] = (byte) len;
+        return op;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_BITS);
+    }
+
+    /**
+     * Decompress LZ4 frame
+     *
+     * @param src frame from the current position till the limit
+     * @param dst array of the size of uncompressed data
+     */
+    static void decompress(ByteBuffer src, byte[] dst) {
+        var in = src.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (in.getInt() != MAGIC) throw new XRE("Invalid LZ4 frame magic number");
+        var flg = in.get();
+        in.get(); // BD
+        if ((flg & 0b1000) != 0) in.getLong(); // content size
+        if ((flg & 0b1) != 0) in.getInt(); // dictionary id
+        in.get(); // header checksum
+        var blockChecksum = (flg & 0b10000) != 0;
+        var op = 0;
+        while (true) {
+            var size = in.getInt();
+            if (size == 0) break;
+            var blockLen = size & 0x7fff_ffff;
+            var blockEnd = in.position() + blockLen;
+            if (size < 0) {
+                in.get(dst, op, blockLen);
+                op += blockLen;
+            } else {
+                op = decompressBlock(in, blockEnd, dst, op);
+            }
+            in.position(blockEnd);
+            if (blockChecksum) in.getInt();
+        }
+        if (op != dst.length)
+            throw new XRE("LZ4 frame size %s does not match expected size %s", op, dst.length);
+    }
+
+    private static int decompressBlock(ByteBuffer in, int end, byte[] dst, int op) {
+        var ip = in.position();
+        while (true) {
+            var token = in.get(ip++) & 0xff;
+            var literalsLen = token >>> 4;
+            if (literalsLen == 15) {
+                int b;
+                do {
+                    b = in.get(ip++) & 0xff;
+                    literalsLen += b;
+                } while (b == 255);
+            }
+            in.position(ip).get(dst, op, literalsLen);
+            ip += literalsLen;
+            op += literalsLen;
+            if (ip >= end) return op;
+            var offset = (in.get(ip) & 0xff) | (in.get(ip + 1) & 0xff) << 8;
+            ip += 2;
+            var matchLen = token & 15;
+            if (matchLen == 15) {
+                int b;
+                do {
+                    b = in.get(ip++) & 0xff;
+                    matchLen += b;
+                } while (b == 255);
+            }
+            matchLen += MIN_MATCH;
+            var ref = op - offset;
+            if (offset == 0 || ref < 0) throw new XRE("Invalid LZ4 match offset %s", offset);
+            if (offset >= matchLen) {
+                System.arraycopy(dst, ref, dst, op, matchLen);
+                op += matchLen;
+            } else {
+                // overlapping match repeats the last bytes
+                for (int i = 0; i < matchLen; i++) dst[op++] = dst[ref++];
+            }
+        }
+    }
+
+    /** xxHash32 with seed 0 for inputs shorter than 16 bytes (LZ4 frame header checksum) */
+    private static int xxh32(byte[] data, int offset, int len) {
+        final int prime1 = 0x9E3779B1, prime2 = 0x85EBCA77, prime3 = 0xC2B2AE3D;
+        final int prime4 = 0x27D4EB2F, prime5 = 0x165667B1;
+        var buf = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        int h = prime5 + len;
+        var p = offset;
+        var end = offset + len;
+        for (; p + 4 <= end; p += 4) {
+            h += buf.getInt(p) * prime3;
+            h = Integer.rotateLeft(h, 17) * prime4;
+        }
+        for (; p < end; p++) {
+            h += (data[p] & 0xff) * prime5;
+            h = Integer.rotateLeft(h, 11) * prime1;
+        }
+        h ^= h >>> 15;
+        h *= prime2;
+        h ^= h >>> 13;
+        h *= prime3;
+        h ^= h >>> 16;
+        return h;
+    }
+}
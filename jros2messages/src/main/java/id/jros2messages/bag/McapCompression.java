@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+/**
+ * Compression of MCAP chunks
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public enum McapCompression {
+    NONE(""),
+
+    /** LZ4 frame format */
+    LZ4("lz4");
+
+    private String name;
+
+    McapCompression(String name) {
+        this.name = name;
+    }
+
+    /** Name as written in MCAP chunk records */
+    public String getName() {
+        return name;
+    }
+}
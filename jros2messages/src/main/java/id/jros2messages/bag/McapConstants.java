@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+/**
+ * Constants of <a href="https://mcap.dev/spec">MCAP</a> format.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+interface McapConstants {
+    byte[] MAGIC = {(byte) 0x89, 'M', 'C', 'A', 'P', '0', '\r', '\n'};
+
+    /** Size of opcode and record length */
+    int RECORD_PREFIX = 9;
+
+    /** Size of message record fields which precede the message data */
+    int MESSAGE_HEADER = RECORD_PREFIX + 2 + 4 + 8 + 8;
+
+    String PROFILE = "ros2";
+    String MESSAGE_ENCODING = "cdr";
+    String SCHEMA_ENCODING = "ros2msg";
+
+    int OP_HEADER = 0x01;
+    int OP_FOOTER = 0x02;
+    int OP_SCHEMA = 0x03;
+    int OP_CHANNEL = 0x04;
+    int OP_MESSAGE = 0x05;
+    int OP_CHUNK = 0x06;
+    int OP_MESSAGE_INDEX = 0x07;
+    int OP_CHUNK_INDEX = 0x08;
+    int OP_STATISTICS = 0x0B;
+    int OP_SUMMARY_OFFSET = 0x0E;
+    int OP_DATA_END = 0x0F;
+}
@@ -0,0 +1,488 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import static id.jros2messages.bag.McapConstants.*;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jrosmessages.Message;
+import id.xfunction.lang.XRE;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads messages from <a href="https://mcap.dev/spec">MCAP</a> files with "cdr" message encoding
+ * (like the ones recorded by {@link McapWriter} or rosbag2).
+ *
+ * <p>Only summary section is read when the file is open. Chunks are memory mapped when they are
+ * needed and messages are returned as slices of the mapped memory, without copying (compressed
+ * chunks are decompressed into the heap first). Message data starts with CDR encapsulation header,
+ * {@link RecordedMessage#payload()} validates and skips it, so that the message can be decoded with
+ * {@link Ros2MessageSerializationUtils#read(ByteBuffer, Class)}.
+ *
+ * <p>Reading messages from the given time range uses chunk indexes and message indexes, so that
+ * seeking takes O(log n) and only chunks which overlap with the time range and contain messages of
+ * the requested topics are mapped. Messages are returned in the order of their log time, even when
+ * chunks overlap in time.
+ *
+ * <p>Supported chunk compressions are {@link McapCompression}. Files without summary section are
+ * not supported.
+ *
+ * <p>Thread safe. Streams returned by the reader are not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class McapReader implements BagReader {
+
+    private static final int FOOTER_LENGTH = RECORD_PREFIX + 8 + 8 + 4;
+
+    private record Channel(int id, String topic, String type) {}
+
+    private record ChunkIndex(
+            long startTime,
+            long endTime,
+            long offset,
+            long length,
+            Map<Integer, Long> messageIndexOffsets,
+            long messageIndexLength,
+            String compression,
+            long uncompressedSize) {}
+
+    private FileChannel file;
+    private Ros2MessageSerializationUtils serializationUtils = new Ros2MessageSerializationUtils();
+    private Map<Integer, Channel> channels = new HashMap<>();
+    private Map<String, String> topics = new LinkedHashMap<>();
+
+    /** Sorted by start time */
+    private List<ChunkIndex> chunks = new ArrayList<>();
+
+    /** Maximum end time of all chunks up to the given one, used to search chunks by time */
+    private long[] maxEndTimes;
+
+    private long messageCount = -1;
+    private long startTime, endTime;
+
+    public McapReader(Path file) {
+        try {
+            this.file = FileChannel.open(file, StandardOpenOption.READ);
+            readSummary();
+        } catch (IOException e) {
+            close();
+            throw new XRE(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /** Deserializer used by {@link #read(String, Class, long, long)} */
+    public McapReader withSerializationUtils(Ros2MessageSerializationUtils serializationUtils) {
+        this.serializationUtils = serializationUtils;
+        return this;
+    }
+
+    private void readSummary() throws IOException {
+        var size = file.size();
+        if (size < 2 * MAGIC.length + FOOTER_LENGTH) throw new XRE("File is too small");
+        var magic = new byte[MAGIC.length];
+        map(0, MAGIC.length).get(magic);
+        if (!Arrays.equals(magic, MAGIC)) throw new XRE("File is not MCAP file");
+        var footer = map(size - MAGIC.length - FOOTER_LENGTH, FOOTER_LENGTH);
+        if (footer.get() != OP_FOOTER) throw new XRE("Footer record not found");
+        footer.getLong();
+        var summaryStart = footer.getLong();
+        if (summaryStart == 0) throw new XRE("File has no summary section");
+        var summary = map(summaryStart, size - MAGIC.length - FOOTER_LENGTH - summaryStart);
+        var schemas = new HashMap<Integer, String>();
+        var channelSchemas = new HashMap<Integer, Integer>();
+        while (summary.hasRemaining()) {
+            var opcode = summary.get();
+            var len = summary.getLong();
+            var record =
+                    summary.slice(summary.position(), (int) len).order(ByteOrder.LITTLE_ENDIAN);
+            summary.position(summary.position() + (int) len);
+            switch (opcode) {
+                case OP_SCHEMA -> schemas.put(record.getShort() & 0xffff, getString(record));
+                case OP_CHANNEL -> {
+                    var id = record.getShort() & 0xffff;
+                    channelSchemas.put(id, record.getShort() & 0xffff);
+                    var topic = getString(record);
+                    var encoding = getString(record);
+                    if (!MESSAGE_ENCODING.equals(encoding))
+                        throw new XRE(
+                                "Topic %s has unsupported message encoding %s", topic, encoding);
+                    channels.put(id, new Channel(id, topic, null));
+                }
+                case OP_CHUNK_INDEX -> chunks.add(readChunkIndex(record));
+                case OP_STATISTICS -> {
+                    messageCount = record.getLong();
+                    record.position(record.position() + 2 + 4 + 4 + 4 + 4);
+                    startTime = record.getLong();
+                    endTime = record.getLong();
+                }
+                default -> {}
+            }
+        }
+        for (var channel : channels.values()) {
+            var type = schemas.getOrDefault(channelSchemas.get(channel.id()), "");
+            channels.put(channel.id(), new Channel(channel.id(), channel.topic(), type));
+        }
+        channels.values().stream()
+                .sorted(Comparator.comparing(Channel::id))
+                .forEach(channel -> topics.put(channel.topic(), channel.type()));
+        chunks.sort(Comparator.comparingLong(ChunkIndex::startTime));
+        maxEndTimes = new long[chunks.size()];
+        for (int i = 0; i < chunks.size(); i++) {
+            maxEndTimes[i] = chunks.get(i).endTime();
+            if (i > 0) maxEndTimes[i] = Math.max(maxEndTimes[i], maxEndTimes[i - 1]);
+        }
+        if (messageCount == -1 && !chunks.isEmpty()) {
+            startTime = chunks.get(0).startTime();
+            endTime = maxEndTimes[chunks.size() - 1];
+        }
+    }
+
+    private static ChunkIndex readChunkIndex(ByteBuffer record) {
+        var startTime = record.getLong();
+        var endTime = record.getLong();
+        var offset = record.getLong();
+        var length = record.getLong();
+        var messageIndexOffsets = new HashMap<Integer, Long>();
+        var end = record.getInt() + record.position();
+        while (record.position() < end)
+            messageIndexOffsets.put(record.getShort() & 0xffff, record.getLong());
+        var messageIndexLength = record.getLong();
+        var compression = getString(record);
+        record.getLong(); // compressed size
+        var uncompressedSize = record.getLong();
+        return new ChunkIndex(
+                startTime,
+                endTime,
+                offset,
+                length,
+                messageIndexOffsets,
+                messageIndexLength,
+                compression,
+                uncompressedSize);
+    }
+
+    private static String getString(ByteBuffer buf) {
+        var len = buf.getInt();
+        var bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer map(long position, long size) {
+        try {
+            return file.map(MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new XRE(e);
+        }
+    }
+
+    /**
+     * @return number of messages in the file or -1 if file has no statistics
+     */
+    public long getMessageCount() {
+        return messageCount;
+    }
+
+    /** Log time of the earliest message in nanoseconds since epoch */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /** Log time of the latest message in nanoseconds since epoch */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public Map<String, String> getTopics() {
+        return Collections.unmodifiableMap(topics);
+    }
+
+    @Override
+    public Stream<RecordedMessage> read(long startTime, long endTime, Set<String> topics) {
+        var selected = new ArrayList<Channel>();
+        for (var channel : channels.values())
+            if (topics.isEmpty() || topics.contains(channel.topic())) selected.add(channel);
+        var iterator = new MessageIterator(startTime, endTime, selected);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Read and deserialize messages of the topic
+     *
+     * @see #read(long, long, Set)
+     */
+    public <M extends Message> Stream<M> read(
+            String topic, Class<M> messageClass, long startTime, long endTime) {
+        var type = topics.get(topic);
+        if (type == null) throw new XRE("Topic %s not found", topic);
+        if (!type.equals(MessageTypes.typeName(messageClass)))
+            throw new XRE("Topic %s has messages of type %s", topic, type);
+        return read(startTime, endTime, Set.of(topic))
+                .map(message -> serializationUtils.read(message.payload(), messageClass));
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (file != null) file.close();
+        } catch (IOException e) {
+            throw new XRE(e);
+        }
+    }
+
+    /** Messages of one chunk sorted by log time */
+    private class ChunkCursor {
+        private final int order;
+        private ByteBuffer records;
+        private long[] times;
+        private int[] offsets;
+        private int pos, end;
+
+        ChunkCursor(int order, ChunkIndex chunk, List<Channel> selected, long from, long to) {
+            this.order = order;
+            var region = map(chunk.offset(), chunk.length() + chunk.messageIndexLength());
+            records = chunkRecords(chunk, region);
+            var indexes = new ArrayList<ByteBuffer>();
+            for (var channel : selected) {
+                var indexOffset = chunk.messageIndexOffsets().get(channel.id());
+                if (indexOffset == null) continue;
+                // message index record: channel id, length of (log time, offset) pairs, pairs
+                var index = (int) (indexOffset - chunk.offset());
+                var len = region.getInt(index + RECORD_PREFIX + 2);
+                indexes.add(
+                        region.slice(index + RECORD_PREFIX + 6, len)
+                                .order(ByteOrder.LITTLE_ENDIAN));
+            }
+            if (chunk.messageIndexOffsets().isEmpty()) scanRecords(selected);
+            else mergeIndexes(indexes);
+            pos = lowerBound(from);
+            end = lowerBound(to);
+        }
+
+        /** Build index when file has no message indexes */
+        private void scanRecords(List<Channel> selected) {
+            var ids = new boolean[0x10000];
+            for (var channel : selected) ids[channel.id()] = true;
+            times = new long[64];
+            offsets = new int[64];
+            var n = 0;
+            for (int offset = 0; offset < records.limit(); ) {
+                var len = (int) records.getLong(offset + 1);
+                if (records.get(offset) == OP_MESSAGE
+                        && ids[records.getShort(offset + RECORD_PREFIX) & 0xffff]) {
+                    if (n == times.length) {
+                        times = Arrays.copyOf(times, n * 2);
+                        offsets = Arrays.copyOf(offsets, n * 2);
+                    }
+                    times[n] = records.getLong(offset + RECORD_PREFIX + 6);
+                    offsets[n++] = offset;
+                }
+                offset += RECORD_PREFIX + len;
+            }
+            times = Arrays.copyOf(times, n);
+            offsets = Arrays.copyOf(offsets, n);
+            sortByTime();
+        }
+
+        /** Merge (log time, offset) pairs of all indexes which are already sorted by log time */
+        private void mergeIndexes(List<ByteBuffer> indexes) {
+            var n = 0;
+            for (var index : indexes) n += index.remaining() / 16;
+            times = new long[n];
+            offsets = new int[n];
+            var positions = new int[indexes.size()];
+            for (int i = 0; i < n; i++) {
+                var min = -1;
+                var minTime = Long.MAX_VALUE;
+                for (int j = 0; j < positions.length; j++) {
+                    var index = indexes.get(j);
+                    if (positions[j] == index.limit()) continue;
+                    var time = index.getLong(positions[j]);
+                    if (min == -1 || time < minTime) {
+                        min = j;
+                        minTime = time;
+                    }
+                }
+                times[i] = minTime;
+                offsets[i] = (int) indexes.get(min).getLong(positions[min] + 8);
+                positions[min] += 16;
+            }
+        }
+
+        private void sortByTime() {
+            var isSorted = true;
+            for (int i = 1; i < times.length && isSorted; i++) isSorted = times[i - 1] <= times[i];
+            if (isSorted) return;
+            var order = new Integer[times.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparingLong(i -> times[i]));
+            var sortedTimes = new long[times.length];
+            var sortedOffsets = new int[times.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedTimes[i] = times[order[i]];
+                sortedOffsets[i] = offsets[order[i]];
+            }
+            times = sortedTimes;
+            offsets = sortedOffsets;
+        }
+
+        /** Index of the first message with log time greater or equal to the given one */
+        private int lowerBound(long time) {
+            int lo = 0, hi = times.length;
+            while (lo < hi) {
+                var mid = (lo + hi) >>> 1;
+                if (times[mid] < time) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        boolean hasNext() {
+            return pos < end;
+        }
+
+        long time() {
+            return times[pos];
+        }
+
+        RecordedMessage next() {
+            var offset = offsets[pos++];
+            if (records.get(offset) != OP_MESSAGE)
+                throw new XRE("Message record not found at offset %s", offset);
+            var len = (int) records.getLong(offset + 1) - (MESSAGE_HEADER - RECORD_PREFIX);
+            var channel = channels.get(records.getShort(offset + RECORD_PREFIX) & 0xffff);
+            return new RecordedMessage(
+                    channel.topic(),
+                    channel.type(),
+                    records.getLong(offset + RECORD_PREFIX + 6),
+                    records.getLong(offset + RECORD_PREFIX + 14),
+                    records.slice(offset + MESSAGE_HEADER, len));
+        }
+    }
+
+    /** Records of the chunk, decompressed if needed */
+    private static ByteBuffer chunkRecords(ChunkIndex chunk, ByteBuffer region) {
+        var pos = RECORD_PREFIX + 8 + 8 + 8 + 4;
+        pos += 4 + region.getInt(pos); // compression
+        var len = (int) region.getLong(pos);
+        var records = region.slice(pos + 8, len).order(ByteOrder.LITTLE_ENDIAN);
+        switch (chunk.compression()) {
+            case "":
+                return records;
+            case "lz4":
+                var data = new byte[Math.toIntExact(chunk.uncompressedSize())];
+                Lz4.decompress(records, data);
+                return ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+            default:
+                throw new XRE("Chunk compression %s is not supported", chunk.compression());
+        }
+    }
+
+    /** Merges messages of all chunks which overlap in time */
+    private class MessageIterator implements Iterator<RecordedMessage> {
+        private final long from, to;
+        private final List<Channel> selected;
+        private final PriorityQueue<ChunkCursor> cursors =
+                new PriorityQueue<>(
+                        Comparator.comparingLong(ChunkCursor::time).thenComparingInt(c -> c.order));
+        private int nextChunk;
+
+        MessageIterator(long from, long to, List<Channel> selected) {
+            this.from = from;
+            this.to = to;
+            this.selected = selected;
+            // first chunk which may contain messages after "from"
+            int lo = 0, hi = chunks.size();
+            while (lo < hi) {
+                var mid = (lo + hi) >>> 1;
+                if (maxEndTimes[mid] < from) lo = mid + 1;
+                else hi = mid;
+            }
+            nextChunk = lo;
+        }
+
+        /** Open all chunks which may contain messages preceding current ones */
+        private void openChunks() {
+            while (nextChunk < chunks.size()) {
+                var chunk = chunks.get(nextChunk);
+                if (chunk.startTime() >= to || selected.isEmpty()) {
+                    nextChunk = chunks.size();
+                    break;
+                }
+                if (!cursors.isEmpty() && chunk.startTime() > cursors.peek().time()) break;
+                nextChunk++;
+                if (chunk.endTime() < from || !hasSelectedChannels(chunk)) continue;
+                var cursor = new ChunkCursor(nextChunk, chunk, selected, from, to);
+                if (cursor.hasNext()) cursors.add(cursor);
+            }
+        }
+
+        private boolean hasSelectedChannels(ChunkIndex chunk) {
+            if (chunk.messageIndexOffsets().isEmpty()) return true;
+            for (var channel : selected)
+                if (chunk.messageIndexOffsets().containsKey(channel.id())) return true;
+            return false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            openChunks();
+            return !cursors.isEmpty();
+        }
+
+        @Override
+        public RecordedMessage next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            var cursor = cursors.poll();
+            var message = cursor.next();
+            if (cursor.hasNext()) cursors.add(cursor);
+            return message;
+        }
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import static id.jros2messages.bag.McapConstants.*;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jrosmessages.Message;
+import id.xfunction.lang.XRE;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * Writes messages into <a href="https://mcap.dev/spec">MCAP</a> file with "ros2" profile and "cdr"
+ * message encoding.
+ *
+ * <p>Messages are grouped into the chunks which are followed by message indexes. Summary section
+ * contains all schemas, channels, statistics and chunk indexes, so that the file can be read with
+ * random access (see {@link McapReader}).
+ *
+ * <p>Messages are serialized directly into the chunk buffer and chunks are written into the {@link
+ * FileChannel} with a single write each. Chunk buffers are reused. With {@link
+ * #withExecutor(ExecutorService)} chunks are compressed (and their CRC calculated) in background
+ * while the calling thread continues to fill the next chunk, chunks are still written in order.
+ *
+ * <p>As in rosbag2 recordings, each message data starts with 4 bytes of CDR encapsulation header.
+ *
+ * <p>Schemas are written with "ros2msg" encoding and contain message definition only if it is
+ * provided in {@link #addChannel(String, Class, String)}.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class McapWriter implements AutoCloseable {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+    /** Maximum number of chunks which are being compressed in background */
+    private static final int MAX_PENDING_CHUNKS = 4;
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+
+    /** Chunk of messages and their indexes */
+    private class Chunk {
+        private RecordBuffer records = new RecordBuffer(chunkSize + chunkSize / 4);
+        private long startTime, endTime;
+        private int messageCount;
+        // per channel (log time, offset) pairs
+        private long[][] indexes = new long[0][];
+        private int[] indexSizes = new int[0];
+        // compression is captured when the chunk is finished so it can be changed while writing
+        private McapCompression compression;
+        private Lz4 lz4;
+        private byte[] compressed = new byte[0];
+        private ByteBuffer body;
+        private int crc;
+
+        void addMessage(int channel, long logTime, int offset) {
+            if (messageCount == 0 || logTime < startTime) startTime = logTime;
+            if (messageCount == 0 || logTime > endTime) endTime = logTime;
+            messageCount++;
+            if (channel >= indexes.length) {
+                indexes = Arrays.copyOf(indexes, channel + 1);
+                indexSizes = Arrays.copyOf(indexSizes, channel + 1);
+            }
+            var index = indexes[channel];
+            var size = indexSizes[channel];
+            if (index == null) index = indexes[channel] = new long[64];
+            else if (size + 2 > index.length)
+                index = indexes[channel] = Arrays.copyOf(index, index.length * 2);
+            index[size] = logTime;
+            index[size + 1] = offset;
+            indexSizes[channel] = size + 2;
+        }
+
+        /** Calculate CRC and compress the records */
+        void encode() {
+            var len = records.position();
+            var data = records.buffer().array();
+            var crc32 = new CRC32();
+            crc32.update(data, 0, len);
+            crc = (int) crc32.getValue();
+            if (compression == McapCompression.LZ4) {
+                if (lz4 == null) lz4 = new Lz4();
+                var maxLen = Lz4.maxCompressedLength(len);
+                if (compressed.length < maxLen) compressed = new byte[maxLen];
+                body = ByteBuffer.wrap(compressed, 0, lz4.compress(data, 0, len, compressed));
+            } else {
+                body = ByteBuffer.wrap(data, 0, len);
+            }
+        }
+
+        void reset() {
+            records.clear();
+            messageCount = 0;
+            Arrays.fill(indexSizes, 0);
+            body = null;
+        }
+    }
+
+    private FileChannel file;
+    private Ros2MessageSerializationUtils serializationUtils = new Ros2MessageSerializationUtils();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private McapCompression compression = McapCompression.NONE;
+    private ExecutorService executor;
+    private boolean isStarted, isClosed;
+    private RecordBuffer out = new RecordBuffer(OUTPUT_BUFFER_SIZE);
+    private long flushed;
+    private Chunk chunk;
+    private ArrayDeque<Chunk> freeChunks = new ArrayDeque<>();
+    private ArrayDeque<Future<Chunk>> pendingChunks = new ArrayDeque<>();
+    private Map<String, Integer> schemaIds = new HashMap<>();
+    private int channelCount;
+    private int[] sequences = new int[0];
+    private long[] channelMessageCounts = new long[0];
+    private RecordBuffer schemas = new RecordBuffer(1024);
+    private RecordBuffer channels = new RecordBuffer(1024);
+    private RecordBuffer chunkIndexes = new RecordBuffer(1024);
+    private int chunkCount;
+    private long messageCount, startTime, endTime;
+
+    /** Create new file or overwrite existing one */
+    public McapWriter(Path file) {
+        this(open(file));
+    }
+
+    /**
+     * @param file channel open for writing, it is closed by {@link #close()}
+     */
+    public McapWriter(FileChannel file) {
+        this.file = file;
+    }
+
+    private static FileChannel open(Path file) {
+        try {
+            return FileChannel.open(
+                    file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new XRE(e);
+        }
+    }
+
+    /** Serializer for messages passed to {@link #write(int, long, long, Message)} */
+    public McapWriter withSerializationUtils(Ros2MessageSerializationUtils serializationUtils) {
+        this.serializationUtils = serializationUtils;
+        return this;
+    }
+
+    /**
+     * Size of uncompressed chunk records after which the chunk is written. Default is 4MB. Should
+     * be set before any message is written.
+     */
+    public McapWriter withChunkSize(int chunkSize) {
+        if (isStarted) throw new XRE("Chunk size cannot be changed after writing has started");
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Compression of the chunks finished after this call. Default is {@link McapCompression#NONE}
+     */
+    public McapWriter withCompression(McapCompression compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    /** Compress chunks in background using given executor */
+    public McapWriter withExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @see #addChannel(String, Class, String)
+     */
+    public int addChannel(String topic, Class<? extends Message> messageClass) {
+        return addChannel(topic, messageClass, "");
+    }
+
+    /**
+     * Add channel for the messages of the topic
+     *
+     * @param schemaDefinition ROS2 message definition (content of ".msg" file including all
+     *     dependent message definitions) which is required by the tools which decode messages
+     *     dynamically, can be empty
+     * @return channel id to be used when writing messages
+     */
+    public int addChannel(
+            String topic, Class<? extends Message> messageClass, String schemaDefinition) {
+        return addChannel(topic, MessageTypes.typeName(messageClass), schemaDefinition);
+    }
+
+    /**
+     * Add channel for the messages of the type which has no message class (they can be written only
+     * with {@link #write(int, long, long, ByteBuffer)})
+     *
+     * @param typeName ROS2 message type name ("sensor_msgs/msg/Image")
+     * @see #addChannel(String, Class, String)
+     */
+    public int addChannel(String topic, String typeName, String schemaDefinition) {
+        start();
+        if (channelCount == 0xffff) throw new XRE("Too many channels");
+        var schemaId = schemaIds.get(typeName);
+        if (schemaId == null) {
+            schemaId = schemaIds.size() + 1;
+            schemaIds.put(typeName, schemaId);
+            var definition = schemaDefinition.getBytes(StandardCharsets.UTF_8);
+            for (var buf : new RecordBuffer[] {chunk.records, schemas}) {
+                var start = buf.startRecord(OP_SCHEMA);
+                buf.putShort(schemaId)
+                        .putString(typeName)
+                        .putString(SCHEMA_ENCODING)
+                        .putBytes(definition);
+                buf.endRecord(start);
+            }
+        }
+        var channelId = channelCount++;
+        sequences = Arrays.copyOf(sequences, channelCount);
+        channelMessageCounts = Arrays.copyOf(channelMessageCounts, channelCount);
+        for (var buf : new RecordBuffer[] {chunk.records, channels}) {
+            var start = buf.startRecord(OP_CHANNEL);
+            buf.putShort(channelId)
+                    .putShort(schemaId)
+                    .putString(topic)
+                    .putString(MESSAGE_ENCODING)
+                    .putStringMap(Map.of());
+            buf.endRecord(start);
+        }
+        return channelId;
+    }
+
+    /**
+     * Serialize message and write it, preceded by little endian CDR encapsulation header
+     *
+     * @param channel channel id returned by {@link #addChannel(String, Class)}
+     * @param logTime time when message was received in nanoseconds since epoch
+     * @param publishTime time when message was published in nanoseconds since epoch
+     */
+    public void write(int channel, long logTime, long publishTime, Message message) {
+        checkChannel(channel);
+        var records = chunk.records;
+        var start = records.position();
+        var buf = records.ensure(MESSAGE_HEADER + CdrEncapsulation.HEADER_SIZE + 256);
+        buf.position(start + MESSAGE_HEADER);
+        buf.put(CdrEncapsulation.CDR_LE_HEADER);
+        int len;
+        try {
+            len = serializationUtils.serialize(message, buf);
+        } catch (BufferOverflowException e) {
+            buf = records.ensure(serializationUtils.serializedSize(message));
+            len = serializationUtils.serialize(message, buf);
+        }
+        endMessage(channel, start, CdrEncapsulation.HEADER_SIZE + len, logTime, publishTime);
+    }
+
+    /**
+     * Write message which is already serialized in CDR format. Message is written as is, so it
+     * should start with CDR encapsulation header (as messages returned by {@link BagReader} do).
+     * Messages serialized with {@link Ros2MessageSerializationUtils} have no such header and should
+     * be written with {@link #write(int, long, long, Message)} instead.
+     *
+     * @param data message from the current position till the limit, position is not changed
+     * @see #write(int, long, long, Message)
+     */
+    public void write(int channel, long logTime, long publishTime, ByteBuffer data) {
+        checkChannel(channel);
+        var records = chunk.records;
+        var start = records.position();
+        var len = data.remaining();
+        var buf = records.ensure(MESSAGE_HEADER + len);
+        buf.position(start + MESSAGE_HEADER);
+        buf.put(data.duplicate());
+        endMessage(channel, start, len, logTime, publishTime);
+    }
+
+    private void checkChannel(int channel) {
+        if (isClosed) throw new XRE("Writer is closed");
+        if (channel < 0 || channel >= channelCount) throw new XRE("Unknown channel %s", channel);
+    }
+
+    private void endMessage(int channel, int start, int len, long logTime, long publishTime) {
+        var buf = chunk.records.buffer();
+        buf.put(start, (byte) OP_MESSAGE)
+                .putLong(start + 1, MESSAGE_HEADER - RECORD_PREFIX + len)
+                .putShort(start + 9, (short) channel)
+                .putInt(start + 11, sequences[channel]++)
+                .putLong(start + 15, logTime)
+                .putLong(start + 23, publishTime);
+        chunk.addMessage(channel, logTime, start);
+        if (messageCount == 0 || logTime < startTime) startTime = logTime;
+        if (messageCount == 0 || logTime > endTime) endTime = logTime;
+        messageCount++;
+        channelMessageCounts[channel]++;
+        if (buf.position() >= chunkSize) finishChunk();
+    }
+
+    private void start() {
+        if (isClosed) throw new XRE("Writer is closed");
+        if (isStarted) return;
+        isStarted = true;
+        chunk = new Chunk();
+        out.ensure(MAGIC.length).put(MAGIC);
+        var start = out.startRecord(OP_HEADER);
+        out.putString(PROFILE).putString("jros2messages");
+        out.endRecord(start);
+    }
+
+    private void finishChunk() {
+        var finished = chunk;
+        finished.compression = compression;
+        chunk = freeChunks.isEmpty() ? new Chunk() : freeChunks.poll();
+        if (executor == null) {
+            finished.encode();
+            writeChunk(finished);
+            return;
+        }
+        pendingChunks.add(
+                executor.submit(
+                        () -> {
+                            finished.encode();
+                            return finished;
+                        }));
+        while (pendingChunks.size() > MAX_PENDING_CHUNKS
+                || !pendingChunks.isEmpty() && pendingChunks.peek().isDone())
+            writeChunk(await(pendingChunks.poll()));
+    }
+
+    private static Chunk await(Future<Chunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XRE(e);
+        } catch (ExecutionException e) {
+            throw new XRE(e.getCause());
+        }
+    }
+
+    private void writeChunk(Chunk c) {
+        var chunkStart = position();
+        var compressionName = c.compression.getName();
+        var bodyLen = c.body.remaining();
+        var uncompressedLen = c.records.position();
+        out.putByte(OP_CHUNK)
+                .putLong(8 + 8 + 8 + 4 + 4 + compressionName.length() + 8 + bodyLen)
+                .putLong(c.startTime)
+                .putLong(c.endTime)
+                .putLong(uncompressedLen)
+                .putInt(c.crc)
+                .putString(compressionName)
+                .putLong(bodyLen);
+        flush();
+        writeFully(c.body);
+        var chunkLength = position() - chunkStart;
+        var indexesStart = position();
+        var indexOffsets = new RecordBuffer(64);
+        indexOffsets.putInt(0);
+        for (int channel = 0; channel < c.indexSizes.length; channel++) {
+            var size = c.indexSizes[channel];
+            if (size == 0) continue;
+            var index = c.indexes[channel];
+            sortIndex(index, size);
+            indexOffsets.putShort(channel).putLong(position());
+            out.putByte(OP_MESSAGE_INDEX)
+                    .putLong(2 + 4 + size * 8L)
+                    .putShort(channel)
+                    .putInt(size * 8);
+            var buf = out.ensure(size * 8);
+            for (int i = 0; i < size; i++) buf.putLong(index[i]);
+        }
+        indexOffsets.buffer().putInt(0, indexOffsets.position() - 4);
+        var start = chunkIndexes.startRecord(OP_CHUNK_INDEX);
+        chunkIndexes
+                .putLong(c.startTime)
+                .putLong(c.endTime)
+                .putLong(chunkStart)
+                .putLong(chunkLength);
+        chunkIndexes
+                .ensure(indexOffsets.position())
+                .put(indexOffsets.buffer().array(), 0, indexOffsets.position());
+        chunkIndexes
+                .putLong(position() - indexesStart)
+                .putString(compressionName)
+                .putLong(bodyLen)
+                .putLong(uncompressedLen);
+        chunkIndexes.endRecord(start);
+        chunkCount++;
+        if (out.position() >= OUTPUT_BUFFER_SIZE) flush();
+        c.reset();
+        freeChunks.add(c);
+    }
+
+    /** Sort (log time, offset) pairs by log time if messages were not written in order */
+    private static void sortIndex(long[] index, int size) {
+        var isSorted = true;
+        for (int i = 2; i < size && isSorted; i += 2) isSorted = index[i - 2] <= index[i];
+        if (isSorted) return;
+        var pairs = new long[size / 2][];
+        for (int i = 0; i < size; i += 2) pairs[i / 2] = new long[] {index[i], index[i + 1]};
+        Arrays.sort(pairs, (a, b) -> Long.compare(a[0], b[0]));
+        for (int i = 0; i < pairs.length; i++) {
+            index[2 * i] = pairs[i][0];
+            index[2 * i + 1] = pairs[i][1];
+        }
+    }
+
+    private long position() {
+        return flushed + out.position();
+    }
+
+    private void flush() {
+        var buf = out.buffer();
+        buf.flip();
+        writeFully(buf);
+        buf.clear();
+    }
+
+    private void writeFully(ByteBuffer buf) {
+        try {
+            while (buf.hasRemaining()) flushed += file.write(buf);
+        } catch (IOException e) {
+            throw new XRE(e);
+        }
+    }
+
+    /** Write remaining messages, summary and close the file */
+    @Override
+    public void close() {
+        if (isClosed) return;
+        start();
+        try {
+            if (chunk.records.position() > 0) finishChunk();
+            while (!pendingChunks.isEmpty()) writeChunk(await(pendingChunks.poll()));
+            // data section CRC is optional
+            out.putByte(OP_DATA_END).putLong(4).putInt(0);
+            writeSummary();
+            flush();
+        } finally {
+            isClosed = true;
+            try {
+                file.close();
+            } catch (IOException e) {
+                throw new XRE(e);
+            }
+        }
+    }
+
+    private void writeSummary() {
+        var summaryStart = position();
+        var summary = new RecordBuffer(1024);
+        var groups = new RecordBuffer(256);
+        for (var group : new RecordBuffer[] {schemas, channels, statisticsRecord(), chunkIndexes}) {
+            var len = group.position();
+            if (len == 0) continue;
+            var opcode = group.buffer().get(0);
+            var start = groups.startRecord(OP_SUMMARY_OFFSET);
+            groups.putByte(opcode).putLong(summaryStart + summary.position()).putLong(len);
+            groups.endRecord(start);
+            summary.ensure(len).put(group.buffer().array(), 0, len);
+        }
+        var summaryOffsetStart = summaryStart + summary.position();
+        summary.ensure(groups.position()).put(groups.buffer().array(), 0, groups.position());
+        summary.putByte(OP_FOOTER).putLong(8 + 8 + 4).putLong(summaryStart);
+        summary.putLong(summaryOffsetStart);
+        var crc = new CRC32();
+        crc.update(summary.buffer().array(), 0, summary.position());
+        summary.putInt((int) crc.getValue());
+        summary.ensure(MAGIC.length).put(MAGIC);
+        flush();
+        writeFully(summary.buffer().flip());
+    }
+
+    private RecordBuffer statisticsRecord() {
+        var buf = new RecordBuffer(256);
+        var start = buf.startRecord(OP_STATISTICS);
+        buf.putLong(messageCount)
+                .putShort(schemaIds.size())
+                .putInt(channelCount)
+                .putInt(0) // attachments
+                .putInt(0) // metadata
+                .putInt(chunkCount)
+                .putLong(startTime)
+                .putLong(endTime);
+        buf.putInt(channelCount * (2 + 8));
+        for (int channel = 0; channel < channelCount; channel++)
+            buf.putShort(channel).putLong(channelMessageCounts[channel]);
+        buf.endRecord(start);
+        return buf;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.jrosmessages.Message;
+import id.jrosmessages.MessageMetadata;
+import id.xfunction.lang.XRE;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ROS2 message type names as used in the recordings ("sensor_msgs/msg/Image").
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class MessageTypes {
+
+    private static final String[] PACKAGES = {"id.jros2messages.", "id.jrosmessages."};
+
+    private static final Map<String, Optional<Class<? extends Message>>> CLASSES =
+            new ConcurrentHashMap<>();
+
+    /** Name of the message type in "package/msg/Type" format */
+    static String typeName(Class<? extends Message> messageClass) {
+        var metadata = messageClass.getAnnotation(MessageMetadata.class);
+        if (metadata == null)
+            throw new XRE("Message %s has no MessageMetadata annotation", messageClass.getName());
+        return toTypeName(metadata.name());
+    }
+
+    /** "sensor_msgs/Image" to "sensor_msgs/msg/Image" */
+    static String toTypeName(String metadataName) {
+        var parts = metadataName.split("/");
+        if (parts.length != 2) return metadataName;
+        return parts[0] + "/msg/" + parts[1];
+    }
+
+    /**
+     * Find message class for the ROS2 message type name among the messages of jros2messages and
+     * jrosmessages modules ("sensor_msgs/msg/Image" is {@link
+     * id.jros2messages.sensor_msgs.ImageMessage}). Class should have {@link MessageMetadata} with
+     * the same name.
+     */
+    static Optional<Class<? extends Message>> findClass(String typeName) {
+        return CLASSES.computeIfAbsent(typeName, MessageTypes::loadClass);
+    }
+
+    private static Optional<Class<? extends Message>> loadClass(String typeName) {
+        var parts = typeName.split("/");
+        if (parts.length != 3) return Optional.empty();
+        for (var pkg : PACKAGES) {
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(pkg + parts[0] + "." + parts[2] + "Message");
+            } catch (ClassNotFoundException e) {
+                continue;
+            }
+            if (!Message.class.isAssignableFrom(clazz)) continue;
+            var messageClass = clazz.asSubclass(Message.class);
+            var metadata = messageClass.getAnnotation(MessageMetadata.class);
+            if (metadata != null && toTypeName(metadata.name()).equals(typeName))
+                return Optional.of(messageClass);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Find message class for the topic, classes given by the user take precedence over the ones
+     * found by {@link #findClass(String)}
+     *
+     * @param messageClasses user message classes by their ROS2 message type names
+     */
+    static Class<? extends Message> findClass(
+            Map<String, Class<? extends Message>> messageClasses, String topic, String typeName) {
+        var messageClass = messageClasses.get(typeName);
+        if (messageClass != null) return messageClass;
+        return findClass(typeName)
+                .orElseThrow(
+                        () ->
+                                new XRE(
+                                        "No message class found for type %s of topic %s",
+                                        typeName, topic));
+    }
+
+    /**
+     * Find message classes for the selected topics
+     *
+     * @param topics topic names mapped to their ROS2 message type names
+     * @param selected selected topics, if empty then all topics are selected
+     * @return message classes by ROS2 message type names
+     * @see #findClass(Map, String, String)
+     */
+    static Map<String, Class<? extends Message>> findClasses(
+            Map<String, Class<? extends Message>> messageClasses,
+            Map<String, String> topics,
+            Set<String> selected) {
+        var classes = new HashMap<String, Class<? extends Message>>();
+        topics.forEach(
+                (topic, type) -> {
+                    if (selected.isEmpty() || selected.contains(topic))
+                        classes.put(type, findClass(messageClasses, topic, type));
+                });
+        return classes;
+    }
+}
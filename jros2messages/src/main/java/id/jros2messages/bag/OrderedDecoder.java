@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jrosmessages.Message;
+import id.xfunction.lang.XRE;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Deserializes recorded messages on the executor threads and returns them in the same order as they
+ * were read.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class OrderedDecoder implements Iterator<DecodedMessage> {
+
+    /** Enough messages in flight to keep all executor threads busy */
+    static final int DEFAULT_MAX_PENDING = 4 * Runtime.getRuntime().availableProcessors();
+
+    private Iterator<RecordedMessage> source;
+    private Function<String, Class<? extends Message>> messageClasses;
+    private Ros2MessageSerializationUtils serializationUtils;
+    private ExecutorService executor;
+    private int maxPending;
+    private ArrayDeque<Future<DecodedMessage>> pending = new ArrayDeque<>();
+
+    /**
+     * @param messageClasses finds message class for ROS2 message type name
+     * @param executor if null then messages are deserialized in the calling thread
+     * @param maxPending maximum number of messages being deserialized at the same time
+     */
+    OrderedDecoder(
+            Iterator<RecordedMessage> source,
+            Function<String, Class<? extends Message>> messageClasses,
+            Ros2MessageSerializationUtils serializationUtils,
+            ExecutorService executor,
+            int maxPending) {
+        this.source = source;
+        this.messageClasses = messageClasses;
+        this.serializationUtils = serializationUtils;
+        this.executor = executor;
+        this.maxPending = maxPending;
+    }
+
+    private DecodedMessage decode(RecordedMessage message, Class<? extends Message> messageClass) {
+        return new DecodedMessage(
+                message.topic(),
+                message.logTime(),
+                message.publishTime(),
+                serializationUtils.read(message.payload(), messageClass));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (executor == null) return source.hasNext();
+        while (pending.size() < maxPending && source.hasNext()) {
+            var message = source.next();
+            var messageClass = messageClasses.apply(message.type());
+            pending.add(executor.submit(() -> decode(message, messageClass)));
+        }
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public DecodedMessage next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        if (executor == null) {
+            var message = source.next();
+            return decode(message, messageClasses.apply(message.type()));
+        }
+        try {
+            return pending.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XRE(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new XRE(e.getCause());
+        }
+    }
+}
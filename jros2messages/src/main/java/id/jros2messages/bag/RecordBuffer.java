@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Growable little-endian heap buffer for building MCAP records.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class RecordBuffer {
+
+    private ByteBuffer buf;
+
+    RecordBuffer(int capacity) {
+        buf = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /** Make sure that at least len more bytes can be written */
+    ByteBuffer ensure(int len) {
+        if (buf.remaining() < len) {
+            var capacity = Math.max(buf.capacity() * 2L, (long) buf.position() + len);
+            var newBuf =
+                    ByteBuffer.allocate(Math.toIntExact(capacity)).order(ByteOrder.LITTLE_ENDIAN);
+            buf.flip();
+            newBuf.put(buf);
+            buf = newBuf;
+        }
+        return buf;
+    }
+
+    ByteBuffer buffer() {
+        return buf;
+    }
+
+    int position() {
+        return buf.position();
+    }
+
+    void clear() {
+        buf.clear();
+    }
+
+    /**
+     * Start record with the given opcode, its length is set by {@link #endRecord(int)}
+     *
+     * @return record start position
+     */
+    int startRecord(int opcode) {
+        var start = buf.position();
+        ensure(9).put((byte) opcode).putLong(0);
+        return start;
+    }
+
+    void endRecord(int start) {
+        buf.putLong(start + 1, buf.position() - start - 9);
+    }
+
+    RecordBuffer putByte(int v) {
+        ensure(1).put((byte) v);
+        return this;
+    }
+
+    RecordBuffer putShort(int v) {
+        ensure(2).putShort((short) v);
+        return this;
+    }
+
+    RecordBuffer putInt(int v) {
+        ensure(4).putInt(v);
+        return this;
+    }
+
+    RecordBuffer putLong(long v) {
+        ensure(8).putLong(v);
+        return this;
+    }
+
+    RecordBuffer putString(String s) {
+        return putBytes(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Bytes prefixed with uint32 length */
+    RecordBuffer putBytes(byte[] b) {
+        ensure(4 + b.length).putInt(b.length).put(b);
+        return this;
+    }
+
+    RecordBuffer putStringMap(Map<String, String> map) {
+        var start = buf.position();
+        putInt(0);
+        for (var e : map.entrySet()) putString(e.getKey()).putString(e.getValue());
+        buf.putInt(start, buf.position() - start - 4);
+        return this;
+    }
+}
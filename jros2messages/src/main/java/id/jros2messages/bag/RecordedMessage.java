@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import java.nio.ByteBuffer;
+
+/**
+ * Serialized message read from the recording.
+ *
+ * @param topic name of the topic
+ * @param type ROS2 message type name ("sensor_msgs/msg/Image")
+ * @param logTime time when message was received in nanoseconds since epoch
+ * @param publishTime time when message was published in nanoseconds since epoch
+ * @param data message in CDR format preceded by CDR encapsulation header, as it is stored in the
+ *     recording. It may point directly to the file memory and so it is valid only until the reader
+ *     is closed
+ * @author lambdaprime intid@protonmail.com
+ */
+public record RecordedMessage(
+        String topic, String type, long logTime, long publishTime, ByteBuffer data) {
+
+    /**
+     * Message data without CDR encapsulation header, it can be decoded with {@link
+     * Ros2MessageSerializationUtils#read(ByteBuffer, Class)}
+     *
+     * @throws RuntimeException if message is not encoded in little endian CDR
+     */
+    public ByteBuffer payload() {
+        return CdrEncapsulation.payload(data);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded queue for one producer thread and one consumer thread.
+ *
+ * <p>Elements are stored in the preallocated array and positions are published with release
+ * semantics only, so neither side takes locks. When the buffer is full (or empty) the producer (or
+ * consumer) spins shortly and then parks for {@link #PARK_NANOS}.
+ *
+ * <p>Thread safe for one producer and one consumer.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class RingBuffer<T> {
+
+    static final long PARK_NANOS = 20_000;
+
+    private static final int SPIN_COUNT = 100;
+
+    private final Object[] items;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to the power of two
+     */
+    RingBuffer(int capacity) {
+        var size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        items = new Object[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Add item, waiting while the buffer is full
+     *
+     * @param isCancelled checked while waiting
+     * @return false if waiting was cancelled
+     */
+    boolean put(T item, BooleanSupplier isCancelled) {
+        var t = tail.get();
+        for (int i = 0; t - head.get() == items.length; i++) {
+            if (isCancelled.getAsBoolean()) return false;
+            if (i < SPIN_COUNT) Thread.onSpinWait();
+            else LockSupport.parkNanos(PARK_NANOS);
+        }
+        items[(int) t & mask] = item;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    /** Can be called from any thread */
+    boolean isFull() {
+        return tail.get() - head.get() == items.length;
+    }
+
+    /**
+     * @return next item or null if buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    T poll() {
+        var h = head.get();
+        if (h == tail.getAcquire()) return null;
+        var index = (int) h & mask;
+        var item = (T) items[index];
+        items[index] = null;
+        head.setRelease(h + 1);
+        return item;
+    }
+}
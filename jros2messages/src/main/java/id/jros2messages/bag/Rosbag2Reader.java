@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.bag;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jrosmessages.Message;
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads messages from rosbag2 sqlite3 storage (".db3" files).
+ *
+ * <p>Database is accessed through JDBC, the sqlite JDBC driver (for example
+ * "org.xerial:sqlite-jdbc") should be available in runtime. Bags split into multiple files need to
+ * be read file by file.
+ *
+ * <p>Messages are fetched in batches, ordered by their timestamp, with the same prepared statement
+ * which continues from the last fetched message. So only one batch is kept in memory and reading
+ * can start from any time without scanning the messages before it (rosbag2 creates index on the
+ * timestamps).
+ *
+ * <p>Topic types are mapped to the message classes of jros2messages (and jrosmessages) by {@link
+ * id.jrosmessages.MessageMetadata#name()}, other message classes can be added with {@link
+ * #withMessageClass(Class)}. When reading deserialized messages they are deserialized on the
+ * executor threads but returned in the order of their timestamps.
+ *
+ * <p>rosbag2 stores only the time when message was received, so it is returned as both log and
+ * publish time.
+ *
+ * <p>Messages are stored with CDR encapsulation header, only messages in little endian CDR are
+ * supported (others are rejected with exception when they are read). The header is kept in {@link
+ * RecordedMessage#data()} and skipped when messages are deserialized.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class Rosbag2Reader implements BagReader {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private record Topic(long id, String name, String type) {}
+
+    private Connection connection;
+    private Map<Long, Topic> topicsById = new HashMap<>();
+    private Map<String, String> topics = new LinkedHashMap<>();
+    private Map<String, Class<? extends Message>> messageClasses = new HashMap<>();
+    private Ros2MessageSerializationUtils serializationUtils = new Ros2MessageSerializationUtils();
+    private ExecutorService executor = ForkJoinPool.commonPool();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * @param file rosbag2 ".db3" file
+     */
+    public Rosbag2Reader(Path file) {
+        this(open(file));
+    }
+
+    /**
+     * @param connection connection to the rosbag2 sqlite3 database, it is closed by {@link
+     *     #close()}
+     */
+    public Rosbag2Reader(@SuppressWarnings("exports") Connection connection) {
+        this.connection = connection;
+        try (var statement = connection.createStatement();
+                var rs =
+                        statement.executeQuery(
+                                "SELECT id, name, type, serialization_format FROM topics"
+                                        + " ORDER BY id")) {
+            while (rs.next()) {
+                var topic = new Topic(rs.getLong(1), rs.getString(2), rs.getString(3));
+                if (!"cdr".equals(rs.getString(4)))
+                    throw new XRE(
+                            "Topic %s has unsupported serialization format %s",
+                            topic.name(), rs.getString(4));
+                topicsById.put(topic.id(), topic);
+                topics.put(topic.name(), topic.type());
+            }
+        } catch (SQLException e) {
+            close();
+            throw new XRE(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private static Connection open(Path file) {
+        // sqlite creates new database if it does not exist
+        if (!Files.isRegularFile(file)) throw new XRE("File %s not found", file);
+        try {
+            return DriverManager.getConnection("jdbc:sqlite:" + file);
+        } catch (SQLException e) {
+            throw new XRE(e);
+        }
+    }
+
+    /** Number of messages fetched from the database at once. Default is 1000. */
+    public Rosbag2Reader withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Executor to deserialize messages. Default is {@link ForkJoinPool#commonPool()}, if null then
+     * messages are deserialized in the calling thread.
+     */
+    public Rosbag2Reader withExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public Rosbag2Reader withSerializationUtils(Ros2MessageSerializationUtils serializationUtils) {
+        this.serializationUtils = serializationUtils;
+        return this;
+    }
+
+    /**
+     * Use given class for the messages of its ROS2 type instead of the default one (or for the
+     * types which are not part of jros2messages).
+     */
+    public Rosbag2Reader withMessageClass(Class<? extends Message> messageClass) {
+        messageClasses.put(MessageTypes.typeName(messageClass), messageClass);
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getTopics() {
+        return Collections.unmodifiableMap(topics);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Each stream holds its own database statement which is released when the stream is read
+     * till the end or fails. Streams which may be abandoned earlier should be closed (for example
+     * with try-with-resources), otherwise the statement stays open until the reader is closed.
+     */
+    @Override
+    public Stream<RecordedMessage> read(long startTime, long endTime, Set<String> topics) {
+        var iterator = new MessageIterator(startTime, endTime, topics);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(
+                                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Read and deserialize messages of the given topics
+     *
+     * <p>Same as with {@link #read(long, long, Set)} the stream should be closed if it is not read
+     * till the end.
+     *
+     * @see #read(long, long, Set)
+     * @throws RuntimeException if there is no message class for any of the selected topics
+     */
+    public Stream<DecodedMessage> readMessages(long startTime, long endTime, Set<String> topics) {
+        var classes = MessageTypes.findClasses(messageClasses, this.topics, topics);
+        var messages = read(startTime, endTime, topics);
+        var decoder =
+                new OrderedDecoder(
+                        messages.iterator(),
+                        classes::get,
+                        serializationUtils,
+                        executor,
+                        OrderedDecoder.DEFAULT_MAX_PENDING);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(
+                                decoder, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(messages::close);
+    }
+
+    /** Read and deserialize all messages */
+    public Stream<DecodedMessage> readMessages() {
+        return readMessages(Long.MIN_VALUE, Long.MAX_VALUE, Set.of());
+    }
+
+    @Override
+    public void close() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new XRE(e);
+        }
+    }
+
+    /** Fetches messages in batches, each batch continues after the last message of the previous */
+    private class MessageIterator implements Iterator<RecordedMessage> {
+        private final PreparedStatement statement;
+        private final int topicCount;
+        private ArrayDeque<RecordedMessage> batch = new ArrayDeque<>();
+        private long lastTimestamp, lastId = Long.MIN_VALUE;
+        private boolean isLastBatch;
+
+        MessageIterator(long startTime, long endTime, Set<String> topicNames) {
+            var ids =
+                    topicsById.values().stream()
+                            .filter(t -> topicNames.isEmpty() || topicNames.contains(t.name()))
+                            .map(Topic::id)
+                            .toList();
+            topicCount = topicNames.isEmpty() ? 0 : ids.size();
+            isLastBatch = ids.isEmpty();
+            var topicFilter =
+                    topicCount == 0
+                            ? ""
+                            : ids.stream()
+                                    .map(id -> "?")
+                                    .collect(Collectors.joining(",", "topic_id IN (", ") AND "));
+            var sql =
+                    "SELECT id, topic_id, timestamp, data FROM messages WHERE "
+                            + topicFilter
+                            + "(timestamp > ? OR timestamp = ? AND id > ?) AND timestamp < ?"
+                            + " ORDER BY timestamp, id LIMIT ?";
+            try {
+                statement = connection.prepareStatement(sql);
+                for (int i = 0; i < topicCount; i++) statement.setLong(i + 1, ids.get(i));
+                statement.setLong(topicCount + 4, endTime);
+                statement.setInt(topicCount + 5, batchSize);
+                statement.setFetchSize(batchSize);
+            } catch (SQLException e) {
+                throw new XRE(e);
+            }
+            // first batch includes messages with startTime too
+            lastTimestamp = startTime;
+        }
+
+        private void fetch() {
+            try {
+                statement.setLong(topicCount + 1, lastTimestamp);
+                statement.setLong(topicCount + 2, lastTimestamp);
+                statement.setLong(topicCount + 3, lastId);
+                try (var rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getLong(1);
+                        var topic = topicsById.get(rs.getLong(2));
+                        lastTimestamp = rs.getLong(3);
+                        var data = ByteBuffer.wrap(rs.getBytes(4));
+                        // reject messages which cannot be decoded as early as possible
+                        CdrEncapsulation.payload(data);
+                        batch.add(
+                                new RecordedMessage(
+                                        topic.name(),
+                                        topic.type(),
+                                        lastTimestamp,
+                                        lastTimestamp,
+                                        data));
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // iteration cannot continue so the statement is released right away
+                isLastBatch = true;
+                try {
+                    statement.close();
+                } catch (SQLException closeError) {
+                    e.addSuppressed(closeError);
+                }
+                throw e instanceof RuntimeException re ? re : new XRE(e);
+            }
+            isLastBatch = batch.size() < batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (batch.isEmpty() && !isLastBatch) fetch();
+            if (batch.isEmpty()) close();
+            return !batch.isEmpty();
+        }
+
+        @Override
+        public RecordedMessage next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return batch.poll();
+        }
+
+        void close() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                throw new XRE(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.geometry_msgs;
+
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.geometry_msgs.QuaternionMessage;
+import id.jrosmessages.geometry_msgs.TransformMessage;
+import id.jrosmessages.geometry_msgs.Vector3Message;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.std_msgs.StringMessage;
+import id.xfunction.lang.XRE;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Buffer of coordinate frame transforms (same as tf2 buffer in ROS).
+ *
+ * <p>Transforms are received as {@link TransformStampedMessage} where {@code header.frame_id} is
+ * the parent frame and {@code child_frame_id} is the child frame. Frames form a tree, where each
+ * frame has a single parent.
+ *
+ * <p>For each dynamic frame the buffer keeps all transforms received within {@link
+ * #withCacheDuration(Duration)} from the latest one. Static frames keep only the latest transform
+ * which is valid at any time.
+ *
+ * <p>Lookups take no locks: transforms of each frame are read optimistically and reread only if
+ * they were modified concurrently. Chains of frames between target and source frames are resolved
+ * once and cached until the frame tree changes.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class TransformBuffer {
+
+    /** Maximum number of frames between any frame and the root of the tree */
+    private static final int MAX_DEPTH = 1000;
+
+    /** Number of doubles per transform: translation (x, y, z), rotation (x, y, z, w) */
+    private static final int TRANSFORM_SIZE = 7;
+
+    private record FramePair(String target, String source) {}
+
+    /**
+     * Frames from the source (target) frame up to, but not including, their closest common ancestor
+     */
+    private record Chain(Frame[] source, Frame[] target, long version) {}
+
+    /** Frame and its transforms to the parent frame ordered by time */
+    private static class Frame {
+        private static final int NO_DATA = 0, OK = 1, PAST = 2, FUTURE = 3;
+
+        private final String name;
+        private final StampedLock lock = new StampedLock();
+        private volatile Frame parent;
+        private volatile boolean isStatic;
+        // ring buffer, capacity is always power of 2
+        private long[] times = new long[16];
+        private double[] transforms = new double[16 * TRANSFORM_SIZE];
+        private int head, count;
+
+        Frame(String name) {
+            this.name = name;
+        }
+
+        void add(long time, double[] transform, boolean isStatic, long maxAge) {
+            var stamp = lock.writeLock();
+            try {
+                this.isStatic = isStatic;
+                if (isStatic) count = 0;
+                if (count == times.length) grow();
+                // transforms usually arrive in order so new one is appended
+                var i = count;
+                while (i > 0 && times[index(i - 1)] > time) i--;
+                if (i > 0 && times[index(i - 1)] == time) {
+                    i--;
+                } else {
+                    for (int j = count; j > i; j--) copy(index(j - 1), index(j));
+                    count++;
+                }
+                var k = index(i);
+                times[k] = time;
+                System.arraycopy(transform, 0, transforms, k * TRANSFORM_SIZE, TRANSFORM_SIZE);
+                var oldest = times[index(count - 1)] - maxAge;
+                while (count > 1 && times[head] < oldest) {
+                    head = (head + 1) & (times.length - 1);
+                    count--;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void clear() {
+            var stamp = lock.writeLock();
+            count = 0;
+            lock.unlockWrite(stamp);
+        }
+
+        private int index(int i) {
+            return (head + i) & (times.length - 1);
+        }
+
+        private void copy(int from, int to) {
+            times[to] = times[from];
+            System.arraycopy(
+                    transforms,
+                    from * TRANSFORM_SIZE,
+                    transforms,
+                    to * TRANSFORM_SIZE,
+                    TRANSFORM_SIZE);
+        }
+
+        private void grow() {
+            var newTimes = new long[times.length * 2];
+            var newTransforms = new double[newTimes.length * TRANSFORM_SIZE];
+            for (int i = 0; i < count; i++) {
+                newTimes[i] = times[index(i)];
+                System.arraycopy(
+                        transforms,
+                        index(i) * TRANSFORM_SIZE,
+                        newTransforms,
+                        i * TRANSFORM_SIZE,
+                        TRANSFORM_SIZE);
+            }
+            head = 0;
+            times = newTimes;
+            transforms = newTransforms;
+        }
+
+        /**
+         * Interpolate transform at the given time.
+         *
+         * @return status of the lookup
+         */
+        int lookup(long time, double[] out) {
+            var stamp = lock.tryOptimisticRead();
+            try {
+                var status = doLookup(time, out);
+                if (lock.validate(stamp)) return status;
+            } catch (RuntimeException e) {
+                // torn state seen by the optimistic read, retry under the lock
+                if (lock.validate(stamp)) throw e;
+            }
+            stamp = lock.readLock();
+            try {
+                return doLookup(time, out);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * When called without lock the state may be inconsistent, so all indexes are bounded by the
+         * arrays which are read once and the result is discarded if the lock validation fails
+         */
+        private int doLookup(long time, double[] out) {
+            var times = this.times;
+            var transforms = this.transforms;
+            var mask = times.length - 1;
+            var head = this.head;
+            var count = Math.min(this.count, times.length);
+            if (transforms.length != times.length * TRANSFORM_SIZE) return NO_DATA;
+            if (count == 0) return NO_DATA;
+            if (isStatic) {
+                System.arraycopy(
+                        transforms, (head & mask) * TRANSFORM_SIZE, out, 0, TRANSFORM_SIZE);
+                return OK;
+            }
+            if (time < times[head & mask]) return PAST;
+            if (time > times[(head + count - 1) & mask]) return FUTURE;
+            // binary search for the first transform with time >= requested time
+            int lo = 0, hi = count - 1;
+            while (lo < hi) {
+                var mid = (lo + hi) >>> 1;
+                if (times[(head + mid) & mask] < time) lo = mid + 1;
+                else hi = mid;
+            }
+            var b = (head + lo) & mask;
+            if (times[b] == time || lo == 0) {
+                System.arraycopy(transforms, b * TRANSFORM_SIZE, out, 0, TRANSFORM_SIZE);
+                return OK;
+            }
+            var a = (head + lo - 1) & mask;
+            // times are strictly increasing unless the state is inconsistent
+            if (times[b] <= times[a]) return NO_DATA;
+            var ratio = (double) (time - times[a]) / (times[b] - times[a]);
+            interpolate(transforms, a * TRANSFORM_SIZE, b * TRANSFORM_SIZE, ratio, out);
+            return OK;
+        }
+
+        /**
+         * @return time of the latest transform, 0 if frame is static or has no transforms
+         */
+        long latestTime() {
+            var stamp = lock.tryOptimisticRead();
+            var time = doLatestTime();
+            if (lock.validate(stamp)) return time;
+            stamp = lock.readLock();
+            try {
+                return doLatestTime();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private long doLatestTime() {
+            var times = this.times;
+            var count = Math.min(this.count, times.length);
+            if (isStatic || count == 0) return 0;
+            return times[(head + count - 1) & (times.length - 1)];
+        }
+    }
+
+    private final Map<String, Frame> frames = new ConcurrentHashMap<>();
+    private final Map<FramePair, Chain> chains = new ConcurrentHashMap<>();
+    private volatile long version;
+    private long cacheDuration = Duration.ofSeconds(10).toNanos();
+
+    /** How long transforms of dynamic frames are kept. Default is 10 seconds (same as in tf2). */
+    public TransformBuffer withCacheDuration(Duration duration) {
+        cacheDuration = duration.toNanos();
+        return this;
+    }
+
+    /** Add transform of dynamic frame (usually received from "/tf" topic) */
+    public void add(TransformStampedMessage transform) {
+        add(transform, false);
+    }
+
+    /** Add transform of static frame (usually received from "/tf_static" topic) */
+    public void addStatic(TransformStampedMessage transform) {
+        add(transform, true);
+    }
+
+    private void add(TransformStampedMessage message, boolean isStatic) {
+        var parentName = stripSlash(message.header.frame_id);
+        var childName = stripSlash(message.child_frame_id.data);
+        if (parentName.isEmpty() || childName.isEmpty())
+            throw new XRE("Frame id is empty: %s", message);
+        if (parentName.equals(childName))
+            throw new XRE("Frame %s cannot be parent of itself", childName);
+        var frame = frames.computeIfAbsent(childName, Frame::new);
+        var parent = frames.computeIfAbsent(parentName, Frame::new);
+        if (frame.parent != parent) {
+            synchronized (this) {
+                if (frame.parent != parent) {
+                    // transforms to the old parent are not valid anymore
+                    frame.clear();
+                    frame.parent = parent;
+                    version++;
+                    chains.clear();
+                }
+            }
+        }
+        var t = message.transform;
+        double[] transform = {
+            t.translation.x,
+            t.translation.y,
+            t.translation.z,
+            t.rotation.x,
+            t.rotation.y,
+            t.rotation.z,
+            t.rotation.w
+        };
+        normalize(transform);
+        frame.add(toNanos(message.header.stamp), transform, isStatic, cacheDuration);
+    }
+
+    /** Check if transform between frames is available at the given time */
+    public boolean canTransform(String target, String source, Time time) {
+        try {
+            lookup(target, source, time, new double[TRANSFORM_SIZE]);
+            return true;
+        } catch (XRE e) {
+            return false;
+        }
+    }
+
+    /**
+     * Find transform which converts coordinates from the source frame to the target frame (which is
+     * also the pose of the source frame in the target frame). Transforms are interpolated between
+     * the two closest points in time (rotation using spherical linear interpolation).
+     *
+     * @param time time of the transform, zero time means the latest time when all transforms
+     *     between the frames are available
+     * @return transform with {@code header.frame_id} set to target frame and {@code child_frame_id}
+     *     to the source frame
+     * @throws XRE if frames are unknown, not connected or the transform would require extrapolation
+     */
+    public TransformStampedMessage lookup(String target, String source, Time time) {
+        var transform = new double[TRANSFORM_SIZE];
+        var nanos = lookup(target, source, time, transform);
+        return new TransformStampedMessage()
+                .withHeader(new HeaderMessage().withFrameId(target).withStamp(toTime(nanos)))
+                .withChildFrameId(new StringMessage(source))
+                .withTransform(
+                        new TransformMessage()
+                                .withTranslation(
+                                        new Vector3Message(
+                                                transform[0], transform[1], transform[2]))
+                                .withRotation(
+                                        new QuaternionMessage(
+                                                transform[3],
+                                                transform[4],
+                                                transform[5],
+                                                transform[6])));
+    }
+
+    /**
+     * @return time of the transform
+     */
+    private long lookup(String target, String source, Time time, double[] out) {
+        var chain = chain(stripSlash(target), stripSlash(source));
+        var nanos = toNanos(time);
+        if (nanos == 0) nanos = latestCommonTime(chain);
+        var targetTransform = new double[TRANSFORM_SIZE];
+        resolve(chain.target(), nanos, targetTransform);
+        resolve(chain.source(), nanos, out);
+        invert(targetTransform);
+        multiply(targetTransform, out, out);
+        return nanos;
+    }
+
+    /** Transform from the first frame of the chain to the parent of the last one */
+    private void resolve(Frame[] chain, long time, double[] out) {
+        identity(out);
+        var transform = new double[TRANSFORM_SIZE];
+        for (var frame : chain) {
+            switch (frame.lookup(time, transform)) {
+                case Frame.OK -> multiply(transform, out, out);
+                case Frame.NO_DATA -> throw new XRE(
+                        "Frame %s has no transforms to %s", frame.name, frame.parent.name);
+                case Frame.PAST -> throw new XRE(
+                        "Lookup of %s at %s would require extrapolation into the past",
+                        frame.name, time);
+                default -> throw new XRE(
+                        "Lookup of %s at %s would require extrapolation into the future",
+                        frame.name, time);
+            }
+        }
+    }
+
+    private long latestCommonTime(Chain chain) {
+        var time = Long.MAX_VALUE;
+        for (var frames : new Frame[][] {chain.source(), chain.target()}) {
+            for (var frame : frames) {
+                var latest = frame.latestTime();
+                if (latest != 0) time = Math.min(time, latest);
+            }
+        }
+        // all frames are static
+        return time == Long.MAX_VALUE ? 0 : time;
+    }
+
+    private Chain chain(String target, String source) {
+        var key = new FramePair(target, source);
+        var chain = chains.get(key);
+        var version = this.version;
+        if (chain != null && chain.version() == version) return chain;
+        chain = resolveChain(target, source, version);
+        chains.put(key, chain);
+        return chain;
+    }
+
+    private Chain resolveChain(String target, String source, long version) {
+        var sourcePath = pathToRoot(source);
+        var targetPath = pathToRoot(target);
+        // remove common ancestors
+        int i = sourcePath.size() - 1, j = targetPath.size() - 1;
+        if (sourcePath.get(i) != targetPath.get(j))
+            throw new XRE("Frames %s and %s are not connected", target, source);
+        while (i >= 0 && j >= 0 && sourcePath.get(i) == targetPath.get(j)) {
+            i--;
+            j--;
+        }
+        return new Chain(
+                sourcePath.subList(0, i + 1).toArray(Frame[]::new),
+                targetPath.subList(0, j + 1).toArray(Frame[]::new),
+                version);
+    }
+
+    /** Frame followed by all its ancestors */
+    private ArrayList<Frame> pathToRoot(String name) {
+        var frame = frames.get(name);
+        if (frame == null) throw new XRE("Frame %s does not exist", name);
+        var path = new ArrayList<Frame>();
+        while (frame != null) {
+            if (path.size() > MAX_DEPTH)
+                throw new XRE("Frame %s has a loop in its ancestors", name);
+            path.add(frame);
+            frame = frame.parent;
+        }
+        return path;
+    }
+
+    private static String stripSlash(String frameId) {
+        return frameId.startsWith("/") ? frameId.substring(1) : frameId;
+    }
+
+    private static long toNanos(Time time) {
+        return time.sec * 1_000_000_000L + time.nanosec;
+    }
+
+    private static Time toTime(long nanos) {
+        return new Time((int) (nanos / 1_000_000_000L), (int) (nanos % 1_000_000_000L));
+    }
+
+    private static void identity(double[] t) {
+        t[0] = t[1] = t[2] = t[3] = t[4] = t[5] = 0;
+        t[6] = 1;
+    }
+
+    private static void normalize(double[] t) {
+        var norm = Math.sqrt(t[3] * t[3] + t[4] * t[4] + t[5] * t[5] + t[6] * t[6]);
+        if (norm == 0) throw new XRE("Rotation quaternion is zero");
+        for (int i = 3; i < TRANSFORM_SIZE; i++) t[i] /= norm;
+    }
+
+    private static void invert(double[] t) {
+        t[3] = -t[3];
+        t[4] = -t[4];
+        t[5] = -t[5];
+        rotate(t, t[0], t[1], t[2], t, 0);
+        t[0] = -t[0];
+        t[1] = -t[1];
+        t[2] = -t[2];
+    }
+
+    /** out = a * b (apply b and then a), out can be same as a or b */
+    private static void multiply(double[] a, double[] b, double[] out) {
+        double ax = a[3], ay = a[4], az = a[5], aw = a[6];
+        double bx = b[3], by = b[4], bz = b[5], bw = b[6];
+        double tx = a[0], ty = a[1], tz = a[2];
+        rotate(a, b[0], b[1], b[2], out, 0);
+        out[0] += tx;
+        out[1] += ty;
+        out[2] += tz;
+        out[3] = aw * bx + ax * bw + ay * bz - az * by;
+        out[4] = aw * by - ax * bz + ay * bw + az * bx;
+        out[5] = aw * bz + ax * by - ay * bx + az * bw;
+        out[6] = aw * bw - ax * bx - ay * by - az * bz;
+    }
+
+    /** Rotate vector by the rotation of the transform q and store it at out[offset] */
+    private static void rotate(
+            double[] q, double vx, double vy, double vz, double[] out, int offset) {
+        double qx = q[3], qy = q[4], qz = q[5], qw = q[6];
+        // v + 2w(q x v) + 2q x (q x v)
+        double cx = 2 * (qy * vz - qz * vy);
+        double cy = 2 * (qz * vx - qx * vz);
+        double cz = 2 * (qx * vy - qy * vx);
+        out[offset] = vx + qw * cx + (qy * cz - qz * cy);
+        out[offset + 1] = vy + qw * cy + (qz * cx - qx * cz);
+        out[offset + 2] = vz + qw * cz + (qx * cy - qy * cx);
+    }
+
+    /**
+     * Linear interpolation of translations and spherical linear interpolation of rotations of two
+     * transforms stored in the array.
+     */
+    private static void interpolate(double[] transforms, int a, int b, double ratio, double[] out) {
+        for (int i = 0; i < 3; i++)
+            out[i] = transforms[a + i] + (transforms[b + i] - transforms[a + i]) * ratio;
+        var dot = 0.0;
+        for (int i = 3; i < TRANSFORM_SIZE; i++) dot += transforms[a + i] * transforms[b + i];
+        // take the shortest path
+        var sign = dot < 0 ? -1 : 1;
+        dot = Math.abs(dot);
+        double wa, wb;
+        if (dot > 0.9995) {
+            // quaternions are too close, fall back to the normalized linear interpolation
+            wa = 1 - ratio;
+            wb = ratio;
+        } else {
+            var theta = Math.acos(dot);
+            var sin = Math.sin(theta);
+            wa = Math.sin((1 - ratio) * theta) / sin;
+            wb = Math.sin(ratio * theta) / sin;
+        }
+        for (int i = 3; i < TRANSFORM_SIZE; i++)
+            out[i] = wa * transforms[a + i] + sign * wb * transforms[b + i];
+        normalize(out);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+import id.jrosmessages.impl.JRosMessagesConstants;
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@link DataOutput} which writes directly into the {@link ByteBuffer} (heap or direct) without any
+ * intermediate copies.
+ *
+ * <p>All writes happen into the slice of the target buffer which starts at its position at the
+ * moment of creation. Target buffer itself is not modified until {@link #commit()} is called, so
+ * when write fails with {@link BufferOverflowException} the target stays unchanged.
+ *
+ * <p>Same as {@link DataOutput} it writes in big-endian order.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class ByteBufferDataOutput implements DataOutput {
+
+    private ByteBuffer target;
+    private ByteBuffer buf;
+
+    public ByteBufferDataOutput(ByteBuffer target) {
+        this.target = target;
+        buf = target.slice().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /** Number of bytes written so far */
+    public int size() {
+        return buf.position();
+    }
+
+    /**
+     * Reserve next len bytes of the buffer so that caller can fill them directly.
+     *
+     * @return buffer of the given length in {@link JRosMessagesConstants#ROS_BYTE_ORDER} which
+     *     shares memory with the target
+     */
+    public ByteBuffer reserve(int len) {
+        if (len > buf.remaining()) throw new BufferOverflowException();
+        var slice = buf.slice();
+        slice.limit(len);
+        buf.position(buf.position() + len);
+        return slice.order(JRosMessagesConstants.ROS_BYTE_ORDER);
+    }
+
+    /** Advance position of the target buffer by the number of bytes written */
+    public void commit() {
+        target.position(target.position() + buf.position());
+    }
+
+    @Override
+    public void write(int b) {
+        buf.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b) {
+        buf.put(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        buf.put(b, off, len);
+    }
+
+    @Override
+    public void writeBoolean(boolean v) {
+        buf.put(v ? (byte) 1 : (byte) 0);
+    }
+
+    @Override
+    public void writeByte(int v) {
+        buf.put((byte) v);
+    }
+
+    @Override
+    public void writeShort(int v) {
+        buf.putShort((short) v);
+    }
+
+    @Override
+    public void writeChar(int v) {
+        buf.putChar((char) v);
+    }
+
+    @Override
+    public void writeInt(int v) {
+        buf.putInt(v);
+    }
+
+    @Override
+    public void writeLong(long v) {
+        buf.putLong(v);
+    }
+
+    @Override
+    public void writeFloat(float v) {
+        buf.putFloat(v);
+    }
+
+    @Override
+    public void writeDouble(double v) {
+        buf.putDouble(v);
+    }
+
+    @Override
+    public void writeBytes(String s) {
+        for (int i = 0; i < s.length(); i++) buf.put((byte) s.charAt(i));
+    }
+
+    @Override
+    public void writeChars(String s) {
+        for (int i = 0; i < s.length(); i++) buf.putChar(s.charAt(i));
+    }
+
+    @Override
+    public void writeUTF(String s) throws UTFDataFormatException {
+        var len = CountingDataOutput.utfLength(s);
+        if (Short.BYTES + len > buf.remaining()) throw new BufferOverflowException();
+        buf.putShort((short) len);
+        for (int i = 0; i < s.length(); i++) {
+            var c = s.charAt(i);
+            if (c >= 0x01 && c < 0x80) {
+                buf.put((byte) c);
+            } else if (c < 0x800) {
+                buf.put((byte) (0xc0 | c >> 6));
+                buf.put((byte) (0x80 | c & 0x3f));
+            } else {
+                buf.put((byte) (0xe0 | c >> 12));
+                buf.put((byte) (0x80 | c >> 6 & 0x3f));
+                buf.put((byte) (0x80 | c & 0x3f));
+            }
+        }
+    }
+}
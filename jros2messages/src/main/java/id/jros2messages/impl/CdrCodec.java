@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+import id.xfunction.lang.XRE;
+import java.lang.annotation.Annotation;
+
+/**
+ * Codec which (de)serializes messages of one particular type in DDS format without going through
+ * reflection.
+ *
+ * <p>Implementations are generated by {@code CdrCodecGenerator} into {@code src/main/gen} and must
+ * produce exactly the same bytes as {@link DdsDataOutput} when it is driven by kinetic stream.
+ *
+ * @param <M> message type
+ * @author lambdaprime intid@protonmail.com
+ */
+public interface CdrCodec<M> {
+
+    Class<M> getMessageClass();
+
+    void write(M message, DdsDataOutput out) throws Exception;
+
+    default M read(DdsDataInput in) throws Exception {
+        return read(in, null);
+    }
+
+    /**
+     * Read message into existing instance.
+     *
+     * <p>All nested messages which have codecs are filled in place as well. Arrays are reused when
+     * their length matches the length of the data being read.
+     *
+     * @param reuse message instance to fill or null to create new one
+     * @return filled message instance
+     */
+    M read(DdsDataInput in, M reuse) throws Exception;
+
+    /**
+     * Move stream to the end of the message without decoding it. Used to find where elements of the
+     * arrays start so that they can be decoded in parallel.
+     *
+     * <p>Default implementation decodes the message.
+     */
+    default void skip(DdsDataInput in) throws Exception {
+        read(in);
+    }
+
+    /** Used by generated codecs to pass field annotations (fixed array size etc) to the stream */
+    static Annotation[] annotationsOf(Class<?> messageClass, String fieldName) {
+        try {
+            return messageClass.getField(fieldName).getAnnotations();
+        } catch (NoSuchFieldException e) {
+            throw new XRE("Field %s not found in %s", fieldName, messageClass.getName());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+import id.jros2messages.impl.codecs.CdrCodecsIndex;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of all generated {@link CdrCodec}s.
+ *
+ * <p>Messages which don't have a codec are (de)serialized through kinetic stream.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class CdrCodecs {
+
+    private static final Map<Class<?>, CdrCodec<?>> CODECS =
+            CdrCodecsIndex.CODECS.stream()
+                    .collect(Collectors.toMap(CdrCodec::getMessageClass, Function.identity()));
+
+    /** Lookup happens for every streamed field so it should be cheap */
+    private static final ClassValue<CdrCodec<?>> LOOKUP =
+            new ClassValue<>() {
+                @Override
+                protected CdrCodec<?> computeValue(Class<?> type) {
+                    return CODECS.get(type);
+                }
+            };
+
+    /**
+     * @return codec for the given message type or null if there is no codec generated for it
+     */
+    @SuppressWarnings("unchecked")
+    public static <M> CdrCodec<M> find(Class<M> messageClass) {
+        return (CdrCodec<M>) LOOKUP.get(messageClass);
+    }
+
+    /**
+     * @return message types which have generated codec
+     */
+    public static Set<Class<?>> getMessageClasses() {
+        return Collections.unmodifiableSet(CODECS.keySet());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+import id.jros2messages.Ros2MessageSerializationUtils;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.Message;
+import id.jrosmessages.impl.JRosMessagesConstants;
+import id.jrosmessages.primitives.Time;
+import id.xfunction.Preconditions;
+import io.opentelemetry.api.metrics.MeterProvider;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Cursor over serialized DDS message which allows to locate fields inside it without decoding them.
+ *
+ * <p>Locating of the field happens by skipping all fields before it. Skip methods return offset of
+ * the field which is later can be used to decode it with one of the get methods. Offsets are
+ * relative to the start of the message and take into account CDR alignment.
+ *
+ * <p>Used by lazy message views.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class CdrCursor {
+
+    /**
+     * Used to decode nested messages of the views. Metrics are not recorded for them since they are
+     * not the messages which were received.
+     */
+    private static final Ros2MessageSerializationUtils UTILS =
+            new Ros2MessageSerializationUtils(MeterProvider.noop().get(CdrCursor.class.getName()));
+
+    private ByteBuffer buf;
+    private int position;
+
+    /**
+     * @param data serialized message starting from the current position of the buffer. Buffer
+     *     position is not changed.
+     */
+    public CdrCursor(ByteBuffer data) {
+        buf = data.slice().order(JRosMessagesConstants.ROS_BYTE_ORDER);
+    }
+
+    /** Serialized message */
+    public ByteBuffer buffer() {
+        return buf.duplicate().order(JRosMessagesConstants.ROS_BYTE_ORDER);
+    }
+
+    public int position() {
+        return position;
+    }
+
+    private int align(int n) {
+        position = (position + n - 1) / n * n;
+        return position;
+    }
+
+    private int skip(int alignment, int len) {
+        var offset = align(alignment);
+        position += len;
+        if (position > buf.limit())
+            throw new IndexOutOfBoundsException(
+                    "Field at " + offset + " is out of message bounds " + buf.limit());
+        return offset;
+    }
+
+    public int skipByte() {
+        return skip(1, Byte.BYTES);
+    }
+
+    public int skipInt() {
+        return skip(Integer.BYTES, Integer.BYTES);
+    }
+
+    public int skipDouble() {
+        return skip(Double.BYTES, Double.BYTES);
+    }
+
+    /** Skip string or byte array */
+    public int skipBytes() {
+        var offset = skipInt();
+        skip(1, buf.getInt(offset));
+        return offset;
+    }
+
+    public int skipString() {
+        return skipBytes();
+    }
+
+    public int skipHeader() {
+        var offset = skipInt();
+        skipInt();
+        skipString();
+        return offset;
+    }
+
+    public byte getByte(int offset) {
+        return buf.get(offset);
+    }
+
+    public boolean getBool(int offset) {
+        return buf.get(offset) != 0;
+    }
+
+    public int getInt(int offset) {
+        return buf.getInt(offset);
+    }
+
+    public double getDouble(int offset) {
+        return buf.getDouble(offset);
+    }
+
+    public String getString(int offset) {
+        var len = buf.getInt(offset);
+        Preconditions.equals(0, buf.get(offset + Integer.BYTES + len - 1), "Null byte expected");
+        return Utf8StringCodec.decode(buf, offset + Integer.BYTES, len - 1);
+    }
+
+    /** Read-only slice of byte array (or string) which shares memory with the serialized message */
+    public ByteBuffer getBytes(int offset) {
+        var len = buf.getInt(offset);
+        var start = offset + Integer.BYTES;
+        var slice = buf.duplicate();
+        slice.limit(start + len);
+        slice.position(start);
+        return slice.slice().asReadOnlyBuffer();
+    }
+
+    public HeaderMessage getHeader(int offset) {
+        return new HeaderMessage()
+                .withStamp(new Time(buf.getInt(offset), buf.getInt(offset + Integer.BYTES)))
+                .withFrameId(getString(offset + 2 * Integer.BYTES));
+    }
+
+    /** Decode whole message */
+    public <M extends Message> M decode(Class<M> messageClass) {
+        return UTILS.read(buffer(), messageClass);
+    }
+}
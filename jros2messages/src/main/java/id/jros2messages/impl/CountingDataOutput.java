@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+
+/**
+ * {@link DataOutput} which does not write anything and only counts number of bytes written into it.
+ *
+ * <p>Used to calculate exact size of serialized message (including all alignment padding) without
+ * allocating any memory for it.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class CountingDataOutput implements DataOutput {
+
+    private long size;
+
+    /** Number of bytes written so far */
+    public long size() {
+        return size;
+    }
+
+    /** Count len bytes as written */
+    public void skip(int len) {
+        size += len;
+    }
+
+    @Override
+    public void write(int b) {
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b) {
+        size += b.length;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        size += len;
+    }
+
+    @Override
+    public void writeBoolean(boolean v) {
+        size++;
+    }
+
+    @Override
+    public void writeByte(int v) {
+        size++;
+    }
+
+    @Override
+    public void writeShort(int v) {
+        size += Short.BYTES;
+    }
+
+    @Override
+    public void writeChar(int v) {
+        size += Character.BYTES;
+    }
+
+    @Override
+    public void writeInt(int v) {
+        size += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLong(long v) {
+        size += Long.BYTES;
+    }
+
+    @Override
+    public void writeFloat(float v) {
+        size += Float.BYTES;
+    }
+
+    @Override
+    public void writeDouble(double v) {
+        size += Double.BYTES;
+    }
+
+    @Override
+    public void writeBytes(String s) {
+        size += s.length();
+    }
+
+    @Override
+    public void writeChars(String s) {
+        size += s.length() * Character.BYTES;
+    }
+
+    @Override
+    public void writeUTF(String s) throws UTFDataFormatException {
+        size += Short.BYTES + utfLength(s);
+    }
+
+    /**
+     * Length of the string in modified UTF-8 encoding as defined by {@link DataOutput#writeUTF}
+     *
+     * @throws UTFDataFormatException if encoded string does not fit into 65535 bytes
+     */
+    static int utfLength(String s) throws UTFDataFormatException {
+        int len = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            var c = s.charAt(i);
+            if (c >= 0x80 || c == 0) len += c >= 0x800 ? 2 : 1;
+        }
+        if (len > 0xffff) throw new UTFDataFormatException("Encoded string is too long: " + len);
+        return len;
+    }
+}
@@ -17,17 +17,29 @@
  */
 package id.jros2messages.impl;
 
+import static id.jros2messages.impl.JRos2MessagesConstants.TRACE_ENABLED;
 import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
 
 import id.jrosmessages.impl.RosDataInput;
 import id.kineticstreamer.KineticStreamController;
+import id.kineticstreamer.KineticStreamReader;
 import id.xfunction.Preconditions;
+import id.xfunction.function.ThrowingIntConsumer;
+import id.xfunction.lang.XRE;
 import id.xfunction.logging.TracingToken;
 import id.xfunction.logging.XLogger;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Kinetic stream implementation for types deserialization in DDS format.
@@ -35,7 +47,24 @@ import java.util.UUID;
  * @author aeon_flux aeon_flux@eclipso.ch
  */
 public class DdsDataInput extends RosDataInput {
+
+    /**
+     * Arrays of nested messages are split between the threads only when each thread gets at least
+     * that many bytes to decode
+     */
+    private static final int PARALLEL_MIN_ARRAY_CHUNK = 64 * 1024;
+
+    /** Byte arrays are copied in parallel only when they are at least that large */
+    private static final int PARALLEL_MIN_BLOB = 4 * 1024 * 1024;
+
+    private static final int PARALLEL_BLOB_CHUNK = 1024 * 1024;
+
+    private TracingToken tracingToken;
     private XLogger logger;
+    private KineticStreamController controller;
+    private StringInternCache stringCache;
+    private ExecutorService executor;
+    private boolean cdrCodecs = true;
 
     @SuppressWarnings("exports")
     public DdsDataInput(
@@ -43,7 +72,166 @@ public class DdsDataInput extends RosDataInput {
             ByteBuffer buf,
             KineticStreamController controller) {
         super(tracingToken, buf, controller);
-        logger = XLogger.getLogger(DdsDataInput.class, tracingToken);
+        this.tracingToken = tracingToken;
+        this.controller = controller;
+        if (TRACE_ENABLED) logger = XLogger.getLogger(DdsDataInput.class, tracingToken);
+    }
+
+    /**
+     * @param stringCache cache for decoded strings or null when caching is disabled
+     */
+    public DdsDataInput withStringCache(StringInternCache stringCache) {
+        this.stringCache = stringCache;
+        return this;
+    }
+
+    /**
+     * Enable parallel decoding of large messages:
+     *
+     * <ul>
+     *   <li>arrays of nested messages which have {@link CdrCodec} are pre-scanned to find where
+     *       each element starts and then their elements are decoded in parallel chunks
+     *   <li>large byte arrays (point cloud data, octomaps, images, ...) are copied in parallel
+     *       chunks
+     * </ul>
+     *
+     * <p>Nested arrays inside of the elements which are decoded in parallel are always decoded
+     * sequentially, so executor tasks never wait for other tasks.
+     *
+     * @param executor executor to run decoding tasks or null to decode everything in the current
+     *     thread
+     */
+    public DdsDataInput withExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @param enabled when false all messages are read through kinetic stream even if there is
+     *     {@link CdrCodec} generated for them
+     */
+    public DdsDataInput withCdrCodecs(boolean enabled) {
+        this.cdrCodecs = enabled;
+        return this;
+    }
+
+    /**
+     * @return codec for the given message type or null if there is no codec generated for it or
+     *     codecs are disabled
+     */
+    public <M> CdrCodec<M> findCodec(Class<M> messageClass) {
+        return cdrCodecs ? CdrCodecs.find(messageClass) : null;
+    }
+
+    /**
+     * Read message using its generated {@link CdrCodec} or through kinetic stream if there is no
+     * codec for it.
+     */
+    public <M> M readMessage(Class<M> messageClass) throws Exception {
+        var codec = findCodec(messageClass);
+        if (codec != null) return codec.read(this);
+        return new KineticStreamReader(this).withController(controller).read(messageClass);
+    }
+
+    @Override
+    public Object[] readArray(Object[] a, Class<?> type, Annotation[] fieldAnnotations)
+            throws Exception {
+        @SuppressWarnings("unchecked")
+        var codec = (CdrCodec<Object>) findCodec(type);
+        if (codec == null) return super.readArray(a, type, fieldAnnotations);
+        var len = readArraySize(fieldAnnotations);
+        // remaining bytes are only the upper bound of the array size, the actual size is known
+        // after the pre-scan
+        if (executor != null && len > 1 && in.remaining() >= 2 * PARALLEL_MIN_ARRAY_CHUNK) {
+            var offsets = scanElements(codec, len);
+            if (offsets[len] - offsets[0] >= 2 * PARALLEL_MIN_ARRAY_CHUNK)
+                return readArrayParallel(a, type, codec, offsets);
+            in.position(offsets[0]);
+        }
+        if (a != null && a.length == len) {
+            // reuse array together with its elements
+            for (int i = 0; i < len; i++) {
+                a[i] = codec.read(this, a[i]);
+            }
+            return a;
+        }
+        var array = (Object[]) Array.newInstance(type, len);
+        for (int i = 0; i < len; i++) {
+            array[i] = codec.read(this);
+        }
+        return array;
+    }
+
+    /**
+     * Find where each element of the array starts.
+     *
+     * @return offsets of all elements followed by the offset of the array end
+     */
+    private int[] scanElements(CdrCodec<Object> codec, int len) throws Exception {
+        var offsets = new int[len + 1];
+        for (int i = 0; i < len; i++) {
+            offsets[i] = in.position();
+            codec.skip(this);
+        }
+        offsets[len] = in.position();
+        return offsets;
+    }
+
+    private Object[] readArrayParallel(
+            Object[] a, Class<?> type, CdrCodec<Object> codec, int[] offsets) throws Exception {
+        var len = offsets.length - 1;
+        var array = a != null && a.length == len ? a : (Object[]) Array.newInstance(type, len);
+        var chunks =
+                Math.max(1, Math.min(len, (offsets[len] - offsets[0]) / PARALLEL_MIN_ARRAY_CHUNK));
+        runChunks(
+                chunks,
+                c -> {
+                    var from = (int) ((long) c * len / chunks);
+                    var to = (int) ((long) (c + 1) * len / chunks);
+                    readElements(array, codec, offsets[from], from, to);
+                });
+        in.position(offsets[len]);
+        return array;
+    }
+
+    private void readElements(Object[] array, CdrCodec<Object> codec, int offset, int from, int to)
+            throws Exception {
+        // duplicate keeps positions relative to the start of the message so alignment is preserved
+        var input =
+                new DdsDataInput(tracingToken, duplicate(offset), controller)
+                        .withStringCache(stringCache);
+        for (int i = from; i < to; i++) {
+            array[i] = codec.read(input, array[i]);
+        }
+    }
+
+    /** Skip primitive value of the given size (which is also its alignment) */
+    public void skip(int size) throws IOException {
+        align(size);
+        skipBytes(size);
+    }
+
+    public void skipString() throws IOException {
+        skipBytes(readLen());
+    }
+
+    /** Skip array of primitive values of the given size */
+    public void skipArray(int elementSize, Annotation[] fieldAnnotations) throws Exception {
+        var len = readArraySize(fieldAnnotations);
+        if (len == 0) return;
+        align(elementSize);
+        skipBytes((long) len * elementSize);
+    }
+
+    public void skipStringArray(Annotation[] fieldAnnotations) throws Exception {
+        var len = readArraySize(fieldAnnotations);
+        for (int i = 0; i < len; i++) skipString();
+    }
+
+    /** Skip array of messages */
+    public void skipArray(CdrCodec<?> codec, Annotation[] fieldAnnotations) throws Exception {
+        var len = readArraySize(fieldAnnotations);
+        for (int i = 0; i < len; i++) codec.skip(this);
     }
 
     @Override
@@ -54,13 +242,16 @@ public class DdsDataInput extends RosDataInput {
 
     @Override
     public String readString(Annotation[] fieldAnnotations) throws IOException {
-        logger.entering("readString");
+        if (TRACE_ENABLED) logger.entering("readString");
         int len = readLen();
-        byte[] b = new byte[len];
-        in.get(b);
-        var value = new String(b, 0, len - 1);
-        Preconditions.equals(0, b[len - 1], "Null byte expected");
-        logger.exiting("readString", (Object) value);
+        var offset = in.position();
+        Preconditions.equals(0, in.get(offset + len - 1), "Null byte expected");
+        var value =
+                stringCache != null
+                        ? stringCache.get(in, offset, len - 1)
+                        : Utf8StringCodec.decode(in, offset, len - 1);
+        in.position(offset + len);
+        if (TRACE_ENABLED) logger.exiting("readString", (Object) value);
         return value;
     }
 
@@ -81,6 +272,12 @@ public class DdsDataInput extends RosDataInput {
         return super.readFloat(fieldAnnotations);
     }
 
+    @Override
+    public short readShort(Annotation[] fieldAnnotations) throws IOException {
+        align(Short.BYTES);
+        return in.getShort();
+    }
+
     @Override
     public long readLong(Annotation[] fieldAnnotations) throws Exception {
         align(Long.BYTES);
@@ -88,57 +285,187 @@ public class DdsDataInput extends RosDataInput {
     }
 
     public UUID readUUID() throws Exception {
-        logger.entering("readUUID");
+        if (TRACE_ENABLED) logger.entering("readUUID");
         var hi = readLong(EMPTY_ANNOTATIONS);
         var lo = readLong(EMPTY_ANNOTATIONS);
         var uuid = new UUID(lo, hi);
-        logger.exiting("readUUID");
+        if (TRACE_ENABLED) logger.exiting("readUUID");
         return uuid;
     }
 
     @Override
     public int[] readIntArray(int[] array, Annotation[] fieldAnnotations) throws Exception {
-        logger.entering("readIntArray");
-        array = new int[readArraySize(fieldAnnotations)];
+        if (TRACE_ENABLED) logger.entering("readIntArray");
+        var len = readArraySize(fieldAnnotations);
+        if (array == null || array.length != len) array = new int[len];
         if (array.length > 0) {
             align(Integer.BYTES);
             var tmpBuf = in.asIntBuffer();
             tmpBuf.get(array);
             in.position(in.position() + array.length * Integer.BYTES);
         }
-        logger.exiting("readIntArray");
+        if (TRACE_ENABLED) logger.exiting("readIntArray");
         return array;
     }
 
     @Override
     public double[] readDoubleArray(double[] array, Annotation[] fieldAnnotations)
             throws Exception {
-        logger.entering("readDoubleArray");
-        array = new double[readArraySize(fieldAnnotations)];
+        if (TRACE_ENABLED) logger.entering("readDoubleArray");
+        var len = readArraySize(fieldAnnotations);
+        if (array == null || array.length != len) array = new double[len];
         if (array.length > 0) {
             align(Double.BYTES);
             var tmpBuf = in.asDoubleBuffer();
             tmpBuf.get(array);
             in.position(in.position() + array.length * Double.BYTES);
         }
-        logger.exiting("readDoubleArray");
+        if (TRACE_ENABLED) logger.exiting("readDoubleArray");
         return array;
     }
 
     @Override
     public float[] readFloatArray(float[] array, Annotation[] fieldAnnotations) throws Exception {
-        logger.entering("readFloatArray");
-        array = new float[readArraySize(fieldAnnotations)];
+        if (TRACE_ENABLED) logger.entering("readFloatArray");
+        var len = readArraySize(fieldAnnotations);
+        if (array == null || array.length != len) array = new float[len];
         if (array.length > 0) {
             align(Float.BYTES);
             var tmpBuf = in.asFloatBuffer();
             tmpBuf.get(array);
             in.position(in.position() + array.length * Float.BYTES);
         }
-        logger.exiting("readFloatArray");
+        if (TRACE_ENABLED) logger.exiting("readFloatArray");
+        return array;
+    }
+
+    @Override
+    public short[] readShortArray(short[] array, Annotation[] fieldAnnotations) throws Exception {
+        if (TRACE_ENABLED) logger.entering("readShortArray");
+        var len = readArraySize(fieldAnnotations);
+        if (array == null || array.length != len) array = new short[len];
+        if (array.length > 0) {
+            align(Short.BYTES);
+            var tmpBuf = in.asShortBuffer();
+            tmpBuf.get(array);
+            in.position(in.position() + array.length * Short.BYTES);
+        }
+        if (TRACE_ENABLED) logger.exiting("readShortArray");
+        return array;
+    }
+
+    @Override
+    public long[] readLongArray(long[] array, Annotation[] fieldAnnotations) throws Exception {
+        if (TRACE_ENABLED) logger.entering("readLongArray");
+        var len = readArraySize(fieldAnnotations);
+        if (array == null || array.length != len) array = new long[len];
+        if (array.length > 0) {
+            align(Long.BYTES);
+            var tmpBuf = in.asLongBuffer();
+            tmpBuf.get(array);
+            in.position(in.position() + array.length * Long.BYTES);
+        }
+        if (TRACE_ENABLED) logger.exiting("readLongArray");
+        return array;
+    }
+
+    @Override
+    public boolean[] readBooleanArray(boolean[] array, Annotation[] fieldAnnotations)
+            throws Exception {
+        var len = readArraySize(fieldAnnotations);
+        if (array == null || array.length != len) array = new boolean[len];
+        var offset = in.position();
+        for (int i = 0; i < len; i++) {
+            array[i] = in.get(offset + i) != 0;
+        }
+        in.position(offset + len);
+        return array;
+    }
+
+    @Override
+    public byte[] readByteArray(byte[] array, Annotation[] fieldAnnotations) throws Exception {
+        var len = readArraySize(fieldAnnotations);
+        if (array == null || array.length != len) array = new byte[len];
+        if (executor != null && len >= PARALLEL_MIN_BLOB) readBlobParallel(array);
+        else in.get(array);
         return array;
     }
 
+    private void readBlobParallel(byte[] array) throws Exception {
+        if (array.length > in.remaining()) throw new BufferUnderflowException();
+        var offset = in.position();
+        runChunks(
+                (array.length + PARALLEL_BLOB_CHUNK - 1) / PARALLEL_BLOB_CHUNK,
+                c -> {
+                    var from = c * PARALLEL_BLOB_CHUNK;
+                    var len = Math.min(PARALLEL_BLOB_CHUNK, array.length - from);
+                    duplicate(offset + from).get(array, from, len);
+                });
+        in.position(offset + array.length);
+    }
+
+    /**
+     * Run chunks starting from 1 on the executor and chunk 0 in the current thread.
+     *
+     * <p>Returns only when none of the chunks is running anymore, even if some of them failed, so
+     * that no task keeps writing into the target array (which may belong to the caller) after this
+     * method exits. Chunks which did not start before the failure are never run. Failure of any
+     * chunk is rethrown as is.
+     */
+    private void runChunks(int chunks, ThrowingIntConsumer<Exception> reader) throws Exception {
+        // each chunk is run by whoever claims it first: the executor task or the cleanup below
+        var claims = new AtomicIntegerArray(chunks);
+        var futures = new ArrayList<Future<?>>(chunks);
+        try {
+            for (int c = 1; c < chunks; c++) {
+                var chunk = c;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    if (claims.compareAndSet(chunk, 0, 1)) reader.accept(chunk);
+                                    return null;
+                                }));
+            }
+            reader.accept(0);
+            for (var future : futures) future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new XRE(e.getCause());
+        } finally {
+            for (int i = 0; i < futures.size(); i++) {
+                if (claims.compareAndSet(i + 1, 0, 1)) futures.get(i).cancel(false);
+                else awaitUninterruptibly(futures.get(i));
+            }
+        }
+    }
+
+    private static void awaitUninterruptibly(Future<?> future) {
+        var interrupted = false;
+        while (true) {
+            try {
+                future.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException | CancellationException e) {
+                break;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /** Independent view of the input with the same byte order, positioned at the given offset */
+    private ByteBuffer duplicate(int offset) {
+        return in.duplicate().order(in.order()).position(offset);
+    }
+
+    /** Skip bytes failing same way as reading them would */
+    private void skipBytes(long n) {
+        if (n > in.remaining()) throw new BufferUnderflowException();
+        in.position(in.position() + (int) n);
+    }
+
     private void align(int n) throws IOException {
         while (in.position() % n != 0) {
             in.get();
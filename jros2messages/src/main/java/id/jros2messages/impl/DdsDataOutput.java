@@ -17,18 +17,22 @@
  */
 package id.jros2messages.impl;
 
+import static id.jros2messages.impl.JRos2MessagesConstants.TRACE_ENABLED;
 import static id.kineticstreamer.KineticStreamConstants.EMPTY_ANNOTATIONS;
 
 import id.jrosmessages.impl.JRosMessagesConstants;
 import id.jrosmessages.impl.RosDataOutput;
 import id.kineticstreamer.KineticStreamController;
+import id.kineticstreamer.KineticStreamWriter;
 import id.xfunction.logging.TracingToken;
 import id.xfunction.logging.XLogger;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Kinetic stream implementation for types serialization in DDS format.
@@ -38,14 +42,45 @@ import java.util.UUID;
 public class DdsDataOutput extends RosDataOutput {
 
     private XLogger logger;
+    private KineticStreamController controller;
     private int position;
+    private boolean cdrCodecs = true;
 
     public DdsDataOutput(
             @SuppressWarnings("exports") TracingToken tracingToken,
             DataOutput out,
             KineticStreamController controller) {
         super(tracingToken, out, controller);
-        logger = XLogger.getLogger(DdsDataOutput.class, tracingToken);
+        this.controller = controller;
+        if (TRACE_ENABLED) logger = XLogger.getLogger(DdsDataOutput.class, tracingToken);
+    }
+
+    /**
+     * @param enabled when false all messages are written through kinetic stream even if there is
+     *     {@link CdrCodec} generated for them
+     */
+    public DdsDataOutput withCdrCodecs(boolean enabled) {
+        this.cdrCodecs = enabled;
+        return this;
+    }
+
+    /**
+     * @return codec for the given message type or null if there is no codec generated for it or
+     *     codecs are disabled
+     */
+    public <M> CdrCodec<M> findCodec(Class<M> messageClass) {
+        return cdrCodecs ? CdrCodecs.find(messageClass) : null;
+    }
+
+    /**
+     * Write message using its generated {@link CdrCodec} or through kinetic stream if there is no
+     * codec for it.
+     */
+    @SuppressWarnings("unchecked")
+    public void writeMessage(Object message) throws Exception {
+        var codec = (CdrCodec<Object>) findCodec(message.getClass());
+        if (codec != null) codec.write(message, this);
+        else new KineticStreamWriter(this).withController(controller).write(message);
     }
 
     private void align(int n) throws IOException {
@@ -57,53 +92,122 @@ public class DdsDataOutput extends RosDataOutput {
 
     @Override
     public void writeString(String str, Annotation[] fieldAnnotations) throws IOException {
-        var len = str.length();
-        len++; // null byte
-        writeLen(len);
-        out.write(str.getBytes());
-        out.write(0);
-        position += len;
+        // DDS strings are always UTF-8 and their length is in bytes
+        int len;
+        if (out instanceof ByteBufferDataOutput bufOut) {
+            len = Utf8StringCodec.encodedLength(str);
+            writeLen(len + 1);
+            Utf8StringCodec.encode(str, bufOut.reserve(len));
+        } else if (out instanceof CountingDataOutput counter) {
+            len = Utf8StringCodec.encodedLength(str);
+            writeLen(len + 1);
+            counter.skip(len);
+        } else {
+            var b = str.getBytes(StandardCharsets.UTF_8);
+            len = b.length;
+            writeLen(len + 1);
+            out.write(b);
+        }
+        out.write(0); // null byte
+        position += len + 1;
     }
 
     @Override
     public void writeInt(Integer i, Annotation[] fieldAnnotations) throws IOException {
+        writeInt(i.intValue());
+    }
+
+    /** Unboxed version of {@link #writeInt(Integer, Annotation[])} */
+    public void writeInt(int i) throws IOException {
         align(Integer.BYTES);
-        super.writeInt(i, fieldAnnotations);
+        // DataOutput is always big-endian
+        out.writeInt(Integer.reverseBytes(i));
         position += Integer.BYTES;
     }
 
     @Override
     public void writeDouble(Double f, Annotation[] fieldAnnotations) throws IOException {
+        writeDouble(f.doubleValue());
+    }
+
+    /** Unboxed version of {@link #writeDouble(Double, Annotation[])} */
+    public void writeDouble(double f) throws IOException {
         align(Double.BYTES);
-        super.writeDouble(f, fieldAnnotations);
+        out.writeLong(Long.reverseBytes(Double.doubleToRawLongBits(f)));
         position += Double.BYTES;
     }
 
     @Override
     public void writeFloat(Float f, Annotation[] fieldAnnotations) throws IOException {
+        writeFloat(f.floatValue());
+    }
+
+    /** Unboxed version of {@link #writeFloat(Float, Annotation[])} */
+    public void writeFloat(float f) throws IOException {
         align(Float.BYTES);
-        super.writeFloat(f, fieldAnnotations);
+        out.writeInt(Integer.reverseBytes(Float.floatToRawIntBits(f)));
         position += Float.BYTES;
     }
 
     @Override
     public void writeByte(Byte b, Annotation[] fieldAnnotations) throws IOException {
-        super.writeByte(b, fieldAnnotations);
+        writeByte(b.byteValue());
+    }
+
+    /** Unboxed version of {@link #writeByte(Byte, Annotation[])} */
+    public void writeByte(byte b) throws IOException {
+        out.writeByte(b);
         position++;
     }
 
+    /** Unboxed version of {@link #writeBoolean(Boolean, Annotation[])} */
+    public void writeBoolean(boolean b) throws IOException {
+        writeByte(b ? (byte) 1 : (byte) 0);
+    }
+
+    @Override
+    public void writeShort(Short s, Annotation[] fieldAnnotations) throws IOException {
+        writeShort(s.shortValue());
+    }
+
+    /** Unboxed version of {@link #writeShort(Short, Annotation[])} */
+    public void writeShort(short s) throws IOException {
+        align(Short.BYTES);
+        out.writeShort(Short.reverseBytes(s));
+        position += Short.BYTES;
+    }
+
     @Override
     public void writeLong(Long l, Annotation[] fieldAnnotations) throws Exception {
+        writeLong(l.longValue());
+    }
+
+    /** Unboxed version of {@link #writeLong(Long, Annotation[])} */
+    public void writeLong(long l) throws IOException {
         align(Long.BYTES);
-        super.writeLong(l, fieldAnnotations);
+        out.writeLong(Long.reverseBytes(l));
         position += Long.BYTES;
     }
 
     public void writeUUID(UUID uuid) throws Exception {
-        logger.entering("writeUUID");
+        if (TRACE_ENABLED) logger.entering("writeUUID");
         writeLong(uuid.getLeastSignificantBits(), EMPTY_ANNOTATIONS);
         writeLong(uuid.getMostSignificantBits(), EMPTY_ANNOTATIONS);
-        logger.exiting("writeUUID");
+        if (TRACE_ENABLED) logger.exiting("writeUUID");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeArray(Object[] array, Annotation[] fieldAnnotations) throws Exception {
+        var codec = (CdrCodec<Object>) findCodec(array.getClass().getComponentType());
+        if (codec == null) {
+            super.writeArray(array, fieldAnnotations);
+            return;
+        }
+        writeArraySize(array.length, fieldAnnotations);
+        for (var item : array) {
+            codec.write(item, this);
+        }
     }
 
     @Override
@@ -111,10 +215,37 @@ public class DdsDataOutput extends RosDataOutput {
         writeArraySize(array.length, fieldAnnotations);
         if (array.length > 0) {
             align(Integer.BYTES);
-            var buf = new byte[array.length * Integer.BYTES];
-            wrap(buf).asIntBuffer().put(array);
-            out.write(buf);
-            position += buf.length;
+            writeBulk(array.length * Integer.BYTES, buf -> buf.asIntBuffer().put(array));
+        }
+    }
+
+    @Override
+    public void writeShortArray(short[] array, Annotation[] fieldAnnotations) throws Exception {
+        writeArraySize(array.length, fieldAnnotations);
+        if (array.length > 0) {
+            align(Short.BYTES);
+            writeBulk(array.length * Short.BYTES, buf -> buf.asShortBuffer().put(array));
+        }
+    }
+
+    /** Used by generated codecs (kinetic stream does not support long arrays) */
+    public void writeLongArray(long[] array, Annotation[] fieldAnnotations) throws Exception {
+        writeArraySize(array.length, fieldAnnotations);
+        if (array.length > 0) {
+            align(Long.BYTES);
+            writeBulk(array.length * Long.BYTES, buf -> buf.asLongBuffer().put(array));
+        }
+    }
+
+    @Override
+    public void writeBooleanArray(boolean[] array, Annotation[] fieldAnnotations) throws Exception {
+        writeArraySize(array.length, fieldAnnotations);
+        if (array.length > 0) {
+            writeBulk(
+                    array.length,
+                    buf -> {
+                        for (var b : array) buf.put(b ? (byte) 1 : (byte) 0);
+                    });
         }
     }
 
@@ -129,10 +260,7 @@ public class DdsDataOutput extends RosDataOutput {
         writeArraySize(array.length, fieldAnnotations);
         if (array.length > 0) {
             align(Double.BYTES);
-            var buf = new byte[array.length * Double.BYTES];
-            wrap(buf).asDoubleBuffer().put(array);
-            out.write(buf);
-            position += buf.length;
+            writeBulk(array.length * Double.BYTES, buf -> buf.asDoubleBuffer().put(array));
         }
     }
 
@@ -141,11 +269,26 @@ public class DdsDataOutput extends RosDataOutput {
         writeArraySize(array.length, fieldAnnotations);
         if (array.length > 0) {
             align(Float.BYTES);
-            var buf = new byte[array.length * Float.BYTES];
-            wrap(buf).asFloatBuffer().put(array);
+            writeBulk(array.length * Float.BYTES, buf -> buf.asFloatBuffer().put(array));
+        }
+    }
+
+    /**
+     * Puts array data directly into the target buffer when writing to {@link ByteBufferDataOutput},
+     * otherwise through the temporary byte array. When only size is calculated ({@link
+     * CountingDataOutput}) array data is not copied at all.
+     */
+    private void writeBulk(int len, Consumer<ByteBuffer> writer) throws IOException {
+        if (out instanceof ByteBufferDataOutput bufOut) {
+            writer.accept(bufOut.reserve(len));
+        } else if (out instanceof CountingDataOutput counter) {
+            counter.skip(len);
+        } else {
+            var buf = new byte[len];
+            writer.accept(wrap(buf));
             out.write(buf);
-            position += buf.length;
         }
+        position += len;
     }
 
     private ByteBuffer wrap(byte[] array) {
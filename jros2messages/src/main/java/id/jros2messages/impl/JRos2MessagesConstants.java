@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public interface JRos2MessagesConstants {
+
+    /**
+     * Enables tracing (entering/exiting calls) of DDS streams.
+     *
+     * <p>It is static final so that in production tracing calls are completely removed by JIT
+     * together with the allocations of their arguments. To enable it start JVM with
+     * "-Djros2messages.trace=true" and configure logging for id.jros2messages.impl classes.
+     */
+    boolean TRACE_ENABLED = Boolean.getBoolean("jros2messages.trace");
+}
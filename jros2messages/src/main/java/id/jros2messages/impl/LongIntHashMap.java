@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+/**
+ * Open addressing hash map with primitive long keys and int values (no boxing).
+ *
+ * <p>Values are expected to be non-negative. Entries cannot be removed.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class LongIntHashMap {
+
+    private long[] keys;
+
+    /** value + 1, 0 means empty slot */
+    private int[] values;
+
+    private int size;
+    private int mask;
+
+    public LongIntHashMap(int expectedSize) {
+        var capacity = Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1) << 1);
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return value for the key or -1 if there is no such key
+     */
+    public int get(long key) {
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            if (values[i] == 0) return -1;
+            if (keys[i] == key) return values[i] - 1;
+        }
+    }
+
+    /**
+     * Put value only if the key is not present yet.
+     *
+     * @return existing value or -1 if value was put
+     */
+    public int putIfAbsent(long key, int value) {
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            if (values[i] == 0) {
+                keys[i] = key;
+                values[i] = value + 1;
+                if (++size * 2 > keys.length) rehash();
+                return -1;
+            }
+            if (keys[i] == key) return values[i] - 1;
+        }
+    }
+
+    private int index(long key) {
+        var h = key * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash() {
+        var oldKeys = keys;
+        var oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] == 0) continue;
+            var i = index(oldKeys[j]);
+            while (values[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bounded cache of decoded strings.
+ *
+ * <p>ROS messages contain a lot of strings which repeat in every message of the topic
+ * (HeaderMessage.frame_id, JointStateMessage.name, ImageMessage.encoding, ...). When such string is
+ * found in the cache it is returned without any allocation.
+ *
+ * <p>Cache is direct-mapped: each string has only one slot (selected by the hash of its UTF-8
+ * bytes) and colliding strings replace each other. Strings longer than maximum length are never
+ * cached.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class StringInternCache {
+
+    /** Default maximum length (in bytes) of strings which are cached */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private record Entry(byte[] bytes, String value) {}
+
+    private final Entry[] entries;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * @param capacity number of cache slots, rounded up to the power of two
+     */
+    public StringInternCache(int capacity) {
+        this(capacity, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param capacity number of cache slots, rounded up to the power of two
+     * @param maxLength maximum length of strings (in bytes) which are cached
+     */
+    public StringInternCache(int capacity, int maxLength) {
+        var size = Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+        entries = new Entry[size];
+        mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /** Decode UTF-8 string from len bytes of the buffer starting at the given offset */
+    public String get(ByteBuffer buf, int offset, int len) {
+        if (len > maxLength) return Utf8StringCodec.decode(buf, offset, len);
+        var hash = 1;
+        for (int i = 0; i < len; i++) hash = 31 * hash + buf.get(offset + i);
+        var index = (hash ^ (hash >>> 16)) & mask;
+        var entry = entries[index];
+        if (entry != null && matches(entry.bytes, buf, offset, len)) return entry.value;
+        var bytes = new byte[len];
+        buf.duplicate().position(offset).get(bytes);
+        var value = new String(bytes, StandardCharsets.UTF_8);
+        entries[index] = new Entry(bytes, value);
+        return value;
+    }
+
+    private static boolean matches(byte[] bytes, ByteBuffer buf, int offset, int len) {
+        if (bytes.length != len) return false;
+        for (int i = 0; i < len; i++) {
+            if (bytes[i] != buf.get(offset + i)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding and decoding of strings directly against {@link ByteBuffer}, without intermediate
+ * byte arrays (where possible).
+ *
+ * <p>Unpaired surrogates are encoded as '?' same as {@link
+ * String#getBytes(java.nio.charset.Charset)} does, so that {@link #encodedLength(String)} always
+ * matches the number of bytes written by {@link #encode(String, ByteBuffer)}.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class Utf8StringCodec {
+
+    /** Number of bytes in UTF-8 representation of the string */
+    public static int encodedLength(String str) {
+        var len = str.length();
+        var n = len;
+        for (int i = 0; i < len; i++) {
+            var c = str.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                n += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (isSurrogatePair(str, i)) {
+                    // 4 bytes for 2 chars
+                    n += 2;
+                    i++;
+                }
+            } else {
+                n += 2;
+            }
+        }
+        return n;
+    }
+
+    /** Encode string to the buffer starting from its current position */
+    public static void encode(String str, ByteBuffer buf) {
+        var len = str.length();
+        for (int i = 0; i < len; i++) {
+            var c = str.charAt(i);
+            if (c < 0x80) {
+                buf.put((byte) c);
+            } else if (c < 0x800) {
+                buf.put((byte) (0xc0 | (c >> 6)));
+                buf.put((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                if (isSurrogatePair(str, i)) {
+                    var cp = Character.toCodePoint(c, str.charAt(++i));
+                    buf.put((byte) (0xf0 | (cp >> 18)));
+                    buf.put((byte) (0x80 | ((cp >> 12) & 0x3f)));
+                    buf.put((byte) (0x80 | ((cp >> 6) & 0x3f)));
+                    buf.put((byte) (0x80 | (cp & 0x3f)));
+                } else {
+                    buf.put((byte) '?');
+                }
+            } else {
+                buf.put((byte) (0xe0 | (c >> 12)));
+                buf.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                buf.put((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+    }
+
+    /**
+     * Decode string from len bytes of the buffer starting at the given offset. Buffer position is
+     * not changed.
+     */
+    public static String decode(ByteBuffer buf, int offset, int len) {
+        if (buf.hasArray())
+            return new String(buf.array(), buf.arrayOffset() + offset, len, StandardCharsets.UTF_8);
+        var b = new byte[len];
+        buf.duplicate().position(offset).get(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isSurrogatePair(String str, int i) {
+        return Character.isHighSurrogate(str.charAt(i))
+                && i + 1 < str.length()
+                && Character.isLowSurrogate(str.charAt(i + 1));
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.octomap_msgs;
+
+import id.jrosmessages.std_msgs.StringMessage;
+import id.xfunction.lang.XRE;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Octree of <a href="https://octomap.github.io/">OctoMap</a> decoded from {@link OctomapMessage}.
+ *
+ * <p>Supported octree types are {@link #OCTREE_ID} and {@link #COLOR_OCTREE_ID}, both in binary
+ * (occupied/free only) and full (with log-odds occupancy and color) formats.
+ *
+ * <p>Nodes are stored in the primitive arrays (log-odds occupancy, bitmask of existing children,
+ * index of the first child and optionally color) which take 9 bytes per node (13 with color).
+ * Children of each node are stored next to each other so that the child is found by the number of
+ * existing children before it. Root node is always at index 0.
+ *
+ * <p>Octree data is decoded in one pass directly from the {@link ByteBuffer} (for example {@link
+ * OctomapView#getData()}, which avoids copying octree data out of the serialized message). Node
+ * arrays are allocated once with the exact size and are reused when the next octree has same number
+ * of nodes or fewer.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class Octree {
+
+    /** Maximum depth of the octree, leaves at this depth have the size of the resolution */
+    public static final int DEPTH = 16;
+
+    /** {@link OctomapMessage#id} of the octree with occupancy only */
+    public static final String OCTREE_ID = "OcTree";
+
+    /** {@link OctomapMessage#id} of the octree with occupancy and color */
+    public static final String COLOR_OCTREE_ID = "ColorOcTree";
+
+    /** Key of the octree center */
+    private static final int CENTER_KEY = 1 << (DEPTH - 1);
+
+    /** Log-odds of occupied and free leaves of the binary octree (same as in OctoMap) */
+    private static final float CLAMPING_MAX = logOdds(0.971);
+
+    private static final float CLAMPING_MIN = logOdds(0.1192);
+
+    public enum Occupancy {
+        OCCUPIED,
+        FREE,
+        /** Node does not exist or coordinates are outside of the octree */
+        UNKNOWN
+    }
+
+    /** Consumer of the octree leaves */
+    public interface LeafConsumer {
+        /**
+         * @param node leaf node index
+         * @param x coordinate of the leaf center
+         * @param y coordinate of the leaf center
+         * @param z coordinate of the leaf center
+         * @param size edge length of the leaf cube
+         */
+        void accept(int node, double x, double y, double z, double size);
+    }
+
+    private String id = OCTREE_ID;
+    private double resolution = 0.1;
+    private double resolutionFactor = 1 / resolution;
+    private float occupancyThreshold;
+    private boolean hasColor;
+    private int size;
+    private float[] logOdds = new float[0];
+    private byte[] childMask = new byte[0];
+    private int[] firstChild = new int[0];
+    private int[] colors = new int[0];
+
+    /**
+     * Nodes with occupancy probability above this threshold are occupied. Default is 0.5 (same as
+     * in OctoMap).
+     */
+    public Octree withOccupancyThreshold(double probability) {
+        occupancyThreshold = logOdds(probability);
+        return this;
+    }
+
+    /** Decode octree from the message (also {@link OctomapWithPoseMessage#octomap}) */
+    public Octree read(OctomapMessage message) {
+        return read(
+                message.id.data, message.binary, message.resolution, ByteBuffer.wrap(message.data));
+    }
+
+    /** Decode octree from the serialized message without copying its data */
+    public Octree read(OctomapView view) {
+        return read(view.getId(), view.isBinary(), view.getResolution(), view.getData());
+    }
+
+    /**
+     * Decode octree from the data in OctoMap binary ({@code OcTree::writeBinaryData}) or full
+     * ({@code OcTree::writeData}) format.
+     *
+     * @param id octree type
+     * @param data octree data from its current position till the limit, buffer position is not
+     *     changed
+     */
+    public Octree read(String id, boolean binary, double resolution, ByteBuffer data) {
+        var hasColor =
+                switch (id) {
+                    case OCTREE_ID -> false;
+                    case COLOR_OCTREE_ID -> true;
+                    default -> throw new XRE("Octree type %s is not supported", id);
+                };
+        if (!(resolution > 0)) throw new XRE("Invalid octree resolution %s", resolution);
+        this.id = id;
+        this.resolution = resolution;
+        resolutionFactor = 1 / resolution;
+        this.hasColor = hasColor;
+        size = 0;
+        // OctoMap always writes in little-endian (native order of the platforms it supports)
+        var buf = data.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (!buf.hasRemaining()) return this;
+        var capacity = binary ? countBinaryNodes(buf) : buf.remaining() / (hasColor ? 8 : 5);
+        ensureCapacity(capacity);
+        size = 1;
+        try {
+            if (binary) readBinaryNode(buf, 0, 0);
+            else readNode(buf, 0, 0);
+        } catch (BufferUnderflowException e) {
+            throw new XRE("Octree data is truncated");
+        }
+        if (buf.hasRemaining())
+            throw new XRE("Unexpected %s bytes at the end of the octree data", buf.remaining());
+        return this;
+    }
+
+    /** In binary format every node except root is a non zero 2-bit child code of its parent */
+    private static int countBinaryNodes(ByteBuffer buf) {
+        long count = 1;
+        for (int i = buf.position(); i < buf.limit(); i++) {
+            var b = buf.get(i);
+            count += Integer.bitCount((b | (b >> 1)) & 0x55);
+        }
+        if (count > Integer.MAX_VALUE) throw new XRE("Octree is too large");
+        return (int) count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (logOdds.length < capacity) {
+            logOdds = new float[capacity];
+            childMask = new byte[capacity];
+            firstChild = new int[capacity];
+        }
+        if (hasColor && colors.length < capacity) colors = new int[capacity];
+    }
+
+    /** Reserve consecutive indexes for the node children */
+    private int addChildren(int node, int mask, int depth) {
+        var count = Integer.bitCount(mask);
+        if (count > 0 && depth >= DEPTH) throw new XRE("Octree is deeper than %s", DEPTH);
+        if (size + count > logOdds.length) throw new XRE("Octree data is truncated");
+        childMask[node] = (byte) mask;
+        firstChild[node] = size;
+        size += count;
+        return firstChild[node];
+    }
+
+    private void readNode(ByteBuffer buf, int node, int depth) {
+        logOdds[node] = buf.getFloat();
+        if (hasColor)
+            colors[node] = (buf.get() & 0xff) << 16 | (buf.get() & 0xff) << 8 | buf.get() & 0xff;
+        var mask = buf.get() & 0xff;
+        var first = addChildren(node, mask, depth);
+        for (int i = Integer.bitCount(mask) - 1; i >= 0; i--) readNode(buf, first++, depth + 1);
+    }
+
+    /**
+     * Each child is described by 2 bits: 00 - unknown, 01 - free, 10 - occupied, 11 - has children.
+     * Children which have their own children follow after.
+     */
+    private void readBinaryNode(ByteBuffer buf, int node, int depth) {
+        var codes = (buf.get() & 0xff) | (buf.get() & 0xff) << 8;
+        // binary format has no colors, OctoMap uses white by default
+        if (hasColor) colors[node] = 0xffffff;
+        var mask = 0;
+        for (int i = 0; i < 8; i++) if ((codes >> (2 * i) & 3) != 0) mask |= 1 << i;
+        var child = addChildren(node, mask, depth);
+        var maxLogOdds = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < 8; i++) {
+            var code = codes >> (2 * i) & 3;
+            if (code == 0) continue;
+            if (code == 3) {
+                readBinaryNode(buf, child, depth + 1);
+            } else {
+                logOdds[child] = code == 1 ? CLAMPING_MIN : CLAMPING_MAX;
+                childMask[child] = 0;
+                if (hasColor) colors[child] = 0xffffff;
+            }
+            maxLogOdds = Math.max(maxLogOdds, logOdds[child]);
+            child++;
+        }
+        // inner nodes have occupancy of their most occupied child
+        logOdds[node] = mask == 0 ? 0 : maxLogOdds;
+    }
+
+    /**
+     * Encode octree into the message.
+     *
+     * <p>Binary format keeps only occupied/free state of the leaves (as defined by {@link
+     * #withOccupancyThreshold(double)}) and drops colors.
+     *
+     * @param target message where octree is stored. Its header is not modified and its data array
+     *     is reused when its length matches.
+     * @return target message
+     */
+    public OctomapMessage write(boolean binary, OctomapMessage target) {
+        int len;
+        if (size == 0) len = 0;
+        else if (binary) len = 2 * Math.max(1, getInnerNodeCount());
+        else len = size * (hasColor ? 8 : 5);
+        var data = target.data.length == len ? target.data : new byte[len];
+        var buf = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        if (size > 0) {
+            if (binary) writeBinaryNode(buf, 0);
+            else writeNode(buf, 0);
+        }
+        return target.withBinary(binary)
+                .withId(new StringMessage(id))
+                .withResolution(resolution)
+                .withData(data);
+    }
+
+    private void writeNode(ByteBuffer buf, int node) {
+        buf.putFloat(logOdds[node]);
+        if (hasColor) {
+            var color = colors[node];
+            buf.put((byte) (color >> 16)).put((byte) (color >> 8)).put((byte) color);
+        }
+        buf.put(childMask[node]);
+        var first = firstChild[node];
+        for (int i = Integer.bitCount(childMask[node] & 0xff) - 1; i >= 0; i--)
+            writeNode(buf, first++);
+    }
+
+    private void writeBinaryNode(ByteBuffer buf, int node) {
+        var mask = childMask[node] & 0xff;
+        var codes = 0;
+        var child = firstChild[node];
+        for (int i = 0; i < 8; i++) {
+            if ((mask & (1 << i)) == 0) continue;
+            int code;
+            if (childMask[child] != 0) code = 3;
+            else code = isOccupied(child) ? 2 : 1;
+            codes |= code << (2 * i);
+            child++;
+        }
+        buf.put((byte) codes).put((byte) (codes >> 8));
+        child = firstChild[node];
+        for (int i = Integer.bitCount(mask) - 1; i >= 0; i--, child++)
+            if (childMask[child] != 0) writeBinaryNode(buf, child);
+    }
+
+    /** Octree type */
+    public String getId() {
+        return id;
+    }
+
+    public double getResolution() {
+        return resolution;
+    }
+
+    public boolean hasColor() {
+        return hasColor;
+    }
+
+    /** Number of nodes (inner and leaves) in the octree */
+    public int getNodeCount() {
+        return size;
+    }
+
+    /** Number of nodes which have children */
+    public int getInnerNodeCount() {
+        var count = 0;
+        for (int i = 0; i < size; i++) if (childMask[i] != 0) count++;
+        return count;
+    }
+
+    /**
+     * Find the deepest existing node which contains the point.
+     *
+     * @return node index or -1 if there is no such node
+     */
+    public int search(double x, double y, double z) {
+        if (size == 0) return -1;
+        int kx = key(x), ky = key(y), kz = key(z);
+        if (kx < 0 || ky < 0 || kz < 0) return -1;
+        return search(kx, ky, kz);
+    }
+
+    private int search(int kx, int ky, int kz) {
+        var node = 0;
+        for (int bit = DEPTH - 1; bit >= 0; bit--) {
+            var mask = childMask[node] & 0xff;
+            if (mask == 0) return node;
+            var pos = (kx >> bit & 1) | (ky >> bit & 1) << 1 | (kz >> bit & 1) << 2;
+            if ((mask & (1 << pos)) == 0) return -1;
+            node = firstChild[node] + Integer.bitCount(mask & ((1 << pos) - 1));
+        }
+        return node;
+    }
+
+    /** Occupancy of the point */
+    public Occupancy lookup(double x, double y, double z) {
+        var node = search(x, y, z);
+        if (node < 0) return Occupancy.UNKNOWN;
+        return isOccupied(node) ? Occupancy.OCCUPIED : Occupancy.FREE;
+    }
+
+    public boolean isOccupied(int node) {
+        return logOdds[node] >= occupancyThreshold;
+    }
+
+    /** Occupancy probability of the node */
+    public double getOccupancy(int node) {
+        return 1 - 1 / (1 + Math.exp(logOdds[node]));
+    }
+
+    public float getLogOdds(int node) {
+        return logOdds[node];
+    }
+
+    /**
+     * @return color of the node in 0xRRGGBB format
+     */
+    public int getColor(int node) {
+        if (!hasColor) throw new XRE("Octree %s has no colors", id);
+        return colors[node];
+    }
+
+    /** Iterate over all leaves of the octree */
+    public void forEachLeaf(LeafConsumer consumer) {
+        var maxKey = 2 * CENTER_KEY - 1;
+        if (size > 0) forEachLeaf(0, 0, 0, 0, 0, 0, 0, 0, maxKey, maxKey, maxKey, consumer);
+    }
+
+    /** Iterate over all leaves of the octree which intersect with the bounding box */
+    public void forEachLeaf(
+            double minX,
+            double minY,
+            double minZ,
+            double maxX,
+            double maxY,
+            double maxZ,
+            LeafConsumer consumer) {
+        if (size == 0) return;
+        double[] min = {rawKey(minX), rawKey(minY), rawKey(minZ)};
+        double[] max = {rawKey(maxX), rawKey(maxY), rawKey(maxZ)};
+        for (int i = 0; i < 3; i++) {
+            // box is outside of the octree
+            if (min[i] > max[i] || max[i] < 0 || min[i] >= 2 * CENTER_KEY) return;
+        }
+        forEachLeaf(
+                0,
+                0,
+                0,
+                0,
+                0,
+                clamp(min[0]),
+                clamp(min[1]),
+                clamp(min[2]),
+                clamp(max[0]),
+                clamp(max[1]),
+                clamp(max[2]),
+                consumer);
+    }
+
+    /**
+     * @param kx key of the node corner with the smallest coordinates
+     */
+    private void forEachLeaf(
+            int node,
+            int depth,
+            int kx,
+            int ky,
+            int kz,
+            int minX,
+            int minY,
+            int minZ,
+            int maxX,
+            int maxY,
+            int maxZ,
+            LeafConsumer consumer) {
+        var keySize = 1 << (DEPTH - depth);
+        if (kx > maxX || ky > maxY || kz > maxZ) return;
+        if (kx + keySize <= minX || ky + keySize <= minY || kz + keySize <= minZ) return;
+        var mask = childMask[node] & 0xff;
+        if (mask == 0) {
+            var half = keySize / 2.0;
+            consumer.accept(
+                    node,
+                    (kx - CENTER_KEY + half) * resolution,
+                    (ky - CENTER_KEY + half) * resolution,
+                    (kz - CENTER_KEY + half) * resolution,
+                    keySize * resolution);
+            return;
+        }
+        var half = keySize >> 1;
+        var child = firstChild[node];
+        for (int i = 0; i < 8; i++) {
+            if ((mask & (1 << i)) == 0) continue;
+            forEachLeaf(
+                    child++,
+                    depth + 1,
+                    kx + ((i & 1) != 0 ? half : 0),
+                    ky + ((i & 2) != 0 ? half : 0),
+                    kz + ((i & 4) != 0 ? half : 0),
+                    minX,
+                    minY,
+                    minZ,
+                    maxX,
+                    maxY,
+                    maxZ,
+                    consumer);
+        }
+    }
+
+    /**
+     * Cast the ray from the origin in the given direction until it hits occupied node (same as
+     * {@code OcTree::castRay} in OctoMap). Ray is traversed with the step of octree resolution.
+     *
+     * @param ignoreUnknown if false ray stops at the first unknown node, otherwise unknown nodes
+     *     are treated as free
+     * @param maxRange maximum ray length, non positive value means that ray is cast until it leaves
+     *     the octree
+     * @param end center of the last node visited by the ray is stored in it
+     * @return true if occupied node is hit
+     */
+    public boolean castRay(
+            double originX,
+            double originY,
+            double originZ,
+            double directionX,
+            double directionY,
+            double directionZ,
+            boolean ignoreUnknown,
+            double maxRange,
+            double[] end) {
+        double[] origin = {originX, originY, originZ};
+        double[] direction = {directionX, directionY, directionZ};
+        var norm =
+                Math.sqrt(
+                        directionX * directionX
+                                + directionY * directionY
+                                + directionZ * directionZ);
+        if (norm == 0) throw new XRE("Ray direction is zero");
+        int[] key = new int[3];
+        for (int i = 0; i < 3; i++) {
+            direction[i] /= norm;
+            key[i] = key(origin[i]);
+            if (key[i] < 0) throw new XRE("Ray origin is outside of the octree");
+        }
+        var node = size == 0 ? -1 : search(key[0], key[1], key[2]);
+        if (node >= 0 && isOccupied(node) || node < 0 && !ignoreUnknown) {
+            center(key, end);
+            return node >= 0;
+        }
+        // 3D DDA (Amanatides and Woo)
+        int[] step = new int[3];
+        double[] tMax = new double[3];
+        double[] tDelta = new double[3];
+        for (int i = 0; i < 3; i++) {
+            step[i] = (int) Math.signum(direction[i]);
+            if (step[i] == 0) {
+                tMax[i] = Double.POSITIVE_INFINITY;
+                tDelta[i] = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            var border = (key[i] - CENTER_KEY + (step[i] > 0 ? 1 : 0)) * resolution;
+            tMax[i] = (border - origin[i]) / direction[i];
+            tDelta[i] = resolution / Math.abs(direction[i]);
+        }
+        while (true) {
+            var dim = tMax[0] < tMax[1] ? (tMax[0] < tMax[2] ? 0 : 2) : (tMax[1] < tMax[2] ? 1 : 2);
+            var distance = tMax[dim];
+            key[dim] += step[dim];
+            tMax[dim] += tDelta[dim];
+            if (key[dim] < 0 || key[dim] >= 2 * CENTER_KEY) return false;
+            center(key, end);
+            if (maxRange > 0 && distance > maxRange) return false;
+            node = size == 0 ? -1 : search(key[0], key[1], key[2]);
+            if (node >= 0) {
+                if (isOccupied(node)) return true;
+            } else if (!ignoreUnknown) return false;
+        }
+    }
+
+    private void center(int[] key, double[] coords) {
+        for (int i = 0; i < 3; i++) coords[i] = (key[i] - CENTER_KEY + 0.5) * resolution;
+    }
+
+    /**
+     * @return key of the coordinate at the maximum depth or -1 if it is outside of the octree
+     */
+    private int key(double coord) {
+        var key = (long) Math.floor(resolutionFactor * coord) + CENTER_KEY;
+        return key < 0 || key >= 2 * CENTER_KEY ? -1 : (int) key;
+    }
+
+    private double rawKey(double coord) {
+        return Math.floor(resolutionFactor * coord) + CENTER_KEY;
+    }
+
+    private static int clamp(double key) {
+        return (int) Math.max(0, Math.min(2 * CENTER_KEY - 1, key));
+    }
+
+    private static float logOdds(double probability) {
+        return (float) Math.log(probability / (1 - probability));
+    }
+}
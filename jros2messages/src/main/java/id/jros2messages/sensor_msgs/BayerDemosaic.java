@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reconstructs full color {@link ImageMessage} ({@link ImageEncoding#RGB8} or {@link
+ * ImageEncoding#BGR8}) from the raw Bayer {@link ImageMessage} ({@code BAYER_*} encodings).
+ *
+ * <p>Missing color samples of each pixel are interpolated from its 3x3 neighborhood using one of
+ * the {@link Algorithm}s. Pixels outside of the image are mirrored from the inside so that Bayer
+ * pattern is preserved along the borders. 16-bit Bayer images are reduced to 8-bit by taking the
+ * most significant byte of the interpolated values.
+ *
+ * <p>Image is split into the tiles (bands of rows across the whole image width) which are processed
+ * in parallel using {@link ForkJoinPool}. Pixels are written into the data array of the target
+ * message which is reused when its length matches.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class BayerDemosaic {
+
+    /** Number of rows in the tile */
+    private static final int TILE_ROWS = 32;
+
+    public enum Algorithm {
+        /** Average of the nearest samples of the same color */
+        BILINEAR,
+
+        /**
+         * Green channel is interpolated along the edge (direction with the smallest gradient),
+         * which removes most of the zipper artifacts of {@link #BILINEAR} on the sharp edges. Red
+         * and blue channels are same as in {@link #BILINEAR}.
+         */
+        EDGE_AWARE
+    }
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private Algorithm algorithm = Algorithm.BILINEAR;
+
+    /** Pool to process tiles in parallel. Default is {@link ForkJoinPool#commonPool()} */
+    public BayerDemosaic withPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /** Default is {@link Algorithm#BILINEAR} */
+    public BayerDemosaic withAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+        return this;
+    }
+
+    /**
+     * @param encoding {@link ImageEncoding#RGB8} or {@link ImageEncoding#BGR8}
+     * @param target message where color image is stored. All its fields except header are
+     *     overwritten.
+     * @return target message
+     */
+    public ImageMessage demosaic(ImageMessage source, ImageEncoding encoding, ImageMessage target) {
+        var sourceEncoding = PixelFormat.encodingOf(source);
+        // position of the red sample inside of 2x2 Bayer cell
+        int redX, redY;
+        switch (sourceEncoding) {
+            case BAYER_RGGB8, BAYER_RGGB16 -> {
+                redX = 0;
+                redY = 0;
+            }
+            case BAYER_GRBG8, BAYER_GRBG16 -> {
+                redX = 1;
+                redY = 0;
+            }
+            case BAYER_GBRG8, BAYER_GBRG16 -> {
+                redX = 0;
+                redY = 1;
+            }
+            case BAYER_BGGR8, BAYER_BGGR16 -> {
+                redX = 1;
+                redY = 1;
+            }
+            default -> throw new XRE("Image encoding %s is not Bayer", sourceEncoding);
+        }
+        int redChannel, blueChannel;
+        switch (encoding) {
+            case RGB8 -> {
+                redChannel = 0;
+                blueChannel = 2;
+            }
+            case BGR8 -> {
+                redChannel = 2;
+                blueChannel = 0;
+            }
+            default -> throw new XRE("Demosaicing into %s is not supported", encoding);
+        }
+        var width = source.width;
+        var height = source.height;
+        if (width < 2 || height < 2) throw new XRE("Image %sx%s is too small", width, height);
+        var sampleSize = PixelFormat.of(sourceEncoding).sampleSize();
+        var srcStep = source.step;
+        if (srcStep < width * sampleSize) throw new XRE("Image step %s is too small", srcStep);
+        if (source.data.length < (long) srcStep * height)
+            throw new XRE("Image data is too small: %s", source.data.length);
+        var dstStep = width * 3;
+        var len = dstStep * height;
+        var data = target.data.length == len ? target.data : new byte[len];
+        target.withHeight(height)
+                .withWidth(width)
+                .withEncoding(encoding)
+                .withIsBigendian((byte) 0)
+                .withStep(dstStep)
+                .withData(data);
+        var src =
+                ByteBuffer.wrap(source.data)
+                        .order(
+                                source.is_bigendian != 0
+                                        ? ByteOrder.BIG_ENDIAN
+                                        : ByteOrder.LITTLE_ENDIAN);
+        var edgeAware = algorithm == Algorithm.EDGE_AWARE;
+        var shift = sampleSize == 1 ? 0 : 8;
+        ParallelChunks.process(
+                pool,
+                height,
+                TILE_ROWS,
+                (from, to) -> {
+                    // 3 rows around the current one, with 1 mirrored pixel on each side
+                    var above = new int[width + 2];
+                    var row = new int[width + 2];
+                    var below = new int[width + 2];
+                    readRow(src, srcStep, sampleSize, mirror(from - 1, height), width, above);
+                    readRow(src, srcStep, sampleSize, from, width, row);
+                    for (int y = from; y < to; y++) {
+                        readRow(src, srcStep, sampleSize, mirror(y + 1, height), width, below);
+                        var redRow = (y & 1) == redY;
+                        // x of the red sample in red row or blue sample in blue row
+                        var colorX = redRow ? redX : redX ^ 1;
+                        var dstPos = y * dstStep;
+                        for (int x = 0; x < width; x++, dstPos += 3) {
+                            // neighborhood indexes are shifted by 1 because of the mirrored pixel
+                            int i = x + 1;
+                            // color of this row (red or blue), green, color of the other row
+                            int own, green, other;
+                            if ((x & 1) == colorX) {
+                                own = row[i];
+                                int left = row[i - 1], right = row[i + 1];
+                                int up = above[i], down = below[i];
+                                if (edgeAware) {
+                                    var dh = Math.abs(left - right);
+                                    var dv = Math.abs(up - down);
+                                    if (dh < dv) green = (left + right + 1) >> 1;
+                                    else if (dv < dh) green = (up + down + 1) >> 1;
+                                    else green = (left + right + up + down + 2) >> 2;
+                                } else {
+                                    green = (left + right + up + down + 2) >> 2;
+                                }
+                                other =
+                                        (above[i - 1]
+                                                        + above[i + 1]
+                                                        + below[i - 1]
+                                                        + below[i + 1]
+                                                        + 2)
+                                                >> 2;
+                            } else {
+                                green = row[i];
+                                own = (row[i - 1] + row[i + 1] + 1) >> 1;
+                                other = (above[i] + below[i] + 1) >> 1;
+                            }
+                            data[dstPos + (redRow ? redChannel : blueChannel)] =
+                                    (byte) (own >> shift);
+                            data[dstPos + 1] = (byte) (green >> shift);
+                            data[dstPos + (redRow ? blueChannel : redChannel)] =
+                                    (byte) (other >> shift);
+                        }
+                        var tmp = above;
+                        above = row;
+                        row = below;
+                        below = tmp;
+                    }
+                    return null;
+                });
+        return target;
+    }
+
+    /** Reflect coordinate without repeating the border pixel (-1 -> 1, size -> size - 2) */
+    private static int mirror(int i, int size) {
+        if (i < 0) return -i;
+        if (i >= size) return 2 * size - 2 - i;
+        return i;
+    }
+
+    private static void readRow(
+            ByteBuffer src, int step, int sampleSize, int y, int width, int[] row) {
+        var pos = y * step;
+        if (sampleSize == 1) {
+            var a = src.array();
+            for (int x = 0; x < width; x++) row[x + 1] = a[pos + x] & 0xff;
+        } else {
+            for (int x = 0; x < width; x++)
+                row[x + 1] = Short.toUnsignedInt(src.getShort(pos + x * Short.BYTES));
+        }
+        row[0] = row[2];
+        row[width + 1] = row[width - 1];
+    }
+}
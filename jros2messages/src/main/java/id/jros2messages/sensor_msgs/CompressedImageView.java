@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jros2messages.impl.CdrCursor;
+import id.jros2messages.std_msgs.HeaderMessage;
+import java.nio.ByteBuffer;
+
+/**
+ * Lazy view over serialized {@link CompressedImageMessage}.
+ *
+ * <p>Each field is decoded only when it is accessed and {@link #getData()} is returned as a slice
+ * of the original buffer, without copying.
+ *
+ * <p>View is valid only as long as the underlying buffer is not modified.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class CompressedImageView {
+
+    private CdrCursor cursor;
+    private int formatOffset;
+    private int dataOffset;
+    private HeaderMessage header;
+    private String format;
+
+    /**
+     * @param data serialized {@link CompressedImageMessage} starting from the current buffer
+     *     position
+     */
+    public CompressedImageView(ByteBuffer data) {
+        cursor = new CdrCursor(data);
+        cursor.skipHeader();
+        formatOffset = cursor.skipString();
+        dataOffset = cursor.skipBytes();
+    }
+
+    public HeaderMessage getHeader() {
+        if (header == null) header = cursor.getHeader(0);
+        return header;
+    }
+
+    /** Image format (jpeg, png, ...) */
+    public String getFormat() {
+        if (format == null) format = cursor.getString(formatOffset);
+        return format;
+    }
+
+    /**
+     * @return read-only slice of the original buffer with the compressed image
+     */
+    public ByteBuffer getData() {
+        return cursor.getBytes(dataOffset);
+    }
+
+    /** Decode the whole message */
+    public CompressedImageMessage toMessage() {
+        return cursor.decode(CompressedImageMessage.class);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import static id.jros2messages.sensor_msgs.ImageEncoding.*;
+
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Converts pixels of {@link ImageMessage} from one {@link ImageEncoding} to another.
+ *
+ * <p>Supported conversions:
+ *
+ * <ul>
+ *   <li>between any of 8-bit color and gray encodings: rgb8, bgr8, rgba8, bgra8, mono8 (missing
+ *       alpha is set to 255, gray is calculated as ITU-R BT.601 luma)
+ *   <li>mono16 (16UC1) to mono8 with scaling (see {@link #withMono16Max(int)})
+ *   <li>32FC1 depth image in meters to 16UC1 (mono16) depth image in millimeters (NaN, negative and
+ *       out of range depths become 0)
+ *   <li>any encoding to itself: rows are repacked without padding and multi-byte samples are
+ *       swapped when {@code is_bigendian} differs from the byte order of the host
+ * </ul>
+ *
+ * <p>Source {@code step} padding is honoured. Converted image is always written without padding and
+ * in host byte order. Pixels are written into the data array of the target message which is reused
+ * when its length matches, so converting stream of images of the same size does not allocate any
+ * memory.
+ *
+ * <p>Large images are converted in parallel by rows using {@link ForkJoinPool}.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class ImageConverter {
+
+    /** Images with fewer pixels than that are converted in the calling thread */
+    private static final int CHUNK_PIXELS = 1 << 16;
+
+    private static final Set<ImageEncoding> COLOR8 = EnumSet.of(RGB8, BGR8, RGBA8, BGRA8, MONO8);
+    private static final byte HOST_IS_BIGENDIAN =
+            (byte) (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 1 : 0);
+
+    /** Converts width pixels of the row */
+    private interface RowConverter {
+        void convert(ByteBuffer src, int srcPos, ByteBuffer dst, int dstPos, int width);
+    }
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int mono16Max = 0xffff;
+
+    /** Pool to convert large images in parallel. Default is {@link ForkJoinPool#commonPool()} */
+    public ImageConverter withPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * When converting mono16 to mono8, values in range [0, max] are scaled to [0, 255] and values
+     * above max become 255. Default is 65535.
+     */
+    public ImageConverter withMono16Max(int max) {
+        if (max <= 0) throw new XRE("Max should be positive: %s", max);
+        this.mono16Max = max;
+        return this;
+    }
+
+    /** Check if conversion between the given encodings is supported */
+    public boolean isSupported(ImageEncoding from, ImageEncoding to) {
+        return rowConverter(from, to) != null;
+    }
+
+    /**
+     * Convert image to the given encoding.
+     *
+     * @param target message where converted image is stored. All its fields except header are
+     *     overwritten and its data array is reused when its length matches the converted image
+     *     size.
+     * @return target message
+     */
+    public ImageMessage convert(ImageMessage source, ImageEncoding encoding, ImageMessage target) {
+        var sourceEncoding = PixelFormat.encodingOf(source);
+        var converter = rowConverter(sourceEncoding, encoding);
+        if (converter == null)
+            throw new XRE("Conversion from %s to %s is not supported", sourceEncoding, encoding);
+        var srcStep = source.step;
+        var minStep = source.width * PixelFormat.of(sourceEncoding).pixelSize();
+        if (srcStep < minStep) throw new XRE("Image step %s is too small", srcStep);
+        if (source.data.length < (long) srcStep * source.height)
+            throw new XRE("Image data is too small: %s", source.data.length);
+        var dstStep = source.width * PixelFormat.of(encoding).pixelSize();
+        var len = dstStep * source.height;
+        var data = target.data.length == len ? target.data : new byte[len];
+        target.withHeight(source.height)
+                .withWidth(source.width)
+                .withEncoding(encoding)
+                .withIsBigendian(HOST_IS_BIGENDIAN)
+                .withStep(dstStep)
+                .withData(data);
+        var src =
+                ByteBuffer.wrap(source.data)
+                        .order(
+                                source.is_bigendian != 0
+                                        ? ByteOrder.BIG_ENDIAN
+                                        : ByteOrder.LITTLE_ENDIAN);
+        var dst = ByteBuffer.wrap(data).order(ByteOrder.nativeOrder());
+        var width = source.width;
+        var rowsPerChunk = Math.max(1, CHUNK_PIXELS / Math.max(1, width));
+        ParallelChunks.process(
+                pool,
+                source.height,
+                rowsPerChunk,
+                (from, to) -> {
+                    for (int row = from; row < to; row++)
+                        converter.convert(src, row * srcStep, dst, row * dstStep, width);
+                    return null;
+                });
+        return target;
+    }
+
+    private RowConverter rowConverter(ImageEncoding from, ImageEncoding to) {
+        if (from == to) return sameEncoding(PixelFormat.of(from));
+        if (COLOR8.contains(from) && COLOR8.contains(to)) return color8(from, to);
+        if (isMono16(from) && (to == MONO8 || to == TYPE_8UC1)) return this::mono16ToMono8;
+        if (from == TYPE_32FC1 && isMono16(to)) return ImageConverter::depthToMillimeters;
+        return null;
+    }
+
+    private static boolean isMono16(ImageEncoding encoding) {
+        return encoding == MONO16 || encoding == TYPE_16UC1;
+    }
+
+    private static RowConverter sameEncoding(PixelFormat format) {
+        var pixelSize = format.pixelSize();
+        var sampleSize = format.sampleSize();
+        return (src, srcPos, dst, dstPos, width) -> {
+            var len = width * pixelSize;
+            if (sampleSize == 1 || src.order() == dst.order()) {
+                System.arraycopy(src.array(), srcPos, dst.array(), dstPos, len);
+                return;
+            }
+            var s = src.array();
+            var d = dst.array();
+            for (int i = 0; i < len; i += sampleSize) {
+                for (int j = 0; j < sampleSize; j++)
+                    d[dstPos + i + j] = s[srcPos + i + sampleSize - 1 - j];
+            }
+        };
+    }
+
+    /**
+     * @return indexes of red, green, blue, alpha channels inside of the pixel (-1 if channel is
+     *     absent) or null for gray
+     */
+    private static int[] channels(ImageEncoding encoding) {
+        return switch (encoding) {
+            case RGB8 -> new int[] {0, 1, 2, -1};
+            case BGR8 -> new int[] {2, 1, 0, -1};
+            case RGBA8 -> new int[] {0, 1, 2, 3};
+            case BGRA8 -> new int[] {2, 1, 0, 3};
+            default -> null;
+        };
+    }
+
+    private static RowConverter color8(ImageEncoding from, ImageEncoding to) {
+        var srcSize = PixelFormat.of(from).pixelSize();
+        var dstSize = PixelFormat.of(to).pixelSize();
+        var sc = channels(from);
+        var dc = channels(to);
+        return (src, srcPos, dst, dstPos, width) -> {
+            var s = src.array();
+            var d = dst.array();
+            for (int x = 0; x < width; x++) {
+                var sp = srcPos + x * srcSize;
+                var dp = dstPos + x * dstSize;
+                int r, g, b, a = 0xff;
+                if (sc == null) {
+                    r = g = b = s[sp] & 0xff;
+                } else {
+                    r = s[sp + sc[0]] & 0xff;
+                    g = s[sp + sc[1]] & 0xff;
+                    b = s[sp + sc[2]] & 0xff;
+                    if (sc[3] >= 0) a = s[sp + sc[3]];
+                }
+                if (dc == null) {
+                    // BT.601 luma in fixed point
+                    d[dp] = (byte) ((77 * r + 150 * g + 29 * b + 128) >> 8);
+                } else {
+                    d[dp + dc[0]] = (byte) r;
+                    d[dp + dc[1]] = (byte) g;
+                    d[dp + dc[2]] = (byte) b;
+                    if (dc[3] >= 0) d[dp + dc[3]] = (byte) a;
+                }
+            }
+        };
+    }
+
+    private void mono16ToMono8(ByteBuffer src, int srcPos, ByteBuffer dst, int dstPos, int width) {
+        var max = mono16Max;
+        var d = dst.array();
+        for (int x = 0; x < width; x++) {
+            var v = Short.toUnsignedInt(src.getShort(srcPos + x * Short.BYTES));
+            d[dstPos + x] = (byte) (v >= max ? 0xff : v * 0xff / max);
+        }
+    }
+
+    private static void depthToMillimeters(
+            ByteBuffer src, int srcPos, ByteBuffer dst, int dstPos, int width) {
+        for (int x = 0; x < width; x++) {
+            var meters = src.getFloat(srcPos + x * Float.BYTES);
+            var mm = Math.round(meters * 1000);
+            // NaN is rounded to 0
+            if (mm < 0 || mm > 0xffff) mm = 0;
+            dst.putShort(dstPos + x * Short.BYTES, (short) mm);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Resizes {@link ImageMessage} or its {@link ImageRoi}.
+ *
+ * <p>Resized image has same encoding and byte order as the source image and is written without row
+ * padding. Pixels are written into the data array of the target message which is reused when its
+ * length matches.
+ *
+ * <p>Rows of the resized image are computed in parallel using {@link ForkJoinPool}.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class ImageResizer {
+
+    /** Images with fewer pixels than that are resized in the calling thread */
+    private static final int CHUNK_PIXELS = 1 << 16;
+
+    public enum Interpolation {
+        /**
+         * Each pixel is copied from the source pixel nearest to its center. Works with any {@link
+         * ImageEncoding}, though Bayer pattern is not preserved.
+         */
+        NEAREST,
+
+        /**
+         * Each channel of the pixel is the average of all source pixels covered by it (pixel bounds
+         * are rounded to the whole source pixels). Recommended for downscaling since it does not
+         * produce aliasing, upscaling gives same result as {@link #NEAREST}. Works with any
+         * 8/16/32-bit integer and float {@link ImageEncoding} except Bayer.
+         */
+        AREA
+    }
+
+    /** Type of the channel sample */
+    private enum Sample {
+        U8(1),
+        S8(1),
+        U16(2),
+        S16(2),
+        S32(4),
+        F32(4),
+        F64(8);
+
+        private int size;
+
+        Sample(int size) {
+            this.size = size;
+        }
+
+        double get(ByteBuffer buf, int pos) {
+            return switch (this) {
+                case U8 -> buf.get(pos) & 0xff;
+                case S8 -> buf.get(pos);
+                case U16 -> buf.getShort(pos) & 0xffff;
+                case S16 -> buf.getShort(pos);
+                case S32 -> buf.getInt(pos);
+                case F32 -> buf.getFloat(pos);
+                case F64 -> buf.getDouble(pos);
+            };
+        }
+
+        /** Integer values are rounded and saturated */
+        void put(ByteBuffer buf, int pos, double v) {
+            switch (this) {
+                case U8 -> buf.put(pos, (byte) clamp(v, 0, 0xff));
+                case S8 -> buf.put(pos, (byte) clamp(v, Byte.MIN_VALUE, Byte.MAX_VALUE));
+                case U16 -> buf.putShort(pos, (short) clamp(v, 0, 0xffff));
+                case S16 -> buf.putShort(pos, (short) clamp(v, Short.MIN_VALUE, Short.MAX_VALUE));
+                case S32 -> buf.putInt(pos, (int) clamp(v, Integer.MIN_VALUE, Integer.MAX_VALUE));
+                case F32 -> buf.putFloat(pos, (float) v);
+                case F64 -> buf.putDouble(pos, v);
+            }
+        }
+
+        private static long clamp(double v, long min, long max) {
+            return Math.max(min, Math.min(max, Math.round(v)));
+        }
+
+        static Sample of(ImageEncoding encoding) {
+            var format = PixelFormat.of(encoding);
+            var name = encoding.getName().data;
+            if (name.startsWith("bayer"))
+                throw new XRE("Area interpolation of Bayer images is not supported");
+            // OpenCV types: 8UC1, 16SC3, 32FC1, ...
+            var type = name.matches("\\d+[USF]C\\d") ? name.charAt(name.length() - 3) : 'U';
+            return switch (type + "" + format.sampleSize()) {
+                case "U1" -> U8;
+                case "S1" -> S8;
+                case "U2" -> U16;
+                case "S2" -> S16;
+                case "S4" -> S32;
+                case "F4" -> F32;
+                case "F8" -> F64;
+                default -> throw new XRE("Image encoding %s is not supported", encoding);
+            };
+        }
+    }
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private Interpolation interpolation = Interpolation.AREA;
+
+    /** Pool to resize large images in parallel. Default is {@link ForkJoinPool#commonPool()} */
+    public ImageResizer withPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /** Default is {@link Interpolation#AREA} */
+    public ImageResizer withInterpolation(Interpolation interpolation) {
+        this.interpolation = interpolation;
+        return this;
+    }
+
+    /**
+     * Resize the whole image
+     *
+     * @see #resize(ImageRoi, int, int, ImageMessage)
+     */
+    public ImageMessage resize(ImageMessage source, int width, int height, ImageMessage target) {
+        return resize(new ImageRoi(source), width, height, target);
+    }
+
+    /**
+     * Resize region of the image
+     *
+     * @param target message where resized image is stored. All its fields except header are
+     *     overwritten.
+     * @return target message
+     */
+    public ImageMessage resize(ImageRoi source, int width, int height, ImageMessage target) {
+        if (width <= 0 || height <= 0) throw new XRE("Invalid size %sx%s", width, height);
+        if (source.getWidth() == 0 || source.getHeight() == 0)
+            throw new XRE("Source image is empty: %s", source);
+        var encoding = source.getEncoding();
+        var format = PixelFormat.of(encoding);
+        var sample = interpolation == Interpolation.AREA ? Sample.of(encoding) : null;
+        var pixelSize = format.pixelSize();
+        var dstStep = width * pixelSize;
+        var len = dstStep * height;
+        var data = target.data.length == len ? target.data : new byte[len];
+        var image = source.getImage();
+        target.withHeight(height)
+                .withWidth(width)
+                .withEncoding(encoding)
+                .withIsBigendian(image.is_bigendian)
+                .withStep(dstStep)
+                .withData(data);
+        var order = image.is_bigendian != 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        var src = ByteBuffer.wrap(image.data).order(order);
+        var dst = ByteBuffer.wrap(data).order(order);
+        // source columns are computed once for all rows
+        var columns =
+                sample == null
+                        ? centers(source.getWidth(), width)
+                        : bounds(source.getWidth(), width);
+        var rows =
+                sample == null
+                        ? centers(source.getHeight(), height)
+                        : bounds(source.getHeight(), height);
+        var srcStep = source.getStep();
+        var srcOffset = source.getOffset();
+        ParallelChunks.process(
+                pool,
+                height,
+                Math.max(1, CHUNK_PIXELS / width),
+                (from, to) -> {
+                    for (int y = from; y < to; y++) {
+                        var dstPos = y * dstStep;
+                        if (sample == null) {
+                            var srcPos = srcOffset + rows[y] * srcStep;
+                            for (int x = 0; x < width; x++, dstPos += pixelSize)
+                                System.arraycopy(
+                                        image.data,
+                                        srcPos + columns[x] * pixelSize,
+                                        data,
+                                        dstPos,
+                                        pixelSize);
+                        } else {
+                            area(
+                                    src,
+                                    srcOffset,
+                                    srcStep,
+                                    format.channels(),
+                                    sample,
+                                    rows[y],
+                                    rows[y + 1],
+                                    columns,
+                                    dst,
+                                    dstPos);
+                        }
+                    }
+                    return null;
+                });
+        return target;
+    }
+
+    /** Source pixel nearest to the center of each target pixel */
+    private static int[] centers(int srcSize, int size) {
+        var centers = new int[size];
+        for (int i = 0; i < size; i++) centers[i] = (int) ((2L * i + 1) * srcSize / (2L * size));
+        return centers;
+    }
+
+    /**
+     * Source pixels covered by the target pixel i are in range [bounds[i], bounds[i + 1]). When
+     * upscaling the range is extended to contain at least one pixel.
+     */
+    private static int[] bounds(int srcSize, int size) {
+        var bounds = new int[size + 1];
+        for (int i = 0; i <= size; i++) bounds[i] = (int) ((long) i * srcSize / size);
+        return bounds;
+    }
+
+    /** Resize one row */
+    private static void area(
+            ByteBuffer src,
+            int srcOffset,
+            int srcStep,
+            int channels,
+            Sample sample,
+            int row0,
+            int row1,
+            int[] columns,
+            ByteBuffer dst,
+            int dstPos) {
+        var sampleSize = sample.size;
+        var pixelSize = channels * sampleSize;
+        row1 = Math.max(row0 + 1, row1);
+        var sums = new double[channels];
+        for (int x = 0; x < columns.length - 1; x++) {
+            var col0 = columns[x];
+            var col1 = Math.max(col0 + 1, columns[x + 1]);
+            Arrays.fill(sums, 0);
+            for (int row = row0; row < row1; row++) {
+                var pos = srcOffset + row * srcStep + col0 * pixelSize;
+                for (int col = col0; col < col1; col++) {
+                    for (int c = 0; c < channels; c++, pos += sampleSize)
+                        sums[c] += sample.get(src, pos);
+                }
+            }
+            var count = (row1 - row0) * (col1 - col0);
+            for (int c = 0; c < channels; c++, dstPos += sampleSize)
+                sample.put(dst, dstPos, sums[c] / count);
+        }
+    }
+}
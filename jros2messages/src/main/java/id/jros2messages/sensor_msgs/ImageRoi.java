@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jros2messages.vision_msgs.BoundingBox2DMessage;
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+
+/**
+ * Rectangular region of interest (ROI) of the {@link ImageMessage}.
+ *
+ * <p>ROI does not copy any pixels: it references data of the original image and rows of the ROI are
+ * {@link #getStep()} bytes apart same as rows of the original image. Creating ROI, including ROI of
+ * another ROI, takes constant time.
+ *
+ * <p>ROI is valid only as long as the data of the original image is not modified.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class ImageRoi {
+
+    private final ImageMessage image;
+    private final ImageEncoding encoding;
+    private final int pixelSize;
+    private final int x, y, width, height;
+
+    /** ROI which covers the whole image */
+    public ImageRoi(ImageMessage image) {
+        this(image, 0, 0, image.width, image.height);
+    }
+
+    /**
+     * @param x column of the top left pixel of the ROI
+     * @param y row of the top left pixel of the ROI
+     */
+    public ImageRoi(ImageMessage image, int x, int y, int width, int height) {
+        this.image = image;
+        encoding = PixelFormat.encodingOf(image);
+        pixelSize = PixelFormat.of(encoding).pixelSize();
+        if (image.step < image.width * pixelSize)
+            throw new XRE("Image step %s is too small", image.step);
+        if (image.data.length < (long) image.step * image.height)
+            throw new XRE("Image data is too small: %s", image.data.length);
+        if (x < 0 || y < 0 || width < 0 || height < 0)
+            throw new XRE("Negative ROI %sx%s at (%s, %s)", width, height, x, y);
+        if (x + width > image.width || y + height > image.height)
+            throw new XRE(
+                    "ROI %sx%s at (%s, %s) is outside of the image %sx%s",
+                    width, height, x, y, image.width, image.height);
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * ROI of the bounding box (for example {@code Detection2DMessage.bbox}) clipped to the image
+     * bounds. Rotation of the bounding box is ignored.
+     */
+    public ImageRoi(ImageMessage image, BoundingBox2DMessage bbox) {
+        this(image, clip(image, bbox));
+    }
+
+    private ImageRoi(ImageMessage image, int[] rect) {
+        this(image, rect[0], rect[1], rect[2] - rect[0], rect[3] - rect[1]);
+    }
+
+    private static int[] clip(ImageMessage image, BoundingBox2DMessage bbox) {
+        var cx = bbox.center.position.x;
+        var cy = bbox.center.position.y;
+        var x0 = clip(Math.floor(cx - bbox.size_x / 2), image.width);
+        var y0 = clip(Math.floor(cy - bbox.size_y / 2), image.height);
+        var x1 = Math.max(x0, clip(Math.ceil(cx + bbox.size_x / 2), image.width));
+        var y1 = Math.max(y0, clip(Math.ceil(cy + bbox.size_y / 2), image.height));
+        return new int[] {x0, y0, x1, y1};
+    }
+
+    private static int clip(double v, int max) {
+        return (int) Math.max(0, Math.min(v, max));
+    }
+
+    /**
+     * ROI inside of this ROI
+     *
+     * @param x column of the top left pixel relative to this ROI
+     * @param y row of the top left pixel relative to this ROI
+     */
+    public ImageRoi crop(int x, int y, int width, int height) {
+        if (x < 0 || y < 0 || width < 0 || height < 0)
+            throw new XRE("Negative ROI %sx%s at (%s, %s)", width, height, x, y);
+        if (x + width > this.width || y + height > this.height)
+            throw new XRE(
+                    "ROI %sx%s at (%s, %s) is outside of the ROI %sx%s",
+                    width, height, x, y, this.width, this.height);
+        return new ImageRoi(image, this.x + x, this.y + y, width, height);
+    }
+
+    /** Original image */
+    public ImageMessage getImage() {
+        return image;
+    }
+
+    public ImageEncoding getEncoding() {
+        return encoding;
+    }
+
+    /** Column of the top left pixel of the ROI in the original image */
+    public int getX() {
+        return x;
+    }
+
+    /** Row of the top left pixel of the ROI in the original image */
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /** Distance in bytes between the rows of the ROI (same as step of the original image) */
+    public int getStep() {
+        return image.step;
+    }
+
+    /** Position of the top left pixel of the ROI inside of the original image data */
+    public int getOffset() {
+        return y * image.step + x * pixelSize;
+    }
+
+    /**
+     * @return buffer which shares data with the original image and starts at the top left pixel of
+     *     the ROI. Rows of the ROI are {@link #getStep()} bytes apart.
+     */
+    public ByteBuffer getData() {
+        var len = height == 0 ? 0 : (height - 1) * image.step + width * pixelSize;
+        return ByteBuffer.wrap(image.data, getOffset(), len).slice();
+    }
+
+    /**
+     * Copy pixels of the ROI into the image message.
+     *
+     * @param target message where ROI is stored. All its fields except header are overwritten and
+     *     its data array is reused when its length matches the ROI size.
+     * @return target message
+     */
+    public ImageMessage toMessage(ImageMessage target) {
+        var rowLen = width * pixelSize;
+        var len = rowLen * height;
+        var data = target.data.length == len ? target.data : new byte[len];
+        var offset = getOffset();
+        for (int row = 0; row < height; row++)
+            System.arraycopy(image.data, offset + row * image.step, data, row * rowLen, rowLen);
+        return target.withHeight(height)
+                .withWidth(width)
+                .withEncoding(encoding)
+                .withIsBigendian(image.is_bigendian)
+                .withStep(rowLen)
+                .withData(data);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ImageRoi [%sx%s at (%s, %s), %s]", width, height, x, y, encoding.getName().data);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jros2messages.impl.CdrCursor;
+import id.jros2messages.std_msgs.HeaderMessage;
+import java.nio.ByteBuffer;
+
+/**
+ * Lazy view over serialized {@link ImageMessage}.
+ *
+ * <p>Each field is decoded only when it is accessed and {@link #getData()} is returned as a slice
+ * of the original buffer, without copying.
+ *
+ * <p>View is valid only as long as the underlying buffer is not modified.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class ImageView {
+
+    private CdrCursor cursor;
+    private int heightOffset;
+    private int widthOffset;
+    private int encodingOffset;
+    private int isBigendianOffset;
+    private int stepOffset;
+    private int dataOffset;
+    private HeaderMessage header;
+    private String encoding;
+
+    /**
+     * @param data serialized {@link ImageMessage} starting from the current buffer position
+     */
+    public ImageView(ByteBuffer data) {
+        cursor = new CdrCursor(data);
+        cursor.skipHeader();
+        heightOffset = cursor.skipInt();
+        widthOffset = cursor.skipInt();
+        encodingOffset = cursor.skipString();
+        isBigendianOffset = cursor.skipByte();
+        stepOffset = cursor.skipInt();
+        dataOffset = cursor.skipBytes();
+    }
+
+    public HeaderMessage getHeader() {
+        if (header == null) header = cursor.getHeader(0);
+        return header;
+    }
+
+    public int getHeight() {
+        return cursor.getInt(heightOffset);
+    }
+
+    public int getWidth() {
+        return cursor.getInt(widthOffset);
+    }
+
+    public String getEncoding() {
+        if (encoding == null) encoding = cursor.getString(encodingOffset);
+        return encoding;
+    }
+
+    public byte getIsBigendian() {
+        return cursor.getByte(isBigendianOffset);
+    }
+
+    /** Full row length in bytes */
+    public int getStep() {
+        return cursor.getInt(stepOffset);
+    }
+
+    /**
+     * @return read-only slice of the original buffer with the image data
+     */
+    public ByteBuffer getData() {
+        return cursor.getBytes(dataOffset);
+    }
+
+    /** Decode the whole message */
+    public ImageMessage toMessage() {
+        return cursor.decode(ImageMessage.class);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Packed data of {@link PointCloud2Message} with resolved x, y, z fields which is used by point
+ * cloud filters.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class PackedPoints {
+
+    /** Chunks smaller than that are never split further between the threads */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    final PointCloud2Message cloud;
+    final ByteBuffer data;
+    final int pointStep;
+    final int count;
+    private final int width;
+    private final int rowStep;
+    private final int[] xyzOffsets = new int[3];
+    private final boolean[] xyzDoubles = new boolean[3];
+
+    PackedPoints(PointCloud2Message cloud) {
+        this.cloud = cloud;
+        data =
+                ByteBuffer.wrap(cloud.data)
+                        .order(cloud.is_bigendian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        pointStep = cloud.point_step;
+        width = cloud.width;
+        rowStep = cloud.row_step;
+        count = cloud.width * cloud.height;
+        var names = List.of("x", "y", "z");
+        var found = 0;
+        for (var field : cloud.fields) {
+            var i = names.indexOf(field.name);
+            if (i < 0) continue;
+            var type = PointFieldTypes.of(field.datatype);
+            if (type != DataType.FLOAT32 && type != DataType.FLOAT64)
+                throw new XRE("Field %s has unsupported data type %s", field.name, type);
+            xyzOffsets[i] = field.offset;
+            xyzDoubles[i] = type == DataType.FLOAT64;
+            found++;
+        }
+        if (found != names.size()) throw new XRE("Point cloud does not have x, y, z fields");
+    }
+
+    /** Position of the point in the data */
+    int position(int point) {
+        return (point / width) * rowStep + (point % width) * pointStep;
+    }
+
+    /**
+     * @param axis 0 - x, 1 - y, 2 - z
+     */
+    double get(int pos, int axis) {
+        pos += xyzOffsets[axis];
+        return xyzDoubles[axis] ? data.getDouble(pos) : data.getFloat(pos);
+    }
+
+    /** Write coordinate into the buffer with the same layout and byte order as this data */
+    void put(ByteBuffer out, int pos, int axis, double value) {
+        pos += xyzOffsets[axis];
+        if (xyzDoubles[axis]) out.putDouble(pos, value);
+        else out.putFloat(pos, (float) value);
+    }
+
+    ByteBuffer wrap(byte[] array) {
+        return ByteBuffer.wrap(array).order(data.order());
+    }
+
+    /** Unorganized point cloud with same fields as the original one */
+    PointCloud2Message newCloud(byte[] points, int count) {
+        return new PointCloud2Message()
+                .withHeader(cloud.header)
+                .withHeight(1)
+                .withWidth(count)
+                .withFields(cloud.fields)
+                .withIsBigendian(cloud.is_bigendian)
+                .withPointStep(pointStep)
+                .withRowStep(count * pointStep)
+                .withData(points)
+                .withIsDense(cloud.is_dense);
+    }
+
+    /**
+     * Split all points into the chunks and process them in parallel using fork-join pool.
+     *
+     * @return processing results of all chunks in the order of the points
+     */
+    <T> List<T> processChunks(ForkJoinPool pool, ParallelChunks.ChunkProcessor<T> processor) {
+        return ParallelChunks.process(pool, count, CHUNK_SIZE, processor);
+    }
+}
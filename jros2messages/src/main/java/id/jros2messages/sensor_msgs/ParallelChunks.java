@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Splits range of items (points, image rows, ...) into the chunks and processes them in parallel
+ * using fork-join pool.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+class ParallelChunks {
+
+    interface ChunkProcessor<T> {
+        /** Process items from the range [from, to) */
+        T process(int from, int to);
+    }
+
+    /**
+     * @param chunkSize chunks smaller than that are never split further between the threads
+     * @return processing results of all chunks in the order of the items
+     */
+    static <T> List<T> process(
+            ForkJoinPool pool, int count, int chunkSize, ChunkProcessor<T> processor) {
+        var task = new ChunkTask<>(processor, 0, count, chunkSize);
+        if (count <= chunkSize) return task.compute();
+        return pool.invoke(task);
+    }
+
+    private static class ChunkTask<T> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+        private ChunkProcessor<T> processor;
+        private int from, to, chunkSize;
+
+        ChunkTask(ChunkProcessor<T> processor, int from, int to, int chunkSize) {
+            this.processor = processor;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= chunkSize) {
+                var result = new ArrayList<T>(1);
+                result.add(processor.process(from, to));
+                return result;
+            }
+            var mid = (from + to) >>> 1;
+            var left = new ChunkTask<>(processor, from, mid, chunkSize);
+            left.fork();
+            var result = new ChunkTask<>(processor, mid, to, chunkSize).compute();
+            result.addAll(0, left.join());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.xfunction.lang.XRE;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Memory layout of the pixels of the {@link ImageEncoding}.
+ *
+ * @param channels number of channels in the pixel
+ * @param sampleSize size of each channel in bytes
+ * @author lambdaprime intid@protonmail.com
+ */
+record PixelFormat(int channels, int sampleSize) {
+
+    private static final Map<String, ImageEncoding> ENCODINGS =
+            Arrays.stream(ImageEncoding.values())
+                    .collect(Collectors.toMap(e -> e.getName().data, Function.identity()));
+
+    int pixelSize() {
+        return channels * sampleSize;
+    }
+
+    static ImageEncoding encodingOf(ImageMessage image) {
+        var encoding = ENCODINGS.get(image.encoding.data);
+        if (encoding == null) throw new XRE("Unknown image encoding %s", image.encoding.data);
+        return encoding;
+    }
+
+    static PixelFormat of(ImageEncoding encoding) {
+        return switch (encoding) {
+            case RGB8, BGR8 -> new PixelFormat(3, 1);
+            case RGBA8, BGRA8 -> new PixelFormat(4, 1);
+            case RGB16, BGR16 -> new PixelFormat(3, 2);
+            case RGBA16, BGRA16 -> new PixelFormat(4, 2);
+            case MONO8 -> new PixelFormat(1, 1);
+            case MONO16 -> new PixelFormat(1, 2);
+            case BAYER_RGGB8, BAYER_BGGR8, BAYER_GBRG8, BAYER_GRBG8 -> new PixelFormat(1, 1);
+            case BAYER_RGGB16, BAYER_BGGR16, BAYER_GBRG16, BAYER_GRBG16 -> new PixelFormat(1, 2);
+            default -> {
+                // OpenCV types: 8UC1, 16SC3, 32FC1, ...
+                var name = encoding.getName().data;
+                var bits = Integer.parseInt(name.substring(0, name.length() - 3));
+                var channels = Character.digit(name.charAt(name.length() - 1), 10);
+                yield new PixelFormat(channels, bits / 8);
+            }
+        };
+    }
+}
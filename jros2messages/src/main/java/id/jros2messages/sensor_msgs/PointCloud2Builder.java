@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.xfunction.Preconditions;
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Builds {@link PointCloud2Message} writing point values directly into its data array.
+ *
+ * <p>Point layout is declared once with {@link #withField(String, DataType, int)}: fields are
+ * packed one after another in the order of declaration and {@code point_step}, {@code row_step} are
+ * calculated from them. Point values are written with no intermediate arrays:
+ *
+ * <pre>{@code
+ * var builder =
+ *         new PointCloud2Builder()
+ *                 .withField("x", DataType.FLOAT32, 1)
+ *                 .withField("y", DataType.FLOAT32, 1)
+ *                 .withField("z", DataType.FLOAT32, 1);
+ * while (...) {
+ *     builder.resize(640, 480);
+ *     for (int i = 0; i < builder.getPointCount(); i++) {
+ *         builder.setFloat(i, 0, x).setFloat(i, 1, y).setFloat(i, 2, z);
+ *     }
+ *     publisher.submit(builder.build(header));
+ * }
+ * }</pre>
+ *
+ * <p>Builder owns single message instance and its data array and reuses them: {@link
+ * #build(HeaderMessage)} always returns same message and data array is reallocated only when the
+ * number of points changes. Message should not be modified by the builder until it is serialized.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class PointCloud2Builder {
+
+    private PointFieldMessage[] fields = new PointFieldMessage[0];
+    private int[] fieldOffsets = new int[0];
+    private DataType[] types = new DataType[0];
+    private int pointStep;
+    private int width;
+    private int height;
+    private boolean isBigendian;
+    private boolean isDense = true;
+    private byte[] data = new byte[0];
+    private ByteBuffer buf = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    private PointCloud2Message message = new PointCloud2Message();
+
+    /**
+     * Declare next point field. Fields should be declared before any points are written.
+     *
+     * @param count number of elements in the field
+     */
+    public PointCloud2Builder withField(String name, DataType type, int count) {
+        Preconditions.isTrue(data.length == 0, "Fields should be declared before points");
+        var n = fields.length;
+        fields = Arrays.copyOf(fields, n + 1);
+        fields[n] = new PointFieldMessage().withName(name).withOffset(pointStep).withCount(count);
+        fields[n].datatype = PointFieldTypes.toByte(type);
+        fieldOffsets = Arrays.copyOf(fieldOffsets, n + 1);
+        fieldOffsets[n] = pointStep;
+        types = Arrays.copyOf(types, n + 1);
+        types[n] = type;
+        pointStep += PointFieldTypes.size(type) * count;
+        return this;
+    }
+
+    public PointCloud2Builder withIsBigendian(boolean isBigendian) {
+        this.isBigendian = isBigendian;
+        buf.order(isBigendian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        return this;
+    }
+
+    public PointCloud2Builder withIsDense(boolean isDense) {
+        this.isDense = isDense;
+        return this;
+    }
+
+    /**
+     * Set dimensions of the point cloud. Data array is reallocated only when the number of points
+     * changes, otherwise previous point values are kept and can be overwritten.
+     */
+    public PointCloud2Builder resize(int width, int height) {
+        if (fields.length == 0) throw new XRE("No point fields declared");
+        this.width = width;
+        this.height = height;
+        var len = Math.multiplyExact(Math.multiplyExact(width, height), pointStep);
+        if (data.length != len) {
+            data = new byte[len];
+            buf = ByteBuffer.wrap(data).order(buf.order());
+        }
+        return this;
+    }
+
+    public int getPointStep() {
+        return pointStep;
+    }
+
+    public int getRowStep() {
+        return width * pointStep;
+    }
+
+    public int getPointCount() {
+        return width * height;
+    }
+
+    /**
+     * Direct access to the point data in the byte order set by {@link #withIsBigendian(boolean)}.
+     * Allows to fill the data with bulk operations.
+     */
+    public ByteBuffer getBuffer() {
+        return buf.duplicate().order(buf.order());
+    }
+
+    /**
+     * Set value of the field for the given point converting it to the field data type.
+     *
+     * @param point point index in row-major order
+     * @param field field index in the order of declaration
+     */
+    public PointCloud2Builder setFloat(int point, int field, float value) {
+        return setFloat(point, field, 0, value);
+    }
+
+    /** Set value of the element of the field (when field count is greater than 1) */
+    public PointCloud2Builder setFloat(int point, int field, int element, float value) {
+        var pos = position(point, field, element);
+        switch (types[field]) {
+            case FLOAT32 -> buf.putFloat(pos, value);
+            case FLOAT64 -> buf.putDouble(pos, value);
+            default -> putLong(pos, types[field], (long) value);
+        }
+        return this;
+    }
+
+    /** Set value of the field for the given point converting it to the field data type */
+    public PointCloud2Builder setDouble(int point, int field, double value) {
+        return setDouble(point, field, 0, value);
+    }
+
+    /** Set value of the element of the field (when field count is greater than 1) */
+    public PointCloud2Builder setDouble(int point, int field, int element, double value) {
+        var pos = position(point, field, element);
+        switch (types[field]) {
+            case FLOAT32 -> buf.putFloat(pos, (float) value);
+            case FLOAT64 -> buf.putDouble(pos, value);
+            default -> putLong(pos, types[field], (long) value);
+        }
+        return this;
+    }
+
+    /** Set value of the field for the given point converting it to the field data type */
+    public PointCloud2Builder setLong(int point, int field, long value) {
+        return setLong(point, field, 0, value);
+    }
+
+    /** Set value of the element of the field (when field count is greater than 1) */
+    public PointCloud2Builder setLong(int point, int field, int element, long value) {
+        var pos = position(point, field, element);
+        switch (types[field]) {
+            case FLOAT32 -> buf.putFloat(pos, value);
+            case FLOAT64 -> buf.putDouble(pos, value);
+            default -> putLong(pos, types[field], value);
+        }
+        return this;
+    }
+
+    /**
+     * @return message which shares data array with the builder
+     */
+    public PointCloud2Message build(HeaderMessage header) {
+        return message.withHeader(header)
+                .withHeight(height)
+                .withWidth(width)
+                .withFields(fields)
+                .withIsBigendian(isBigendian)
+                .withPointStep(pointStep)
+                .withRowStep(getRowStep())
+                .withData(data)
+                .withIsDense(isDense);
+    }
+
+    private int position(int point, int field, int element) {
+        return point * pointStep
+                + fieldOffsets[field]
+                + element * PointFieldTypes.size(types[field]);
+    }
+
+    private void putLong(int pos, DataType type, long value) {
+        switch (type) {
+            case INT8, UINT8 -> buf.put(pos, (byte) value);
+            case INT16, UINT16 -> buf.putShort(pos, (short) value);
+            case INT32, UINT32 -> buf.putInt(pos, (int) value);
+            default -> throw new XRE("Unsupported data type %s", type);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Keeps only points of {@link PointCloud2Message} which are inside of the axis-aligned box (bounds
+ * inclusive).
+ *
+ * <p>Filter operates directly on the packed point data: points are copied as is, without decoding
+ * any fields except x, y, z (which can be {@code FLOAT32} or {@code FLOAT64}). Points with NaN
+ * coordinates are dropped. Resulting point cloud is unorganized (height = 1) and has same fields as
+ * the original one.
+ *
+ * <p>Large point clouds are split into the chunks which are filtered in parallel using {@link
+ * ForkJoinPool}.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class PointCloud2CropBoxFilter {
+
+    private record Chunk(byte[] points, int count) {}
+
+    private double[] min;
+    private double[] max;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    public PointCloud2CropBoxFilter(
+            double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        min = new double[] {minX, minY, minZ};
+        max = new double[] {maxX, maxY, maxZ};
+    }
+
+    /**
+     * Pool to filter large point clouds in parallel. Default is {@link ForkJoinPool#commonPool()}
+     */
+    public PointCloud2CropBoxFilter withPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public PointCloud2Message filter(PointCloud2Message cloud) {
+        var points = new PackedPoints(cloud);
+        var chunks = points.processChunks(pool, (from, to) -> filter(points, from, to));
+        var count = chunks.stream().mapToInt(Chunk::count).sum();
+        var out = new byte[count * points.pointStep];
+        var pos = 0;
+        for (var chunk : chunks) {
+            var len = chunk.count() * points.pointStep;
+            System.arraycopy(chunk.points(), 0, out, pos, len);
+            pos += len;
+        }
+        return points.newCloud(out, count);
+    }
+
+    private Chunk filter(PackedPoints points, int from, int to) {
+        var step = points.pointStep;
+        var out = new byte[Math.min(to - from, 1024) * step];
+        var count = 0;
+        for (int i = from; i < to; i++) {
+            var pos = points.position(i);
+            if (!isInside(points, pos)) continue;
+            if ((count + 1) * step > out.length) out = Arrays.copyOf(out, out.length * 2);
+            System.arraycopy(points.cloud.data, pos, out, count * step, step);
+            count++;
+        }
+        return new Chunk(out, count);
+    }
+
+    private boolean isInside(PackedPoints points, int pos) {
+        for (int axis = 0; axis < 3; axis++) {
+            var v = points.get(pos, axis);
+            // false for NaN
+            if (!(v >= min[axis] && v <= max[axis])) return false;
+        }
+        return true;
+    }
+}
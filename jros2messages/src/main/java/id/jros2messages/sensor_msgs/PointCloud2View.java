@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jros2messages.impl.CdrCursor;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.xfunction.Preconditions;
+import id.xfunction.lang.XRE;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Lazy view over serialized {@link PointCloud2Message}.
+ *
+ * <p>Creating a view only locates the fields inside the serialized message. Each field is decoded
+ * when it is accessed and {@link #getData()} is returned as a slice of the original buffer, without
+ * copying. This allows to inspect header or dimensions of large point clouds and drop them before
+ * paying the cost of full deserialization.
+ *
+ * <p>Point fields ({@link id.jrosmessages.sensor_msgs.PointFieldMessage}) are resolved once, when
+ * view is created, so that point values can be accessed without any allocations:
+ *
+ * <pre>{@code
+ * var view = new PointCloud2View(buf);
+ * var x = view.getFieldIndex("x");
+ * for (int i = 0; i < view.getPointCount(); i++) {
+ *     float value = view.getFloat(i, x);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>Points are numbered in row-major order and {@link #getRowStep()} is respected, so point clouds
+ * with padded rows are supported too.
+ *
+ * <p>View is valid only as long as the underlying buffer is not modified.
+ *
+ * <p>Not thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class PointCloud2View {
+
+    private CdrCursor cursor;
+    private int heightOffset;
+    private int widthOffset;
+    private int isBigendianOffset;
+    private int pointStepOffset;
+    private int rowStepOffset;
+    private int dataOffset;
+    private int isDenseOffset;
+    private HeaderMessage header;
+    private String[] fieldNames;
+    private int[] fieldOffsets;
+    private DataType[] fieldTypes;
+    private int[] fieldCounts;
+    private int width;
+    private int pointStep;
+    private int rowStep;
+    private ByteBuffer points;
+
+    /**
+     * @param data serialized {@link PointCloud2Message} starting from the current buffer position
+     */
+    public PointCloud2View(ByteBuffer data) {
+        cursor = new CdrCursor(data);
+        cursor.skipHeader();
+        heightOffset = cursor.skipInt();
+        widthOffset = cursor.skipInt();
+        var fieldsCount = cursor.getInt(cursor.skipInt());
+        fieldNames = new String[fieldsCount];
+        fieldOffsets = new int[fieldsCount];
+        fieldTypes = new DataType[fieldsCount];
+        fieldCounts = new int[fieldsCount];
+        for (int i = 0; i < fieldsCount; i++) {
+            fieldNames[i] = cursor.getString(cursor.skipString());
+            fieldOffsets[i] = cursor.getInt(cursor.skipInt());
+            fieldTypes[i] = PointFieldTypes.of(cursor.getByte(cursor.skipByte()));
+            fieldCounts[i] = cursor.getInt(cursor.skipInt());
+        }
+        isBigendianOffset = cursor.skipByte();
+        pointStepOffset = cursor.skipInt();
+        rowStepOffset = cursor.skipInt();
+        dataOffset = cursor.skipBytes();
+        isDenseOffset = cursor.skipByte();
+        width = getWidth();
+        pointStep = getPointStep();
+        rowStep = getRowStep();
+        points = getData();
+    }
+
+    public HeaderMessage getHeader() {
+        if (header == null) header = cursor.getHeader(0);
+        return header;
+    }
+
+    public int getHeight() {
+        return cursor.getInt(heightOffset);
+    }
+
+    public int getWidth() {
+        return cursor.getInt(widthOffset);
+    }
+
+    public boolean isBigendian() {
+        return cursor.getBool(isBigendianOffset);
+    }
+
+    public int getPointStep() {
+        return cursor.getInt(pointStepOffset);
+    }
+
+    public int getRowStep() {
+        return cursor.getInt(rowStepOffset);
+    }
+
+    /**
+     * @return read-only slice of the original buffer with the point cloud data. Byte order of the
+     *     slice is set according to {@link #isBigendian()}.
+     */
+    public ByteBuffer getData() {
+        return cursor.getBytes(dataOffset)
+                .order(isBigendian() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /** Number of points in the point cloud (width * height) */
+    public int getPointCount() {
+        return width * getHeight();
+    }
+
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    /**
+     * @return index of the field with the given name which can be used in all point accessors or -1
+     *     if there is no such field
+     */
+    public int getFieldIndex(String name) {
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    public String getFieldName(int field) {
+        return fieldNames[field];
+    }
+
+    public DataType getFieldDataType(int field) {
+        return fieldTypes[field];
+    }
+
+    /** Offset of the field from the beginning of the point */
+    public int getFieldOffset(int field) {
+        return fieldOffsets[field];
+    }
+
+    /** Number of elements in the field */
+    public int getFieldElementCount(int field) {
+        return fieldCounts[field];
+    }
+
+    /**
+     * Value of the field for the given point converted to float.
+     *
+     * @param point point index in row-major order
+     * @param field field index (see {@link #getFieldIndex(String)})
+     */
+    public float getFloat(int point, int field) {
+        return getFloat(point, field, 0);
+    }
+
+    /**
+     * Value of the element of the field (when field count is greater than 1) for the given point
+     * converted to float.
+     */
+    public float getFloat(int point, int field, int element) {
+        var pos = position(point, field, element);
+        return switch (fieldTypes[field]) {
+            case FLOAT32 -> points.getFloat(pos);
+            case FLOAT64 -> (float) points.getDouble(pos);
+            default -> getLong(pos, fieldTypes[field]);
+        };
+    }
+
+    /** Value of the field for the given point converted to double. */
+    public double getDouble(int point, int field) {
+        return getDouble(point, field, 0);
+    }
+
+    /**
+     * Value of the element of the field (when field count is greater than 1) for the given point
+     * converted to double.
+     */
+    public double getDouble(int point, int field, int element) {
+        var pos = position(point, field, element);
+        return switch (fieldTypes[field]) {
+            case FLOAT32 -> points.getFloat(pos);
+            case FLOAT64 -> points.getDouble(pos);
+            default -> getLong(pos, fieldTypes[field]);
+        };
+    }
+
+    /**
+     * Value of the integer field for the given point. Unsigned types are returned without sign
+     * extension.
+     */
+    public long getLong(int point, int field) {
+        return getLong(point, field, 0);
+    }
+
+    /** Value of the element of the integer field (when field count is greater than 1) */
+    public long getLong(int point, int field, int element) {
+        var type = fieldTypes[field];
+        if (type == DataType.FLOAT32 || type == DataType.FLOAT64)
+            throw new XRE("Field %s is not of integer type: %s", fieldNames[field], type);
+        return getLong(position(point, field, element), type);
+    }
+
+    /**
+     * Strided view over the {@link DataType#FLOAT32} field: value of the field for point i is
+     * located at index {@code i * getPointStep() / Float.BYTES}.
+     *
+     * <p>Returned buffer shares memory with the underlying buffer (no copying). Only point clouds
+     * without row padding ({@code row_step == width * point_step}) and with point step being
+     * multiple of {@link Float#BYTES} are supported.
+     */
+    public FloatBuffer getFloatBuffer(int field) {
+        checkStrided(field, DataType.FLOAT32, Float.BYTES);
+        return points.duplicate()
+                .position(fieldOffsets[field])
+                .slice()
+                .order(points.order())
+                .asFloatBuffer();
+    }
+
+    /**
+     * Strided view over the {@link DataType#FLOAT64} field: value of the field for point i is
+     * located at index {@code i * getPointStep() / Double.BYTES}.
+     *
+     * <p>Same restrictions apply as for {@link #getFloatBuffer(int)}.
+     */
+    public DoubleBuffer getDoubleBuffer(int field) {
+        checkStrided(field, DataType.FLOAT64, Double.BYTES);
+        return points.duplicate()
+                .position(fieldOffsets[field])
+                .slice()
+                .order(points.order())
+                .asDoubleBuffer();
+    }
+
+    private void checkStrided(int field, DataType type, int size) {
+        Preconditions.equals(type, fieldTypes[field], "Field data type mismatch");
+        Preconditions.equals(0, pointStep % size, "Point step is not multiple of " + size);
+        Preconditions.equals(width * pointStep, rowStep, "Point cloud rows are padded");
+    }
+
+    private int position(int point, int field, int element) {
+        return (point / width) * rowStep
+                + (point % width) * pointStep
+                + fieldOffsets[field]
+                + element * PointFieldTypes.size(fieldTypes[field]);
+    }
+
+    private long getLong(int pos, DataType type) {
+        return switch (type) {
+            case INT8 -> points.get(pos);
+            case UINT8 -> Byte.toUnsignedLong(points.get(pos));
+            case INT16 -> points.getShort(pos);
+            case UINT16 -> Short.toUnsignedLong(points.getShort(pos));
+            case INT32 -> points.getInt(pos);
+            case UINT32 -> Integer.toUnsignedLong(points.getInt(pos));
+            default -> throw new XRE("Unsupported data type %s", type);
+        };
+    }
+
+    public boolean isDense() {
+        return cursor.getBool(isDenseOffset);
+    }
+
+    /** Decode the whole message */
+    public PointCloud2Message toMessage() {
+        return cursor.decode(PointCloud2Message.class);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jros2messages.impl.LongIntHashMap;
+import id.xfunction.lang.XRE;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Downsamples {@link PointCloud2Message} by replacing all points inside of each voxel (cube with
+ * the given leaf size) with a single point.
+ *
+ * <p>Resulting point is located at the centroid of all points of the voxel. All its other fields
+ * (intensity, color, ...) are taken from the first point of the voxel. Points with NaN or infinite
+ * coordinates are dropped. Resulting point cloud is unorganized (height = 1), has same fields as
+ * the original one and its points are ordered by the first occurrence of their voxels in the
+ * original point cloud.
+ *
+ * <p>Filter operates directly on the packed point data and voxels are tracked in primitive hash
+ * maps keyed by voxel index. Large point clouds are split into the chunks which are processed in
+ * parallel using {@link ForkJoinPool}.
+ *
+ * <p>Thread safe.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class PointCloud2VoxelGridFilter {
+
+    /** Number of bits for voxel index along each axis */
+    private static final int INDEX_BITS = 21;
+
+    private static final int INDEX_MIN = -(1 << (INDEX_BITS - 1));
+    private static final int INDEX_MAX = (1 << (INDEX_BITS - 1)) - 1;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    /** Voxels of one chunk of points */
+    private static class Voxels {
+        private LongIntHashMap index;
+        private long[] keys;
+        private double[] sums;
+        private int[] counts;
+        private int[] firstPoints;
+        private int size;
+
+        Voxels(int expectedSize) {
+            index = new LongIntHashMap(expectedSize);
+            keys = new long[expectedSize];
+            sums = new double[expectedSize * 3];
+            counts = new int[expectedSize];
+            firstPoints = new int[expectedSize];
+        }
+
+        void add(long key, int firstPoint, double x, double y, double z, int count) {
+            var voxel = index.putIfAbsent(key, size);
+            if (voxel < 0) {
+                voxel = size++;
+                if (voxel == keys.length) grow();
+                keys[voxel] = key;
+                firstPoints[voxel] = firstPoint;
+            }
+            sums[voxel * 3] += x;
+            sums[voxel * 3 + 1] += y;
+            sums[voxel * 3 + 2] += z;
+            counts[voxel] += count;
+        }
+
+        void addAll(Voxels other) {
+            for (int i = 0; i < other.size; i++) {
+                add(
+                        other.keys[i],
+                        other.firstPoints[i],
+                        other.sums[i * 3],
+                        other.sums[i * 3 + 1],
+                        other.sums[i * 3 + 2],
+                        other.counts[i]);
+            }
+        }
+
+        private void grow() {
+            var len = Math.max(16, keys.length * 2);
+            keys = Arrays.copyOf(keys, len);
+            sums = Arrays.copyOf(sums, len * 3);
+            counts = Arrays.copyOf(counts, len);
+            firstPoints = Arrays.copyOf(firstPoints, len);
+        }
+    }
+
+    private double leafSize;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * @param leafSize size of the voxel edge
+     */
+    public PointCloud2VoxelGridFilter(double leafSize) {
+        if (!(leafSize > 0)) throw new XRE("Leaf size should be positive: %s", leafSize);
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Pool to filter large point clouds in parallel. Default is {@link ForkJoinPool#commonPool()}
+     */
+    public PointCloud2VoxelGridFilter withPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public PointCloud2Message filter(PointCloud2Message cloud) {
+        var points = new PackedPoints(cloud);
+        var chunks = points.processChunks(pool, (from, to) -> collect(points, from, to));
+        Voxels voxels;
+        if (chunks.size() == 1) {
+            voxels = chunks.get(0);
+        } else {
+            // merge in the order of the chunks so that output does not depend on the scheduling
+            voxels = new Voxels(chunks.stream().mapToInt(v -> v.size).sum());
+            for (var chunk : chunks) voxels.addAll(chunk);
+        }
+        var step = points.pointStep;
+        var out = new byte[voxels.size * step];
+        var buf = points.wrap(out);
+        for (int i = 0; i < voxels.size; i++) {
+            var pos = i * step;
+            System.arraycopy(cloud.data, points.position(voxels.firstPoints[i]), out, pos, step);
+            for (int axis = 0; axis < 3; axis++)
+                points.put(buf, pos, axis, voxels.sums[i * 3 + axis] / voxels.counts[i]);
+        }
+        return points.newCloud(out, voxels.size);
+    }
+
+    private Voxels collect(PackedPoints points, int from, int to) {
+        var voxels = new Voxels(to - from);
+        for (int i = from; i < to; i++) {
+            var pos = points.position(i);
+            var x = points.get(pos, 0);
+            var y = points.get(pos, 1);
+            var z = points.get(pos, 2);
+            if (!Double.isFinite(x) || !Double.isFinite(y) || !Double.isFinite(z)) continue;
+            var key = (index(x) << (2 * INDEX_BITS)) | (index(y) << INDEX_BITS) | index(z);
+            voxels.add(key, i, x, y, z, 1);
+        }
+        return voxels;
+    }
+
+    private long index(double v) {
+        var i = Math.floor(v / leafSize);
+        if (i < INDEX_MIN || i > INDEX_MAX)
+            throw new XRE("Leaf size %s is too small for the point cloud", leafSize);
+        return (long) i & INDEX_MASK;
+    }
+}
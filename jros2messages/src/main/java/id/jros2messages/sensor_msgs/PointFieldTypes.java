@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 jrosclient project
+ * 
+ * Website: https://github.com/lambdaprime/jros2messages
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.jros2messages.sensor_msgs;
+
+import id.jrosmessages.sensor_msgs.PointFieldMessage;
+import id.jrosmessages.sensor_msgs.PointFieldMessage.DataType;
+import id.xfunction.lang.XRE;
+
+/**
+ * Mapping between {@link DataType} and the values of {@link PointFieldMessage#datatype} as they are
+ * defined in ROS sensor_msgs/PointField (INT8=1, UINT8=2, INT16=3, UINT16=4, INT32=5, UINT32=6,
+ * FLOAT32=7, FLOAT64=8).
+ *
+ * <p>{@link PointFieldMessage#withDataType(DataType)} stores ordinal of the {@link DataType} which
+ * does not match these values, so all point cloud classes use this mapping instead.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class PointFieldTypes {
+
+    private PointFieldTypes() {}
+
+    /**
+     * @throws XRE if datatype is not one of the sensor_msgs/PointField constants
+     */
+    public static DataType of(byte datatype) {
+        return switch (datatype) {
+            case 1 -> DataType.INT8;
+            case 2 -> DataType.UINT8;
+            case 3 -> DataType.INT16;
+            case 4 -> DataType.UINT16;
+            case 5 -> DataType.INT32;
+            case 6 -> DataType.UINT32;
+            case 7 -> DataType.FLOAT32;
+            case 8 -> DataType.FLOAT64;
+            default -> throw new XRE("Unknown point field data type %d", datatype);
+        };
+    }
+
+    /** sensor_msgs/PointField constant for the given data type */
+    public static byte toByte(DataType type) {
+        return switch (type) {
+            case INT8 -> 1;
+            case UINT8 -> 2;
+            case INT16 -> 3;
+            case UINT16 -> 4;
+            case INT32 -> 5;
+            case UINT32 -> 6;
+            case FLOAT32 -> 7;
+            case FLOAT64 -> 8;
+            default -> throw new XRE("Unsupported data type %s", type);
+        };
+    }
+
+    /** Size of the single element of the point field in bytes */
+    static int size(DataType type) {
+        return switch (type) {
+            case INT8, UINT8 -> 1;
+            case INT16, UINT16 -> 2;
+            case INT32, UINT32, FLOAT32 -> 4;
+            case FLOAT64 -> 8;
+            default -> throw new XRE("Unsupported data type %s", type);
+        };
+    }
+}
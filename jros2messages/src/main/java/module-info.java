@@ -36,6 +36,7 @@ module jros2messages {
     requires id.xfunction;
     requires id.kineticstreamer;
     requires io.opentelemetry.api;
+    requires java.sql;
 
     exports id.jros2messages;
     exports id.jros2messages.std_msgs;
@@ -50,6 +51,7 @@ module jros2messages {
     exports id.jros2messages.vision_msgs;
     exports id.jros2messages.control_msgs;
     exports id.jros2messages.diagnostic_msgs;
+    exports id.jros2messages.bag;
     exports id.jros2messages.impl to
             jros2messages.tests;
 }